@@ -26,6 +26,8 @@
 @REM   MAVEN_BATCH_PAUSE (Optional) set to 'on' to wait for a key stroke before ending.
 @REM   MAVEN_OPTS        (Optional) Java runtime options used when Maven is executed.
 @REM   MAVEN_SKIP_RC     (Optional) Flag to disable loading of mavenrc files.
+@REM   MAVEN_CDS         (Optional) Set to 'true' to always run with a class-data-sharing archive, like when --cds is used.
+@REM   MAVEN_CDS_DIR     (Optional) Directory holding the class-data-sharing archives. Default value is "%USERPROFILE%\.m2\cds"
 @REM -----------------------------------------------------------------------------
 
 @REM Begin all REM lines with '@' in case MAVEN_BATCH_ECHO is 'on'
@@ -200,6 +202,8 @@ if "%~1"=="--debug" (
     set "MAVEN_OPTS=-agentpath:%YJPLIB%=onexit=snapshot,onexit=memory,tracing,onlylocal %MAVEN_OPTS%"
 ) else if "%~1"=="--enc" (
     set "MAVEN_MAIN_CLASS=org.apache.maven.cling.MavenEncCling"
+) else if "%~1"=="--cds" (
+    set "MAVEN_CDS=true"
 )
 exit /b 0
 
@@ -216,9 +220,45 @@ for %%i in ("%MAVEN_HOME%"\boot\plexus-classworlds-*) do set LAUNCHER_JAR="%%i"
 set LAUNCHER_CLASS=org.codehaus.plexus.classworlds.launcher.Launcher
 if "%MAVEN_MAIN_CLASS%"=="" @set MAVEN_MAIN_CLASS=org.apache.maven.cling.MavenCling
 
+@REM Class-data-sharing: the first invocation for a given key trains a dynamic archive which
+@REM later invocations map at startup. The key is computed from the sizes and timestamps of the
+@REM JVM modules, the distribution jars and .mvn\extensions.xml, so that a new archive is trained
+@REM when they change. The archive is trained into a temporary file renamed once complete, and an
+@REM archive the JVM refuses to map is silently ignored (-Xshare:auto).
+set MAVEN_CDS_OPTS=
+set MAVEN_CDS_TRAINING=
+if not "%MAVEN_CDS%"=="true" goto endCds
+if "%MAVEN_CDS_DIR%"=="" set "MAVEN_CDS_DIR=%USERPROFILE%\.m2\cds"
+@setlocal EnableExtensions EnableDelayedExpansion
+@REM the digits of the timestamps are folded by chunks, prefixed by 1 to not be parsed as octal
+set CDS_KEY=17
+for %%f in ("%JAVACMD%\..\..\lib\modules" "%MAVEN_HOME%\boot\*.jar" "%MAVEN_HOME%\lib\*.jar" "%MAVEN_HOME%\lib\ext\*.jar" "%MAVEN_PROJECTBASEDIR%\.mvn\extensions.xml") do (
+    if exist "%%~f" (
+        set /a "CDS_KEY=(CDS_KEY * 31 + %%~zf) %% 1000003"
+        set "CDS_TIME=%%~tf"
+        set "CDS_TIME=!CDS_TIME:AM=0!"
+        set "CDS_TIME=!CDS_TIME:PM=1!"
+        for %%s in (/ - . : " ") do set "CDS_TIME=!CDS_TIME:%%~s=!"
+        set /a "CDS_KEY=(CDS_KEY * 31 + 1!CDS_TIME:~0,6!) %% 1000003"
+        if not "!CDS_TIME:~6!"=="" set /a "CDS_KEY=(CDS_KEY * 31 + 1!CDS_TIME:~6,6!) %% 1000003"
+    )
+)
+for %%m in (%MAVEN_MAIN_CLASS:.= %) do set "CDS_MAIN=%%m"
+@endlocal & set "MAVEN_CDS_ARCHIVE=%MAVEN_CDS_DIR%\maven-%CDS_MAIN%-%CDS_KEY%.jsa"
+if exist "%MAVEN_CDS_ARCHIVE%" goto useCds
+if not exist "%MAVEN_CDS_DIR%" mkdir "%MAVEN_CDS_DIR%" >nul 2>&1
+if not exist "%MAVEN_CDS_DIR%" goto endCds
+set "MAVEN_CDS_TRAINING=%MAVEN_CDS_ARCHIVE%.%RANDOM%%RANDOM%.tmp"
+set "MAVEN_CDS_OPTS=-XX:ArchiveClassesAtExit="%MAVEN_CDS_TRAINING%" -Xlog:cds=off -Xlog:cds+dynamic=off"
+goto endCds
+:useCds
+set "MAVEN_CDS_OPTS=-XX:SharedArchiveFile="%MAVEN_CDS_ARCHIVE%" -Xshare:auto -Xlog:cds=off -Xlog:cds+dynamic=off"
+:endCds
+
 "%JAVACMD%" ^
   %MAVEN_OPTS% ^
   %MAVEN_DEBUG_OPTS% ^
+  %MAVEN_CDS_OPTS% ^
   --enable-native-access=ALL-UNNAMED ^
   -classpath %LAUNCHER_JAR% ^
   "-Dclassworlds.conf=%CLASSWORLDS_CONF%" ^
@@ -229,7 +269,13 @@ if "%MAVEN_MAIN_CLASS%"=="" @set MAVEN_MAIN_CLASS=org.apache.maven.cling.MavenCl
   %LAUNCHER_CLASS% ^
   %MAVEN_ARGS% ^
   %*
-if ERRORLEVEL 1 goto error
+if ERRORLEVEL 1 set ERROR_CODE=1
+if "%MAVEN_CDS_TRAINING%"=="" goto endCdsTraining
+@REM publish the trained archive, removing it if it could not be renamed into place
+if exist "%MAVEN_CDS_TRAINING%" move /y "%MAVEN_CDS_TRAINING%" "%MAVEN_CDS_ARCHIVE%" >nul 2>&1
+if exist "%MAVEN_CDS_TRAINING%" del /f /q "%MAVEN_CDS_TRAINING%" >nul 2>&1
+:endCdsTraining
+if "%ERROR_CODE%"=="1" goto error
 goto end
 
 :error
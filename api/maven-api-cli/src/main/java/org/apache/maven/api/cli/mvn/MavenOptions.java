@@ -216,6 +216,14 @@ public interface MavenOptions extends Options {
     @Nonnull
     Optional<Boolean> ignoreTransitiveRepositories();
 
+    /**
+     * Returns the file to which a trace of the build execution should be written.
+     *
+     * @return an {@link Optional} containing the trace file, or empty if not specified
+     */
+    @Nonnull
+    Optional<String> traceFile();
+
     /**
      * Returns the list of goals and phases to execute.
      *
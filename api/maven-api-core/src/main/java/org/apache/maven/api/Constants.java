@@ -359,6 +359,18 @@ public final class Constants {
     @Config(defaultValue = "false")
     public static final String MAVEN_REPO_LOCAL_RECORD_REVERSE_TREE = "maven.repo.local.recordReverseTree";
 
+    /**
+     * User property enabling hard links when installing artifacts into the local repository. When the artifact file
+     * and the local repository are on the same file store, the installed file is then a hard link to the artifact
+     * file instead of a copy. Both files then share their content, so the artifact file must not be modified in
+     * place after being installed.
+     * Default: <code>false</code>, artifacts are copied.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_INSTALL_HARD_LINKS = "maven.install.hardLinks";
+
     /**
      * User property for selecting dependency manager behaviour regarding transitive dependencies and dependency
      * management entries in their POMs. Maven 3 targeted full backward compatibility with Maven2, hence it ignored
@@ -373,6 +385,37 @@ public final class Constants {
     public static final String MAVEN_RESOLVER_DEPENDENCY_MANAGER_TRANSITIVITY =
             "maven.resolver.dependencyManagerTransitivity";
 
+    /**
+     * User property for caching the dependency graphs collected for the projects in the local repository, so that they
+     * are only collected again when their inputs change. Graphs depending on snapshots or version ranges are collected
+     * again at most once a day, or on every build when updates are forced. It is enabled by default by the resident
+     * invoker.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_RESOLVER_GRAPH_CACHE = "maven.resolver.graphCache";
+
+    /**
+     * User property for sharing the dependency graph collected for a project with the other projects of the session
+     * having the same dependencies, dependency management and repositories, instead of collecting it again for each
+     * of them. A graph is not shared with a project it depends on.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_RESOLVER_GRAPH_SHARING = "maven.resolver.graphSharing";
+
+    /**
+     * User property for reading the POMs of dependencies for their dependency metadata only. When enabled, the build,
+     * reporting and deployment repositories sections of these POMs are not parsed and the plugin related steps of the
+     * model building are skipped, which only affects extensions reading the whole dependency models.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "true")
+    public static final String MAVEN_RESOLVER_DEPENDENCY_METADATA_ONLY = "maven.resolver.dependencyMetadataOnly";
+
     /**
      * Resolver transport to use.
      * Can be <code>default</code>, <code>wagon</code>, <code>apache</code>, <code>jdk</code> or <code>auto</code>.
@@ -406,6 +449,98 @@ public final class Constants {
     @Config(type = "java.lang.Integer", defaultValue = "cores/2 + 1")
     public static final String MAVEN_MODEL_BUILDER_PARALLELISM = "maven.modelBuilder.parallelism";
 
+    /**
+     * User property for recording the location of each element of the project models, i.e. the POM and line it
+     * comes from. Disabling it reduces the memory used by the projects of large reactors, for builds where no plugin
+     * needs these locations: the POMs are then only read again with their locations to report errors, and the
+     * warnings are reported without their line numbers.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "true")
+    public static final String MAVEN_MODEL_BUILDER_LOCATION_TRACKING = "maven.modelBuilder.locationTracking";
+
+    /**
+     * User property for retaining the POMs of the projects parsed by a build, and their effective models, for the
+     * next builds run by the same Maven instance, such as a resident daemon. The retained POMs are only parsed again if
+     * their file has been modified since. The effective models are only built again if the POMs of their parents,
+     * their imported BOMs or the files activating their profiles have been modified, if the lookups of their parents
+     * and imports in the reactor changed, or if the build is run with other properties or profiles. The models using
+     * the build timestamp or activated by wildcard file patterns are not retained. The models are retained as long as
+     * memory allows. The POMs modified within 2 seconds before being parsed are not retained, as file systems with a
+     * coarse time resolution may not tell a later modification apart. It is enabled by default by the resident
+     * invoker.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_MODEL_BUILDER_RETAIN_MODELS = "maven.modelBuilder.retainModels";
+
+    /**
+     * User property selecting what an aggregating mojo locks in a parallel build. With <code>reactor</code>, the
+     * aggregator blocks every other mojo execution of the reactor until it is done, like in Maven 3. With
+     * <code>projects</code>, the aggregator only locks the projects it aggregates (the current project and its
+     * subprojects), so that executions on other projects keep running: this is only safe if the aggregators of the
+     * build do not read the other projects of the reactor.
+     *
+     * @since 4.0.0
+     */
+    @Config(defaultValue = "reactor")
+    public static final String MAVEN_BUILDER_AGGREGATOR_LOCK = "maven.builder.aggregatorLock";
+
+    /**
+     * User property for the file to which a trace of the build execution is written, in the Chrome trace event
+     * format that can be loaded in <code>chrome://tracing</code> or Perfetto. The trace records the build steps,
+     * mojo executions and lock waits of each build thread. A relative path is resolved against the working directory
+     * of the session, like the <code>--trace</code> option. Tracing is disabled when unset.
+     *
+     * @since 4.0.0
+     */
+    @Config
+    public static final String MAVEN_BUILDER_TRACE_FILE = "maven.builder.traceFile";
+
+    /**
+     * User property enabling the adaptive mode of the concurrent builder. The number of build steps executed
+     * concurrently, bounded by the thread count, is then reduced when the CPU is saturated or the heap is nearly
+     * full after garbage collection, and raised again when resources are available.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_ADAPTIVE = "maven.builder.adaptive";
+
+    /**
+     * User property defining the maximum number of projects for which a given phase can be executed concurrently by
+     * the concurrent builder, as a comma-separated list of <code>phase=count</code> entries, for example
+     * <code>test=2,integration-test=1</code>. It is usually set in <code>.mvn/maven.config</code> to prevent
+     * memory-heavy phases from running on too many projects at once.
+     *
+     * @since 4.0.0
+     */
+    @Config
+    public static final String MAVEN_BUILDER_PHASE_CONCURRENCY = "maven.builder.phaseConcurrency";
+
+    /**
+     * User property enabling the asynchronous notification of the event spies. Each spy is then notified on a
+     * thread of its own, in the order of the events, so that slow spies do not delay the build threads. The pending
+     * events are all delivered before the spies are closed at the end of the session. The execution events are
+     * captured with the current project of the build thread, but the spies must otherwise not rely on the state of the
+     * session at the time of the event. The execution listeners are still notified on the build threads.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_EVENT_SPY_ASYNC = "maven.eventSpy.async";
+
+    /**
+     * User property defining the maximum number of events queued for each event spy notified asynchronously. When the
+     * queue of a spy is full, the build threads wait for the spy to catch up.
+     *
+     * @since 4.0.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1024")
+    public static final String MAVEN_EVENT_SPY_QUEUE_SIZE = "maven.eventSpy.queueSize";
+
     /**
      * User property for enabling/disabling the consumer POM feature.
      *
@@ -24,6 +24,8 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.apache.maven.api.annotations.Experimental;
 import org.apache.maven.api.annotations.Nonnull;
@@ -31,6 +33,7 @@
 import org.apache.maven.api.annotations.ThreadSafe;
 import org.apache.maven.api.model.Repository;
 import org.apache.maven.api.services.ArtifactCoordinatesFactory;
+import org.apache.maven.api.services.ArtifactResolverRequest;
 import org.apache.maven.api.services.DependencyCoordinatesFactory;
 import org.apache.maven.api.services.VersionResolverException;
 import org.apache.maven.api.settings.Settings;
@@ -426,6 +429,20 @@ Collection<DownloadedArtifact> resolveArtifacts(
             @Nonnull Collection<? extends ArtifactCoordinates> coordinates,
             @Nullable List<RemoteRepository> repositories);
 
+    /**
+     * Shortcut for {@code getService(ArtifactResolver.class).resolveAsync(...)}.
+     *
+     * @param coordinates coordinates of all artifacts to resolve
+     * @param consumer the consumer called with each artifact as soon as it has been resolved
+     * @return a stage completed with the requested artifacts once all of them have been resolved and consumed
+     *
+     * @see org.apache.maven.api.services.ArtifactResolver#resolveAsync(ArtifactResolverRequest, Consumer)
+     */
+    @Nonnull
+    CompletionStage<Collection<DownloadedArtifact>> resolveArtifactsAsync(
+            @Nonnull Collection<? extends ArtifactCoordinates> coordinates,
+            @Nonnull Consumer<? super DownloadedArtifact> consumer);
+
     /**
      * Shortcut for {@code getService(ArtifactResolver.class).resolve(...)}.
      *
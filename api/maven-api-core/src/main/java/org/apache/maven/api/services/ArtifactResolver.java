@@ -20,8 +20,12 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.apache.maven.api.ArtifactCoordinates;
+import org.apache.maven.api.DownloadedArtifact;
 import org.apache.maven.api.RemoteRepository;
 import org.apache.maven.api.Service;
 import org.apache.maven.api.Session;
@@ -75,4 +79,40 @@ default ArtifactResolverResult resolve(
             List<RemoteRepository> repositories) {
         return resolve(ArtifactResolverRequest.build(session, coordinates, repositories));
     }
+
+    /**
+     * Resolves the artifacts of the given request asynchronously.
+     * <p>
+     * Each artifact is passed to the given consumer as soon as it is available, so that it can be processed while the
+     * remaining artifacts are still being downloaded. The consumer may be called concurrently from several threads.
+     * <p>
+     * The returned stage completes with the result once all the artifacts have been resolved and consumed, or
+     * completes exceptionally with an {@link ArtifactResolverException} as soon as one artifact cannot be resolved,
+     * or with the exception thrown by the consumer. Cancelling the stage, through
+     * {@link CompletableFuture#cancel(boolean)} on its {@link CompletionStage#toCompletableFuture() future}, stops the
+     * resolution of the artifacts not yet resolved.
+     * <p>
+     * The default implementation resolves all the artifacts synchronously before consuming them.
+     *
+     * @param request {@link ArtifactResolverRequest}
+     * @param consumer the consumer of the resolved artifacts
+     * @return a stage completed with the {@link ArtifactResolverResult}
+     * @throws IllegalArgumentException in case of parameter {@code request} or {@code consumer} is {@code null}
+     * @since 4.0.0
+     */
+    default CompletionStage<ArtifactResolverResult> resolveAsync(
+            ArtifactResolverRequest request, Consumer<? super DownloadedArtifact> consumer) {
+        if (request == null || consumer == null) {
+            throw new IllegalArgumentException("request and consumer cannot be null");
+        }
+        CompletableFuture<ArtifactResolverResult> future = new CompletableFuture<>();
+        try {
+            ArtifactResolverResult result = resolve(request);
+            result.getArtifacts().forEach(consumer);
+            future.complete(result);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
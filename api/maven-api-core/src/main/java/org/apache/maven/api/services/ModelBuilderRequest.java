@@ -96,10 +96,27 @@ enum RepositoryMerging {
     @Nonnull
     RequestType getRequestType();
 
+    /**
+     * Returns whether the location of each element of the models, i.e. the POM and line it comes from, is recorded.
+     * Without it, the models use less memory, but the problems are reported without their line numbers.
+     *
+     * @return {@code true} if the locations are recorded, which is the default
+     */
     boolean isLocationTracking();
 
     boolean isRecursive();
 
+    /**
+     * Returns whether only the dependency metadata of the model is needed, i.e. its dependencies, dependency
+     * management, repositories, relocation and licenses. In this mode, the build, reporting and deployment
+     * repositories sections of the POMs are not parsed and the plugin related steps of the model building are
+     * skipped, so the resulting model must not be used to build a project.
+     *
+     * @return {@code true} if only the dependency metadata of the model is needed
+     * @since 4.0.0
+     */
+    boolean isDependencyMetadataOnly();
+
     /**
      * Defines external profiles that may be activated for the given model.
      * Those are external profiles usually defined in {@link org.apache.maven.api.settings.Settings#getProfiles()}.
@@ -178,8 +195,9 @@ static ModelBuilderRequestBuilder builder(ModelBuilderRequest request) {
     class ModelBuilderRequestBuilder {
         Session session;
         RequestType requestType;
-        boolean locationTracking;
+        boolean locationTracking = true;
         boolean recursive;
+        boolean dependencyMetadataOnly;
         ModelSource source;
         Collection<Profile> profiles;
         List<String> activeProfileIds;
@@ -197,6 +215,7 @@ class ModelBuilderRequestBuilder {
             this.requestType = request.getRequestType();
             this.locationTracking = request.isLocationTracking();
             this.recursive = request.isRecursive();
+            this.dependencyMetadataOnly = request.isDependencyMetadataOnly();
             this.source = request.getSource();
             this.profiles = request.getProfiles();
             this.activeProfileIds = request.getActiveProfileIds();
@@ -228,6 +247,11 @@ public ModelBuilderRequestBuilder recursive(boolean recursive) {
             return this;
         }
 
+        public ModelBuilderRequestBuilder dependencyMetadataOnly(boolean dependencyMetadataOnly) {
+            this.dependencyMetadataOnly = dependencyMetadataOnly;
+            return this;
+        }
+
         public ModelBuilderRequestBuilder source(ModelSource source) {
             this.source = source;
             return this;
@@ -279,6 +303,7 @@ public ModelBuilderRequest build() {
                     requestType,
                     locationTracking,
                     recursive,
+                    dependencyMetadataOnly,
                     source,
                     profiles,
                     activeProfileIds,
@@ -294,6 +319,7 @@ private static class DefaultModelBuilderRequest extends BaseRequest<Session> imp
             private final RequestType requestType;
             private final boolean locationTracking;
             private final boolean recursive;
+            private final boolean dependencyMetadataOnly;
             private final ModelSource source;
             private final Collection<Profile> profiles;
             private final List<String> activeProfileIds;
@@ -310,6 +336,7 @@ private static class DefaultModelBuilderRequest extends BaseRequest<Session> imp
                     @Nonnull RequestType requestType,
                     boolean locationTracking,
                     boolean recursive,
+                    boolean dependencyMetadataOnly,
                     @Nonnull ModelSource source,
                     Collection<Profile> profiles,
                     List<String> activeProfileIds,
@@ -323,6 +350,7 @@ private static class DefaultModelBuilderRequest extends BaseRequest<Session> imp
                 this.requestType = nonNull(requestType, "requestType cannot be null");
                 this.locationTracking = locationTracking;
                 this.recursive = recursive;
+                this.dependencyMetadataOnly = dependencyMetadataOnly;
                 this.source = source;
                 this.profiles = profiles != null ? List.copyOf(profiles) : List.of();
                 this.activeProfileIds = activeProfileIds != null ? List.copyOf(activeProfileIds) : List.of();
@@ -350,6 +378,11 @@ public boolean isRecursive() {
                 return recursive;
             }
 
+            @Override
+            public boolean isDependencyMetadataOnly() {
+                return dependencyMetadataOnly;
+            }
+
             @Nonnull
             @Override
             public ModelSource getSource() {
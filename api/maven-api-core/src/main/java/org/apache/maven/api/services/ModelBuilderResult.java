@@ -98,6 +98,15 @@ public interface ModelBuilderResult {
     @Nonnull
     List<ModelProblem> getProblems();
 
+    /**
+     * Gets the problems that were encountered while building this model, excluding the ones of its
+     * {@link #getChildren() children} which are also returned by {@link #getProblems()}.
+     *
+     * @return the problems that were encountered while building this model, can be empty but never {@code null}
+     */
+    @Nonnull
+    List<ModelProblem> getOwnProblems();
+
     /**
      * Gets the children of this result.
      *
@@ -66,6 +66,26 @@ public interface XmlReaderRequest {
 
     boolean isAddDefaultEntities();
 
+    /**
+     * Returns whether only the dependency metadata of a model is needed, in which case the reader may skip the
+     * elements which do not contribute to it, such as the build and reporting sections. Readers of other documents
+     * than models ignore this flag.
+     *
+     * @return {@code true} if only the dependency metadata of a model is needed
+     * @since 4.0.0
+     * @see org.apache.maven.api.services.ModelBuilderRequest#isDependencyMetadataOnly()
+     */
+    boolean isDependencyMetadataOnly();
+
+    /**
+     * Returns whether the location of each element should be recorded in the objects read.
+     *
+     * @return {@code true} if the locations should be recorded, which is the default
+     * @since 4.0.0
+     * @see org.apache.maven.api.services.ModelBuilderRequest#isLocationTracking()
+     */
+    boolean isLocationTracking();
+
     interface Transformer {
         /**
          * Interpolate the value read from the xml document
@@ -95,6 +115,8 @@ class XmlReaderRequestBuilder {
         String modelId;
         String location;
         boolean addDefaultEntities = true;
+        boolean dependencyMetadataOnly;
+        boolean locationTracking = true;
 
         public XmlReaderRequestBuilder path(Path path) {
             this.path = path;
@@ -146,6 +168,16 @@ public XmlReaderRequestBuilder addDefaultEntities(boolean addDefaultEntities) {
             return this;
         }
 
+        public XmlReaderRequestBuilder dependencyMetadataOnly(boolean dependencyMetadataOnly) {
+            this.dependencyMetadataOnly = dependencyMetadataOnly;
+            return this;
+        }
+
+        public XmlReaderRequestBuilder locationTracking(boolean locationTracking) {
+            this.locationTracking = locationTracking;
+            return this;
+        }
+
         public XmlReaderRequest build() {
             return new DefaultXmlReaderRequest(
                     path,
@@ -157,7 +189,9 @@ public XmlReaderRequest build() {
                     strict,
                     modelId,
                     location,
-                    addDefaultEntities);
+                    addDefaultEntities,
+                    dependencyMetadataOnly,
+                    locationTracking);
         }
 
         private static class DefaultXmlReaderRequest implements XmlReaderRequest {
@@ -171,6 +205,8 @@ private static class DefaultXmlReaderRequest implements XmlReaderRequest {
             final String modelId;
             final String location;
             final boolean addDefaultEntities;
+            final boolean dependencyMetadataOnly;
+            final boolean locationTracking;
 
             @SuppressWarnings("checkstyle:ParameterNumber")
             DefaultXmlReaderRequest(
@@ -183,7 +219,9 @@ private static class DefaultXmlReaderRequest implements XmlReaderRequest {
                     boolean strict,
                     String modelId,
                     String location,
-                    boolean addDefaultEntities) {
+                    boolean addDefaultEntities,
+                    boolean dependencyMetadataOnly,
+                    boolean locationTracking) {
                 this.path = path;
                 this.rootDirectory = rootDirectory;
                 this.url = url;
@@ -194,6 +232,8 @@ private static class DefaultXmlReaderRequest implements XmlReaderRequest {
                 this.modelId = modelId;
                 this.location = location;
                 this.addDefaultEntities = addDefaultEntities;
+                this.dependencyMetadataOnly = dependencyMetadataOnly;
+                this.locationTracking = locationTracking;
             }
 
             @Override
@@ -244,6 +284,16 @@ public String getLocation() {
             public boolean isAddDefaultEntities() {
                 return addDefaultEntities;
             }
+
+            @Override
+            public boolean isDependencyMetadataOnly() {
+                return dependencyMetadataOnly;
+            }
+
+            @Override
+            public boolean isLocationTracking() {
+                return locationTracking;
+            }
         }
     }
 }
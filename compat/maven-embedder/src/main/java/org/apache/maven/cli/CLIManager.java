@@ -132,9 +132,12 @@ public class CLIManager {
 
     public static final String IGNORE_TRANSITIVE_REPOSITORIES = "itr";
 
+    public static final String TRACE_FILE = "trace";
+
     public static final String DEBUG = "debug";
     public static final String ENC = "enc";
     public static final String YJP = "yjp";
+    public static final String CDS = "cds";
 
     protected Options options;
     protected final Set<Option> usedDeprecatedOptions = new LinkedHashSet<>();
@@ -338,6 +341,12 @@ public CLIManager() {
                 .longOpt("ignore-transitive-repositories")
                 .desc("If set, Maven will ignore remote repositories introduced by transitive dependencies.")
                 .build());
+        options.addOption(Option.builder()
+                .longOpt(TRACE_FILE)
+                .hasArg()
+                .desc(
+                        "Write a trace of the build execution to the given file, in the Chrome trace event format (chrome://tracing, Perfetto)")
+                .build());
 
         // Parameters handled by script
         options.addOption(Option.builder()
@@ -352,6 +361,10 @@ public CLIManager() {
                 .longOpt(YJP)
                 .desc("Launch the JVM with Yourkit profiler (script option).")
                 .build());
+        options.addOption(Option.builder()
+                .longOpt(CDS)
+                .desc("Launch the JVM with a class-data-sharing archive, trained on first use (script option).")
+                .build());
 
         // Adding this back to make Maven fail if used
         options.addOption(Option.builder("llr")
@@ -1371,6 +1371,12 @@ private MavenExecutionRequest populateRequest(CliRequest cliRequest, MavenExecut
         //
         request.setBuilderId(commandLine.getOptionValue(CLIManager.BUILDER, request.getBuilderId()));
 
+        if (commandLine.hasOption(CLIManager.TRACE_FILE)) {
+            File traceFile = ResolveFile.resolveFile(
+                    new File(commandLine.getOptionValue(CLIManager.TRACE_FILE)), workingDirectory);
+            request.getUserProperties().setProperty(Constants.MAVEN_BUILDER_TRACE_FILE, traceFile.getPath());
+        }
+
         return request;
     }
 
@@ -27,6 +27,8 @@
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -58,6 +60,7 @@
 import org.apache.maven.internal.impl.DefaultVersionRangeResolver;
 import org.apache.maven.internal.impl.InternalSession;
 import org.apache.maven.internal.impl.model.DefaultInterpolator;
+import org.apache.maven.internal.impl.util.BackgroundTasks;
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.internal.DefaultPluginDependenciesResolver;
 import org.apache.maven.resolver.MavenChainedWorkspaceReader;
@@ -155,11 +158,35 @@ private List<CoreExtensionEntry> resolveCoreExtensions(
 
         DependencyFilter dependencyFilter = new ExclusionsDependencyFilter(providedArtifacts);
 
+        // resolution of each extension is independent and I/O bound, so resolve them concurrently;
+        // failures and realms are then processed in declaration order
+        List<CompletableFuture<List<Artifact>>> resolutions = new ArrayList<>();
         for (CoreExtension extension : configuration) {
-            List<Artifact> artifacts =
-                    resolveExtension(extension, repoSession, repositories, dependencyFilter, interpolator);
+            resolutions.add(BackgroundTasks.submit("core-extension", () -> {
+                try {
+                    return resolveExtension(extension, repoSession, repositories, dependencyFilter, interpolator);
+                } catch (ExtensionResolutionException e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        }
+        // the repository session is closed by the caller, so let every resolution settle before leaving
+        CompletableFuture.allOf(resolutions.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .join();
+
+        for (int i = 0; i < configuration.size(); i++) {
+            List<Artifact> artifacts;
+            try {
+                artifacts = BackgroundTasks.join(resolutions.get(i));
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof ExtensionResolutionException ere) {
+                    throw ere;
+                }
+                throw e;
+            }
             if (!artifacts.isEmpty()) {
-                extensions.add(createExtension(extension, artifacts));
+                extensions.add(createExtension(configuration.get(i), artifacts));
             }
         }
 
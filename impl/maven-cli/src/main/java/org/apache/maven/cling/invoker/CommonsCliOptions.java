@@ -273,6 +273,7 @@ protected static class CLIManager {
         public static final String DEBUG = "debug";
         public static final String ENC = "enc";
         public static final String YJP = "yjp";
+        public static final String CDS = "cds";
 
         // deprecated ones
         @Deprecated
@@ -392,6 +393,10 @@ protected void prepareOptions(org.apache.commons.cli.Options options) {
                     .longOpt(YJP)
                     .desc("Launch the JVM with Yourkit profiler (script option).")
                     .build());
+            options.addOption(Option.builder()
+                    .longOpt(CDS)
+                    .desc("Launch the JVM with a class-data-sharing archive, trained on first use (script option).")
+                    .build());
 
             // Deprecated
             options.addOption(Option.builder(ALTERNATE_GLOBAL_SETTINGS)
@@ -248,6 +248,14 @@ public Optional<Boolean> ignoreTransitiveRepositories() {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<String> traceFile() {
+        if (commandLine.hasOption(CLIManager.TRACE_FILE)) {
+            return Optional.of(commandLine.getOptionValue(CLIManager.TRACE_FILE));
+        }
+        return Optional.empty();
+    }
+
     @Override
     public Optional<List<String>> goals() {
         if (!commandLine.getArgList().isEmpty()) {
@@ -284,6 +292,7 @@ protected static class CLIManager extends CommonsCliOptions.CLIManager {
         public static final String CACHE_ARTIFACT_NOT_FOUND = "canf";
         public static final String STRICT_ARTIFACT_DESCRIPTOR_POLICY = "sadp";
         public static final String IGNORE_TRANSITIVE_REPOSITORIES = "itr";
+        public static final String TRACE_FILE = "trace";
 
         @Override
         protected void prepareOptions(org.apache.commons.cli.Options options) {
@@ -390,6 +399,12 @@ protected void prepareOptions(org.apache.commons.cli.Options options) {
                     .longOpt("ignore-transitive-repositories")
                     .desc("If set, Maven will ignore remote repositories introduced by transitive dependencies.")
                     .build());
+            options.addOption(Option.builder()
+                    .longOpt(TRACE_FILE)
+                    .hasArg()
+                    .desc(
+                            "Write a trace of the build execution to the given file, in the Chrome trace event format (chrome://tracing, Perfetto)")
+                    .build());
         }
     }
 }
@@ -159,6 +159,11 @@ public Optional<Boolean> ignoreTransitiveRepositories() {
         return returnFirstPresentOrEmpty(MavenOptions::ignoreTransitiveRepositories);
     }
 
+    @Override
+    public Optional<String> traceFile() {
+        return returnFirstPresentOrEmpty(MavenOptions::traceFile);
+    }
+
     @Override
     public Optional<List<String>> goals() {
         return collectListIfPresentOrEmpty(MavenOptions::goals);
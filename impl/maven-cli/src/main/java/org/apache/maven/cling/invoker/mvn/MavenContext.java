@@ -18,8 +18,13 @@
  */
 package org.apache.maven.cling.invoker.mvn;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.maven.Maven;
 import org.apache.maven.api.cli.InvokerRequest;
+import org.apache.maven.api.services.ToolchainsBuilderRequest;
+import org.apache.maven.api.services.ToolchainsBuilderResult;
 import org.apache.maven.cling.invoker.LookupContext;
 import org.apache.maven.eventspy.internal.EventSpyDispatcher;
 
@@ -32,10 +37,17 @@ public MavenContext(InvokerRequest invokerRequest) {
     public EventSpyDispatcher eventSpyDispatcher;
     public Maven maven;
 
+    public Path installationToolchainsPath;
+    public Path userToolchainsPath;
+    public ToolchainsBuilderRequest toolchainsRequest;
+    public CompletableFuture<ToolchainsBuilderResult> toolchainsResult;
+
     @Override
     protected void closeContainer() {
         eventSpyDispatcher = null;
         maven = null;
+        toolchainsRequest = null;
+        toolchainsResult = null;
         super.closeContainer();
     }
 }
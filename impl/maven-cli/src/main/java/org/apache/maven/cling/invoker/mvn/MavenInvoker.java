@@ -65,6 +65,7 @@
 import org.apache.maven.execution.MavenExecutionResult;
 import org.apache.maven.execution.ProfileActivation;
 import org.apache.maven.execution.ProjectActivation;
+import org.apache.maven.internal.impl.util.BackgroundTasks;
 import org.apache.maven.jline.MessageUtils;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.logging.LoggingExecutionListener;
@@ -159,7 +160,21 @@ protected void customizeSettingsResult(C context, SettingsBuilderResult settings
         }
     }
 
-    protected void toolchains(C context, MavenExecutionRequest request) throws Exception {
+    /**
+     * Toolchains do not depend on settings, so they are built in the background while the settings are read.
+     * The result is consumed by {@link #toolchains(MavenContext, MavenExecutionRequest)}.
+     */
+    @Override
+    protected void settings(C context) throws Exception {
+        ToolchainsBuilderRequest toolchainsRequest = toolchainsRequest(context);
+        ToolchainsBuilder toolchainsBuilder = context.lookup.lookup(ToolchainsBuilder.class);
+        context.toolchainsRequest = toolchainsRequest;
+        context.toolchainsResult =
+                BackgroundTasks.submit("toolchains", () -> toolchainsBuilder.build(toolchainsRequest));
+        super.settings(context);
+    }
+
+    protected ToolchainsBuilderRequest toolchainsRequest(C context) throws Exception {
         Path userToolchainsFile = null;
         if (context.invokerRequest.options().altUserToolchains().isPresent()) {
             userToolchainsFile = context.cwdResolver.apply(
@@ -194,11 +209,10 @@ protected void toolchains(C context, MavenExecutionRequest request) throws Excep
             }
         }
 
-        request.setInstallationToolchainsFile(
-                installationToolchainsFile != null ? installationToolchainsFile.toFile() : null);
-        request.setUserToolchainsFile(userToolchainsFile != null ? userToolchainsFile.toFile() : null);
+        context.installationToolchainsPath = installationToolchainsFile;
+        context.userToolchainsPath = userToolchainsFile;
 
-        ToolchainsBuilderRequest toolchainsRequest = ToolchainsBuilderRequest.builder()
+        return ToolchainsBuilderRequest.builder()
                 .session(context.protoSession)
                 .installationToolchainsSource(
                         installationToolchainsFile != null && Files.isRegularFile(installationToolchainsFile)
@@ -209,14 +223,28 @@ protected void toolchains(C context, MavenExecutionRequest request) throws Excep
                                 ? Source.fromPath(userToolchainsFile)
                                 : null)
                 .build();
+    }
+
+    protected void toolchains(C context, MavenExecutionRequest request) throws Exception {
+        ToolchainsBuilderRequest toolchainsRequest = context.toolchainsRequest;
+        if (toolchainsRequest == null) {
+            toolchainsRequest = toolchainsRequest(context);
+        }
+        Path installationToolchainsFile = context.installationToolchainsPath;
+        Path userToolchainsFile = context.userToolchainsPath;
+
+        request.setInstallationToolchainsFile(
+                installationToolchainsFile != null ? installationToolchainsFile.toFile() : null);
+        request.setUserToolchainsFile(userToolchainsFile != null ? userToolchainsFile.toFile() : null);
 
         context.eventSpyDispatcher.onEvent(toolchainsRequest);
 
         context.logger.debug("Reading installation toolchains from '" + installationToolchainsFile + "'");
         context.logger.debug("Reading user toolchains from '" + userToolchainsFile + "'");
 
-        ToolchainsBuilderResult toolchainsResult =
-                context.lookup.lookup(ToolchainsBuilder.class).build(toolchainsRequest);
+        ToolchainsBuilderResult toolchainsResult = context.toolchainsResult != null
+                ? BackgroundTasks.join(context.toolchainsResult)
+                : context.lookup.lookup(ToolchainsBuilder.class).build(toolchainsRequest);
 
         context.eventSpyDispatcher.onEvent(toolchainsResult);
 
@@ -320,6 +348,13 @@ protected void populateRequest(C context, Lookup lookup, MavenExecutionRequest r
         if (options.builder().isPresent()) {
             request.setBuilderId(options.builder().get());
         }
+
+        if (options.traceFile().isPresent()) {
+            request.getUserProperties()
+                    .setProperty(
+                            Constants.MAVEN_BUILDER_TRACE_FILE,
+                            context.cwdResolver.apply(options.traceFile().get()).toString());
+        }
     }
 
     protected Path determinePom(C context, Lookup lookup) {
@@ -190,6 +190,10 @@ public int invoke(InvokerRequest invokerRequest) throws InvokerException {
         if (mavenOptions.ignoreTransitiveRepositories().isPresent()) {
             cmdAndArguments.add("--ignore-transitive-repositories");
         }
+        if (mavenOptions.traceFile().isPresent()) {
+            cmdAndArguments.add("--trace");
+            cmdAndArguments.add(mavenOptions.traceFile().get());
+        }
 
         // last the goals
         cmdAndArguments.addAll(mavenOptions.goals().orElse(Collections.emptyList()));
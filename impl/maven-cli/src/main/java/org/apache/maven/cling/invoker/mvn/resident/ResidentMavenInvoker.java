@@ -21,15 +21,19 @@
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.cli.InvokerException;
 import org.apache.maven.api.cli.InvokerRequest;
+import org.apache.maven.api.services.Lookup;
 import org.apache.maven.cling.invoker.ProtoLookup;
 import org.apache.maven.cling.invoker.mvn.MavenInvoker;
+import org.apache.maven.execution.MavenExecutionRequest;
 
 /**
  * Resident invoker implementation, similar to "local", but keeps Maven instance resident. This implies, that
  * things like environment, system properties, extensions etc. are loaded only once. It is caller duty to ensure
  * that subsequent call is right for the resident instance (ie no env change or different extension needed).
+ * The POMs of the projects are retained as well, and only parsed again by subsequent calls if modified.
  */
 public class ResidentMavenInvoker extends MavenInvoker<ResidentMavenContext> {
 
@@ -85,4 +89,12 @@ protected void lookup(ResidentMavenContext context) throws Exception {
             super.lookup(context);
         }
     }
+
+    @Override
+    protected void populateRequest(ResidentMavenContext context, Lookup lookup, MavenExecutionRequest request)
+            throws Exception {
+        super.populateRequest(context, lookup, request);
+        request.getSystemProperties().putIfAbsent(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS, Boolean.TRUE.toString());
+        request.getSystemProperties().putIfAbsent(Constants.MAVEN_RESOLVER_GRAPH_CACHE, Boolean.TRUE.toString());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the fixed startup cost of the {@code mvn} launcher, with and without the
+ * class-data-sharing archive enabled by {@code --cds}. The distribution to launch is
+ * taken from the {@code maven.home} system property or the {@code MAVEN_HOME} environment variable.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+public class CdsStartupPerfTest {
+    @State(Scope.Benchmark)
+    public static class LauncherState {
+        @Param({"false", "true"})
+        boolean cds;
+
+        @Param({"-v", "help:help"})
+        String goal;
+
+        List<String> command;
+        Path cdsDir;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            String mavenHome = System.getProperty("maven.home", System.getenv("MAVEN_HOME"));
+            if (mavenHome == null) {
+                throw new IllegalStateException("Set maven.home or MAVEN_HOME to the distribution to benchmark");
+            }
+            cdsDir = Files.createTempDirectory("maven-cds");
+            command = new ArrayList<>();
+            command.add(Paths.get(mavenHome, "bin", "mvn").toString());
+            command.add("-B");
+            command.add("-q");
+            if (cds) {
+                command.add("--cds");
+            }
+            command.add(goal);
+            // the first invocation trains the archive used by the measured ones
+            run(this);
+        }
+    }
+
+    @Benchmark
+    public int launch(LauncherState state) throws IOException, InterruptedException {
+        return run(state);
+    }
+
+    static int run(LauncherState state) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(state.command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        pb.environment().put("MAVEN_CDS_DIR", state.cdsDir.toString());
+        return pb.start().waitFor();
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder().forks(1).build();
+        new Runner(opts).run();
+    }
+}
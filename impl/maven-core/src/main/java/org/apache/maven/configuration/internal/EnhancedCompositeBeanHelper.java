@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.TypeLiteral;
+import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
+import org.codehaus.plexus.component.configurator.ConfigurationListener;
+import org.codehaus.plexus.component.configurator.converters.ConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.ParameterizedConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.lookup.ConverterLookup;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.eclipse.sisu.plexus.CompositeBeanHelper;
+import org.eclipse.sisu.plexus.TypeArguments;
+
+/**
+ * A replacement for {@link CompositeBeanHelper#setProperty} caching the binding of each property of a bean class,
+ * i.e. the setter, adder or field it is injected through and their generic types, so that configuring a mojo
+ * again only evaluates and converts the values.
+ * <p>
+ * The bindings are attached to the bean class through a {@link ClassValue}, so that they do not prevent plugin
+ * realms from being garbage collected. The resolution rules are the ones of {@link CompositeBeanHelper}: a public
+ * {@code set} method is preferred over a public {@code add} method, which is preferred over a field, and when
+ * an implementation is given, the first method accepting it is selected.
+ */
+final class EnhancedCompositeBeanHelper {
+
+    private static final ClassValue<Map<String, PropertyBinding>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyBinding> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ConverterLookup lookup;
+    private final ClassLoader loader;
+    private final ExpressionEvaluator evaluator;
+    private final ConfigurationListener listener;
+
+    EnhancedCompositeBeanHelper(
+            ConverterLookup lookup, ClassLoader loader, ExpressionEvaluator evaluator, ConfigurationListener listener) {
+        this.lookup = lookup;
+        this.loader = loader;
+        this.evaluator = evaluator;
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the given property of the bean from its configuration.
+     *
+     * @param bean the bean to configure
+     * @param propertyName the name of the property
+     * @param valueType the implementation type of the value, or {@code null} if not specified
+     * @param configuration the configuration of the property
+     * @throws ComponentConfigurationException if the property cannot be found or set
+     */
+    void setProperty(Object bean, String propertyName, Class<?> valueType, PlexusConfiguration configuration)
+            throws ComponentConfigurationException {
+        Class<?> beanType = bean.getClass();
+        PropertyBinding binding = binding(beanType, propertyName);
+
+        Accessor setter = binding.setter(valueType);
+        Object value = null;
+        Throwable problem = null;
+        if (setter != null) {
+            try {
+                value = convertProperty(beanType, setter.rawType(), setter.type(), valueType, configuration);
+                if (value != null) {
+                    if (listener != null) {
+                        listener.notifyFieldChangeUsingSetter(propertyName, value, bean);
+                    }
+                    setter.method().invoke(bean, value);
+                    return;
+                }
+            } catch (Exception | LinkageError e) {
+                problem = e;
+            }
+        }
+
+        Field field = binding.field();
+        if (field != null) {
+            try {
+                if (!binding.fieldRawType().isInstance(value)) {
+                    value = convertProperty(
+                            beanType, binding.fieldRawType(), binding.fieldType(), valueType, configuration);
+                }
+                if (value != null) {
+                    if (listener != null) {
+                        listener.notifyFieldChangeUsingReflection(propertyName, value, bean);
+                    }
+                    field.set(bean, value);
+                    return;
+                }
+            } catch (Exception | LinkageError e) {
+                if (problem == null) {
+                    problem = e;
+                }
+            }
+        }
+
+        if (problem instanceof ComponentConfigurationException e) {
+            throw e;
+        } else if (problem != null) {
+            throw new ComponentConfigurationException(
+                    configuration, "Cannot set '" + propertyName + "' in " + beanType, problem);
+        } else if (setter == null && field == null) {
+            throw new ComponentConfigurationException(
+                    configuration, "Cannot find '" + propertyName + "' in " + beanType);
+        }
+    }
+
+    static PropertyBinding binding(Class<?> beanType, String propertyName) {
+        return BINDINGS.get(beanType).computeIfAbsent(propertyName, p -> PropertyBinding.of(beanType, p));
+    }
+
+    private Object convertProperty(
+            Class<?> beanType,
+            Class<?> rawPropertyType,
+            Type genericPropertyType,
+            Class<?> valueType,
+            PlexusConfiguration configuration)
+            throws ComponentConfigurationException {
+        if (valueType != null && rawPropertyType.isAssignableFrom(valueType)) {
+            rawPropertyType = valueType;
+        }
+        ConfigurationConverter converter = lookup.lookupConverterForType(rawPropertyType);
+        if (!(genericPropertyType instanceof Class<?>)
+                && converter instanceof ParameterizedConfigurationConverter parameterized) {
+            Type[] typeArguments = TypeArguments.get(genericPropertyType);
+            return parameterized.fromConfiguration(
+                    lookup, configuration, rawPropertyType, typeArguments, beanType, loader, evaluator, listener);
+        }
+        return converter.fromConfiguration(
+                lookup, configuration, rawPropertyType, beanType, loader, evaluator, listener);
+    }
+
+    /**
+     * A method a property may be injected through.
+     */
+    record Accessor(Method method, Class<?> parameterType, Class<?> rawType, Type type) {
+        static Accessor of(Method method) {
+            TypeLiteral<?> literal = TypeLiteral.get(method.getGenericParameterTypes()[0]);
+            return new Accessor(method, method.getParameterTypes()[0], literal.getRawType(), literal.getType());
+        }
+    }
+
+    /**
+     * The ways a property of a bean class may be injected.
+     */
+    record PropertyBinding(
+            List<Accessor> setters, List<Accessor> adders, Field field, Class<?> fieldRawType, Type fieldType) {
+
+        static PropertyBinding of(Class<?> beanType, String propertyName) {
+            String title = Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
+            String setterName = "set" + title;
+            String adderName = "add" + title;
+            List<Accessor> setters = new ArrayList<>();
+            List<Accessor> adders = new ArrayList<>();
+            for (Method method : beanType.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 1) {
+                    if (setterName.equals(method.getName())) {
+                        setters.add(Accessor.of(method));
+                    } else if (adderName.equals(method.getName())) {
+                        adders.add(Accessor.of(method));
+                    }
+                }
+            }
+            Field field = findField(beanType, propertyName);
+            if (field != null) {
+                field.trySetAccessible();
+                TypeLiteral<?> literal = TypeLiteral.get(field.getGenericType());
+                return new PropertyBinding(
+                        List.copyOf(setters), List.copyOf(adders), field, literal.getRawType(), literal.getType());
+            }
+            return new PropertyBinding(List.copyOf(setters), List.copyOf(adders), null, null, null);
+        }
+
+        /**
+         * Selects the setter, or else the adder, to use for a value of the given type.
+         */
+        Accessor setter(Class<?> valueType) {
+            Accessor setter = select(setters, valueType);
+            return setter != null ? setter : select(adders, valueType);
+        }
+
+        private static Accessor select(List<Accessor> candidates, Class<?> valueType) {
+            if (valueType != null) {
+                for (Accessor candidate : candidates) {
+                    if (candidate.parameterType().isAssignableFrom(valueType)) {
+                        return candidate;
+                    }
+                }
+            }
+            return candidates.isEmpty() ? null : candidates.get(0);
+        }
+
+        private static Field findField(Class<?> beanType, String name) {
+            for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (name.equals(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+                        return field;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
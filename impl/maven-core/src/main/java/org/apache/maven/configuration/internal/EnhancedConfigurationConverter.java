@@ -30,7 +30,8 @@
 
 /**
  * An enhanced {@link ObjectWithFieldsConverter} leveraging the {@link TypeAwareExpressionEvaluator}
- * interface.
+ * interface, and binding the configuration to the properties of beans through the
+ * {@link EnhancedCompositeBeanHelper}.
  */
 class EnhancedConfigurationConverter extends ObjectWithFieldsConverter {
     protected Object fromExpression(
@@ -98,4 +99,27 @@ public Object fromConfiguration(
             throw e;
         }
     }
+
+    @Override
+    public void processConfiguration(
+            final ConverterLookup lookup,
+            final Object bean,
+            final ClassLoader loader,
+            final PlexusConfiguration configuration,
+            final ExpressionEvaluator evaluator,
+            final ConfigurationListener listener)
+            throws ComponentConfigurationException {
+        final EnhancedCompositeBeanHelper helper = new EnhancedCompositeBeanHelper(lookup, loader, evaluator, listener);
+        for (int i = 0, size = configuration.getChildCount(); i < size; i++) {
+            final PlexusConfiguration element = configuration.getChild(i);
+            final String propertyName = fromXML(element.getName());
+            Class<?> valueType;
+            try {
+                valueType = getClassForImplementationHint(null, element, loader);
+            } catch (final ComponentConfigurationException e) {
+                valueType = null;
+            }
+            helper.setProperty(bean, propertyName, valueType, element);
+        }
+    }
 }
@@ -26,6 +26,7 @@
 
 class EnhancedConverterLookup implements ConverterLookup {
     private final ConverterLookup delegate = new DefaultConverterLookup();
+    private final ConfigurationConverter objectConverter = new EnhancedConfigurationConverter();
 
     EnhancedConverterLookup() {
         registerConverter(new DefaultBeanConfigurator.PathConverter());
@@ -40,8 +41,6 @@ public void registerConverter(ConfigurationConverter converter) {
     @Override
     public ConfigurationConverter lookupConverterForType(Class<?> type) throws ComponentConfigurationException {
         ConfigurationConverter converter = delegate.lookupConverterForType(type);
-        return converter.getClass().equals(ObjectWithFieldsConverter.class)
-                ? new EnhancedConfigurationConverter()
-                : converter;
+        return converter.getClass().equals(ObjectWithFieldsConverter.class) ? objectConverter : converter;
     }
 }
@@ -24,24 +24,48 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.eventspy.EventSpy;
+import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.ExecutionListener;
 import org.eclipse.aether.RepositoryListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Dispatches callbacks to all registered EventSpies.
+ * Dispatches callbacks to all registered EventSpies. The spies are notified on the calling thread, or each on a thread
+ * of its own when {@link Constants#MAVEN_EVENT_SPY_ASYNC} is enabled. The execution events are then captured on the
+ * calling thread, along with its current project, while the other events are delivered as they are, so the spies
+ * must not rely on the state of the build thread which fired them. The events fired while or after the dispatcher is
+ * closed are delivered on the calling thread, once the queued events have been delivered.
  * @since 3.0.2
  */
 @Named
 @Singleton
 public class EventSpyDispatcher {
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final List<EventSpy> eventSpies;
 
+    private volatile List<AsyncEventSpy> asyncEventSpies;
+
+    /**
+     * Guards {@link #asyncEventSpies}: the events are queued under the read lock, and the spies are drained under the
+     * write lock, so that no event is queued once a spy has been drained.
+     */
+    private final ReadWriteLock asyncLock = new ReentrantReadWriteLock();
+
     @Inject
     public EventSpyDispatcher(List<EventSpy> eventSpies) {
         // make copy to get rid of needless overhead for dynamic lookups
@@ -73,12 +97,70 @@ public void init(EventSpy.Context context) {
                 logError("initialize", e, eventSpy);
             }
         }
+        Map<String, Object> data = context.getData();
+        if (Boolean.parseBoolean(getProperty(data, Constants.MAVEN_EVENT_SPY_ASYNC, "false"))) {
+            int queueSize = getQueueSize(data);
+            List<AsyncEventSpy> spies = new ArrayList<>(eventSpies.size());
+            for (EventSpy eventSpy : eventSpies) {
+                spies.add(new AsyncEventSpy(eventSpy, queueSize));
+            }
+            asyncEventSpies = spies;
+        }
+    }
+
+    private int getQueueSize(Map<String, Object> data) {
+        String value = getProperty(data, Constants.MAVEN_EVENT_SPY_QUEUE_SIZE, null);
+        if (value == null) {
+            return DEFAULT_QUEUE_SIZE;
+        }
+        try {
+            int queueSize = Integer.parseInt(value.trim());
+            if (queueSize > 0) {
+                return queueSize;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn(
+                "Invalid value '{}' for {}, expected a positive integer, using the default of {}",
+                value,
+                Constants.MAVEN_EVENT_SPY_QUEUE_SIZE,
+                DEFAULT_QUEUE_SIZE);
+        return DEFAULT_QUEUE_SIZE;
+    }
+
+    private static String getProperty(Map<String, Object> data, String key, String defaultValue) {
+        for (String properties : List.of("userProperties", "systemProperties")) {
+            if (data.get(properties) instanceof Properties props && props.getProperty(key) != null) {
+                return props.getProperty(key);
+            }
+        }
+        return defaultValue;
     }
 
     public void onEvent(Object event) {
         if (eventSpies.isEmpty()) {
             return;
         }
+        if (asyncEventSpies != null) {
+            Lock lock = asyncLock.readLock();
+            lock.lock();
+            try {
+                List<AsyncEventSpy> spies = asyncEventSpies;
+                if (spies != null) {
+                    // the execution events read the current project of the calling thread
+                    Object snapshot = event instanceof ExecutionEvent executionEvent
+                            ? new ExecutionEventSnapshot(executionEvent)
+                            : event;
+                    for (AsyncEventSpy spy : spies) {
+                        spy.onEvent(snapshot);
+                    }
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
         for (EventSpy eventSpy : eventSpies) {
             try {
                 eventSpy.onEvent(event);
@@ -92,6 +174,24 @@ public void close() {
         if (eventSpies.isEmpty()) {
             return;
         }
+        if (asyncEventSpies != null) {
+            // deliver the pending events before closing the spies, the events fired meanwhile are then delivered
+            // synchronously
+            Lock lock = asyncLock.writeLock();
+            lock.lock();
+            try {
+                List<AsyncEventSpy> spies = asyncEventSpies;
+                if (spies != null) {
+                    for (AsyncEventSpy spy : spies) {
+                        spy.drain();
+                    }
+                }
+                // cleared once drained, so that an event is only delivered synchronously after the queued ones
+                asyncEventSpies = null;
+            } finally {
+                lock.unlock();
+            }
+        }
         for (EventSpy eventSpy : eventSpies) {
             try {
                 eventSpy.close();
@@ -110,4 +210,83 @@ private void logError(String action, Throwable e, EventSpy spy) {
             logger.warn(msg);
         }
     }
+
+    /**
+     * Notifies a spy of the events on a thread of its own, in the order they are queued.
+     */
+    private class AsyncEventSpy implements Runnable {
+        private final Object end = new Object();
+
+        private final EventSpy eventSpy;
+
+        private final BlockingQueue<Object> queue;
+
+        private final Thread thread;
+
+        private final LongAdder events = new LongAdder();
+
+        private final LongAdder waits = new LongAdder();
+
+        AsyncEventSpy(EventSpy eventSpy, int queueSize) {
+            this.eventSpy = eventSpy;
+            this.queue = new ArrayBlockingQueue<>(queueSize, true);
+            this.thread =
+                    new Thread(this, "maven-event-spy-" + eventSpy.getClass().getSimpleName());
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void onEvent(Object event) {
+            events.increment();
+            put(event);
+        }
+
+        void drain() {
+            put(end);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logger.debug(
+                    "Notified spy {} of {} events asynchronously, the queue was full {} times",
+                    eventSpy.getClass().getName(),
+                    events.sum(),
+                    waits.sum());
+        }
+
+        private void put(Object event) {
+            if (!queue.offer(event)) {
+                waits.increment();
+                try {
+                    queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn(
+                            "Interrupted while notifying spy {}",
+                            eventSpy.getClass().getName());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Object event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (event == end) {
+                    return;
+                }
+                try {
+                    eventSpy.onEvent(event);
+                } catch (Exception | LinkageError e) {
+                    logError("notify", e, eventSpy);
+                }
+            }
+        }
+    }
 }
@@ -352,6 +352,11 @@ public SessionBuilder newRepositorySessionBuilder(MavenExecutionRequest request)
         if (recordReverseTree) {
             repositoryListener = new ChainedRepositoryListener(repositoryListener, new ReverseTreeRepositoryListener());
         }
+        boolean installHardLinks = Boolean.parseBoolean(
+                mergedProps.getOrDefault(Constants.MAVEN_INSTALL_HARD_LINKS, Boolean.FALSE.toString()));
+        if (installHardLinks) {
+            repositoryListener = new ChainedRepositoryListener(repositoryListener, new HardLinkingRepositoryListener());
+        }
         sessionBuilder.setRepositoryListener(repositoryListener);
 
         // may be overridden
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A listener marking the artifact files being installed, so that the {@link MavenPathProcessor} links them into the
+ * local repository instead of copying them. The installer copies each artifact on the thread notifying these
+ * events, between the {@code artifactInstalling} and {@code artifactInstalled} events.
+ *
+ * @since 4.0.0
+ */
+class HardLinkingRepositoryListener extends AbstractRepositoryListener {
+    @Override
+    public void artifactInstalling(RepositoryEvent event) {
+        requireNonNull(event, "event cannot be null");
+        MavenPathProcessor.LINKED_TARGET.set(event.getPath());
+    }
+
+    @Override
+    public void artifactInstalled(RepositoryEvent event) {
+        MavenPathProcessor.LINKED_TARGET.remove();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.maven.api.Constants;
+import org.eclipse.aether.internal.impl.DefaultPathProcessor;
+import org.eclipse.aether.util.FileUtils;
+import org.eclipse.sisu.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.eclipse.aether.spi.io.PathProcessor} copying files with {@link FileChannel#transferTo}, so that the
+ * content is copied by the kernel without going through the heap, and optionally installing artifacts as hard links.
+ * <p>
+ * Copies reporting their progress are delegated to the default implementation. Hard links are only used for the
+ * artifacts being installed into the local repository when {@link Constants#MAVEN_INSTALL_HARD_LINKS} is set: the
+ * {@link HardLinkingRepositoryListener} of the session then marks the installed file while the installer copies it,
+ * any other copy is left untouched. They fall back to a copy when the files are not on the same file store.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+@Priority(10)
+public class MavenPathProcessor extends DefaultPathProcessor {
+    /**
+     * The local repository file being installed by the current thread, to be linked rather than copied.
+     */
+    static final ThreadLocal<Path> LINKED_TARGET = new ThreadLocal<>();
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Override
+    public void copyWithTimestamp(Path source, Path target) throws IOException {
+        if (target.equals(LINKED_TARGET.get()) && link(source, target)) {
+            return;
+        }
+        super.copyWithTimestamp(source, target);
+    }
+
+    @Override
+    public long copy(Path source, Path target, ProgressListener listener) throws IOException {
+        if (listener != null) {
+            return super.copy(source, target, listener);
+        }
+        try (FileUtils.CollocatedTempFile tempFile = FileUtils.newTempFile(target)) {
+            long size;
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                    FileChannel out = FileChannel.open(
+                            tempFile.getPath(),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.WRITE)) {
+                size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+            tempFile.move();
+            return size;
+        }
+    }
+
+    private boolean link(Path source, Path target) throws IOException {
+        try (FileUtils.CollocatedTempFile tempFile = FileUtils.newTempFile(target)) {
+            Files.deleteIfExists(tempFile.getPath());
+            Files.createLink(tempFile.getPath(), source);
+            tempFile.move();
+            return true;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            logger.debug("Unable to link {} to {}, copying it: {}", target, source, e.toString());
+            return false;
+        }
+    }
+}
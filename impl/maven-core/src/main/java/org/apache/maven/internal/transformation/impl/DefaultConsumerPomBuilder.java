@@ -26,6 +26,7 @@
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.SessionData;
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.DependencyManagement;
@@ -44,6 +45,7 @@
 import org.apache.maven.model.v4.MavenModelVersion;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -96,7 +98,8 @@ private ModelBuilderResult buildModel(RepositorySystemSession session, MavenProj
         request.requestType(ModelBuilderRequest.RequestType.BUILD_CONSUMER);
         request.session(iSession);
         request.source(ModelSource.fromPath(src));
-        request.locationTracking(false);
+        request.locationTracking(
+                ConfigUtils.getBoolean(session, true, Constants.MAVEN_MODEL_BUILDER_LOCATION_TRACKING));
         request.systemProperties(session.getSystemProperties());
         request.userProperties(session.getUserProperties());
         request.lifecycleBindingsInjector(lifecycleBindingsInjector::injectLifecycleBindings);
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a trace of the build execution in the
+ * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome trace event
+ * format</a>, which can be loaded in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * <p>
+ * The trace is enabled by setting {@link Constants#MAVEN_BUILDER_TRACE_FILE}. Each completed span (build step,
+ * mojo execution, lock wait) is appended and flushed to the file as soon as it ends, so that a trace of an
+ * interrupted build can still be inspected. Spans are recorded on the thread that executed them.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+public final class BuildTrace implements AutoCloseable {
+
+    public static final String CATEGORY_STEP = "step";
+    public static final String CATEGORY_MOJO = "mojo";
+    public static final String CATEGORY_LOCK = "lock";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BuildTrace.class);
+    private static final SessionData.Key<BuildTrace> KEY = SessionData.key(BuildTrace.class);
+
+    private final Path file;
+    private final Writer writer;
+    private final long origin = System.nanoTime();
+    private final Set<Long> threads = ConcurrentHashMap.newKeySet();
+    private boolean first = true;
+    private boolean closed;
+
+    BuildTrace(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        this.writer.write('[');
+    }
+
+    /**
+     * Starts tracing the given session if {@link Constants#MAVEN_BUILDER_TRACE_FILE} is set. A relative path is
+     * resolved against the working directory of the session, given by its {@code user.dir} system property, like the
+     * {@code --trace} option. The trace is then available from {@link #get(MavenSession)} until it is closed.
+     *
+     * @param session the session to trace
+     * @return the trace, or {@code null} if tracing is disabled
+     */
+    public static BuildTrace start(MavenSession session) {
+        String value = session.getRepositorySession() != null
+                ? ConfigUtils.getString(session.getRepositorySession(), null, Constants.MAVEN_BUILDER_TRACE_FILE)
+                : null;
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Path file = workingDirectory(session).resolve(value.trim()).normalize();
+        try {
+            BuildTrace trace = new BuildTrace(file);
+            session.getSession().getData().set(KEY, trace);
+            return trace;
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write the build trace to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path workingDirectory(MavenSession session) {
+        String cwd = session.getSystemProperties() != null
+                ? session.getSystemProperties().getProperty("user.dir")
+                : null;
+        return (cwd != null ? Path.of(cwd) : Path.of("")).toAbsolutePath();
+    }
+
+    /**
+     * Returns the trace of the given session.
+     *
+     * @param session the session
+     * @return the trace, or {@code null} if the session is not traced
+     */
+    public static BuildTrace get(MavenSession session) {
+        return session.getSession() != null ? session.getSession().getData().get(KEY) : null;
+    }
+
+    /**
+     * Returns the current timestamp of the trace, to be used as the start of a span.
+     *
+     * @return the number of microseconds since the trace was started
+     */
+    public long now() {
+        return (System.nanoTime() - origin) / 1000;
+    }
+
+    /**
+     * Records a span of the given build step on the current thread.
+     *
+     * @param step the name of the step
+     * @param project the project of the step
+     * @param start the start of the span, as returned by {@link #now()}
+     */
+    public void step(String step, MavenProject project, long start) {
+        complete(CATEGORY_STEP, step + " " + project.getArtifactId(), start, now() - start, project, null);
+    }
+
+    /**
+     * Records a span of the given mojo execution on the current thread.
+     *
+     * @param mojoExecution the mojo execution
+     * @param project the project the mojo was executed on
+     * @param start the start of the span, as returned by {@link #now()}
+     */
+    public void mojo(MojoExecution mojoExecution, MavenProject project, long start) {
+        complete(CATEGORY_MOJO, mojoName(mojoExecution), start, now() - start, project, mojoExecution);
+    }
+
+    /**
+     * Records a lock wait before the given mojo execution on the current thread.
+     *
+     * @param mojoExecution the mojo execution
+     * @param project the project the mojo is executed on
+     * @param start the start of the wait, as returned by {@link #now()}
+     */
+    public void lockWait(MojoExecution mojoExecution, MavenProject project, long start) {
+        complete(CATEGORY_LOCK, "lock " + mojoName(mojoExecution), start, now() - start, project, mojoExecution);
+    }
+
+    /**
+     * Records a lock wait of the build itself (e.g. waiting for the plan to be updated) on the current thread.
+     *
+     * @param name the name of the lock
+     * @param start the start of the wait, as returned by {@link #now()}
+     */
+    public void lockWait(String name, long start) {
+        complete(CATEGORY_LOCK, name, start, now() - start, null, null);
+    }
+
+    private static String mojoName(MojoExecution mojoExecution) {
+        return mojoExecution.getArtifactId() + ":" + mojoExecution.getGoal() + " (" + mojoExecution.getExecutionId()
+                + ")";
+    }
+
+    private void complete(
+            String category, String name, long start, long duration, MavenProject project, MojoExecution execution) {
+        Thread thread = Thread.currentThread();
+        long tid = thread.getId();
+        StringBuilder sb = new StringBuilder(256);
+        if (threads.add(tid)) {
+            sb.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":")
+                    .append(tid)
+                    .append(",\"args\":{\"name\":");
+            string(sb, thread.getName());
+            sb.append("}},\n");
+        }
+        sb.append("{\"name\":");
+        string(sb, name);
+        sb.append(",\"cat\":\"")
+                .append(category)
+                .append("\",\"ph\":\"X\",\"ts\":")
+                .append(start)
+                .append(",\"dur\":")
+                .append(duration)
+                .append(",\"pid\":1,\"tid\":")
+                .append(tid)
+                .append(",\"args\":{");
+        if (project != null) {
+            sb.append("\"project\":");
+            string(sb, project.getId());
+        }
+        if (execution != null) {
+            sb.append(project != null ? ",\"mojo\":" : "\"mojo\":");
+            string(sb, execution.getMojoDescriptor().getId());
+            if (execution.getLifecyclePhase() != null) {
+                sb.append(",\"phase\":");
+                string(sb, execution.getLifecyclePhase());
+            }
+        }
+        sb.append("}}");
+        write(sb);
+    }
+
+    private synchronized void write(CharSequence event) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!first) {
+                writer.write(",\n");
+            }
+            first = false;
+            writer.append(event);
+            writer.flush();
+        } catch (IOException e) {
+            closed = true;
+            LOGGER.warn("Unable to write the build trace to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void string(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Completes the trace file. Spans recorded afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (Writer w = writer) {
+            w.write("\n]\n");
+            LOGGER.info("Build trace written to {}", file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write the build trace to {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -30,6 +30,10 @@
  * Assists in firing execution events. <strong>Warning:</strong> This is an internal utility class that is only public
  * for technical reasons, it is not part of the public API. In particular, this class can be changed or deleted without
  * prior notice.
+ * <p>
+ * The execution listener is always notified on the thread firing the event, as it drives the build output and its
+ * logging context. The event spies it forwards the events to are notified asynchronously when
+ * {@link org.apache.maven.api.Constants#MAVEN_EVENT_SPY_ASYNC} is enabled.
  *
  */
 @Named
@@ -75,6 +75,7 @@ public DefaultLifecycleStarter(
 
     @Override
     public void execute(MavenSession session) {
+        BuildTrace trace = BuildTrace.start(session);
         eventCatapult.fire(ExecutionEvent.Type.SessionStarted, session, null);
 
         ReactorContext reactorContext = null;
@@ -126,6 +127,9 @@ public void execute(MavenSession session) {
             result.addException(e);
         } finally {
             eventCatapult.fire(ExecutionEvent.Type.SessionEnded, session, null);
+            if (trace != null) {
+                trace.close();
+            }
         }
     }
 
@@ -85,6 +85,8 @@ public void buildProject(
         session.setCurrentProject(currentProject);
 
         Instant buildStartTime = MonotonicClock.now();
+        BuildTrace trace = BuildTrace.get(session);
+        long traceStart = trace != null ? trace.now() : 0;
 
         try {
 
@@ -133,6 +135,9 @@ public void buildProject(
                 throw (Error) t;
             }
         } finally {
+            if (trace != null) {
+                trace.step("project", currentProject, traceStart);
+            }
             session.setCurrentProject(null);
 
             Thread.currentThread().setContextClassLoader(reactorContext.getOriginalContextClassLoader());
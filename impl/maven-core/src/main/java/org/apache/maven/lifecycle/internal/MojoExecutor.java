@@ -23,6 +23,7 @@
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -36,6 +37,7 @@
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.SessionData;
 import org.apache.maven.api.services.MavenException;
 import org.apache.maven.api.services.MessageBuilderFactory;
@@ -59,6 +61,7 @@
 import org.apache.maven.plugin.PluginManagerException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +84,13 @@ public class MojoExecutor {
     private static final SessionData.Key<Map<MavenProject, OwnerReentrantLock>> PROJECT_LOCKS =
             (SessionData.Key) SessionData.key(Map.class, ProjectLock.class);
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<String, Duration>> LOCK_WAIT_TIMES =
+            (SessionData.Key) SessionData.key(Map.class, Duration.class);
+
+    private static final String AGGREGATOR_LOCK_PROJECTS = "projects";
+    private static final String AGGREGATOR_LOCK_REACTOR = "reactor";
+
     private final BuildPluginManager pluginManager;
     private final MavenPluginManager mavenPluginManager;
     private final LifecycleDependencyResolver lifeCycleDependencyResolver;
@@ -224,60 +234,148 @@ public void close() {}
     /**
      * Aggregating mojo executions (possibly) modify all MavenProjects, including those that are currently in use
      * by concurrently running mojo executions. To prevent race conditions, an aggregating execution will block
-     * all other executions until finished.
+     * all other executions until finished. Setting {@link Constants#MAVEN_BUILDER_AGGREGATOR_LOCK} to
+     * {@code projects} makes an aggregating execution only lock the projects it aggregates (the current project and
+     * its subprojects, in reactor order), for aggregators known not to read other projects of the reactor.
      * We also lock on a given project to forbid a forked lifecycle to be executed concurrently with the project.
+     * The time spent waiting for those locks is recorded for each execution of each project, see
+     * {@link #getLockWaitTime(MavenSession, MojoExecution)}.
      * TODO: ideally, the builder should take care of the ordering in a smarter way
      * TODO: and concurrency issues fixed with MNG-7157
      */
     protected class ProjectLock implements NoExceptionCloseable {
         final Lock acquiredAggregatorLock;
-        final OwnerReentrantLock acquiredProjectLock;
+        final List<OwnerReentrantLock> acquiredProjectLocks;
 
-        ProjectLock(MavenSession session, MojoDescriptor mojoDescriptor) {
+        ProjectLock(MavenSession session, MojoExecution mojoExecution) {
+            MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
             mojos.put(Thread.currentThread(), mojoDescriptor);
+            long start = System.nanoTime();
+            BuildTrace trace = BuildTrace.get(session);
+            long traceStart = trace != null ? trace.now() : 0;
+            boolean contended = false;
             boolean aggregator = mojoDescriptor.isAggregator();
-            acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
-            acquiredProjectLock = getProjectLock(session);
-            if (!acquiredAggregatorLock.tryLock()) {
-                Thread owner = aggregatorLock.getOwner();
-                MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
-                String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
-                String msg = str + " aggregator mojo is already being executed "
-                        + "in this parallel build, those kind of mojos require exclusive access to "
-                        + "reactor to prevent race conditions. This mojo execution will be blocked "
-                        + "until the aggregator mojo is done.";
-                warn(msg);
-                acquiredAggregatorLock.lock();
+            boolean reactorWide = isReactorWideAggregatorLock(session);
+            if (reactorWide) {
+                acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
+                if (!acquiredAggregatorLock.tryLock()) {
+                    Thread owner = aggregatorLock.getOwner();
+                    MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
+                    String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
+                    String msg = str + " aggregator mojo is already being executed "
+                            + "in this parallel build, those kind of mojos require exclusive access to "
+                            + "reactor to prevent race conditions. This mojo execution will be blocked "
+                            + "until the aggregator mojo is done.";
+                    warn(msg);
+                    contended = true;
+                    acquiredAggregatorLock.lock();
+                }
+            } else {
+                acquiredAggregatorLock = null;
             }
-            if (!acquiredProjectLock.tryLock()) {
-                Thread owner = acquiredProjectLock.getOwner();
-                MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
-                String str = ownerMojo != null ? " The " + ownerMojo.getId() : "A";
-                String msg = str + " mojo is already being executed "
-                        + "on the project " + session.getCurrentProject().getGroupId()
-                        + ":" + session.getCurrentProject().getArtifactId() + ". "
-                        + "This mojo execution will be blocked "
-                        + "until the mojo is done.";
-                warn(msg);
-                acquiredProjectLock.lock();
+            List<MavenProject> projects = aggregator && !reactorWide
+                    ? LifecycleDependencyResolver.getProjects(session.getCurrentProject(), session, true)
+                    : Collections.singletonList(session.getCurrentProject());
+            acquiredProjectLocks = new ArrayList<>(projects.size());
+            for (MavenProject project : projects) {
+                OwnerReentrantLock acquiredProjectLock = getProjectLock(session, project);
+                if (!acquiredProjectLock.tryLock()) {
+                    Thread owner = acquiredProjectLock.getOwner();
+                    MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
+                    String str = ownerMojo != null ? " The " + ownerMojo.getId() : "A";
+                    String msg = str + " mojo is already being executed "
+                            + "on the project " + project.getGroupId()
+                            + ":" + project.getArtifactId() + ". "
+                            + "This mojo execution will be blocked "
+                            + "until the mojo is done.";
+                    warn(msg);
+                    contended = true;
+                    acquiredProjectLock.lock();
+                }
+                acquiredProjectLocks.add(acquiredProjectLock);
+            }
+            if (contended) {
+                recordLockWaitTime(session, mojoExecution, Duration.ofNanos(System.nanoTime() - start));
+            }
+            if (trace != null && contended) {
+                trace.lockWait(mojoExecution, session.getCurrentProject(), traceStart);
             }
         }
 
         @Override
         public void close() {
-            // release the lock in the reverse order of the acquisition
-            acquiredProjectLock.unlock();
-            acquiredAggregatorLock.unlock();
+            // release the locks in the reverse order of the acquisition
+            for (int i = acquiredProjectLocks.size() - 1; i >= 0; i--) {
+                acquiredProjectLocks.get(i).unlock();
+            }
+            if (acquiredAggregatorLock != null) {
+                acquiredAggregatorLock.unlock();
+            }
             mojos.remove(Thread.currentThread());
         }
 
-        private OwnerReentrantLock getProjectLock(MavenSession session) {
+        private OwnerReentrantLock getProjectLock(MavenSession session, MavenProject project) {
             SessionData data = session.getSession().getData();
             Map<MavenProject, OwnerReentrantLock> locks = data.computeIfAbsent(PROJECT_LOCKS, ConcurrentHashMap::new);
-            return locks.computeIfAbsent(session.getCurrentProject(), p -> new OwnerReentrantLock());
+            return locks.computeIfAbsent(project, p -> new OwnerReentrantLock());
+        }
+    }
+
+    private static boolean isReactorWideAggregatorLock(MavenSession session) {
+        String scope = session.getRepositorySession() != null
+                ? ConfigUtils.getString(
+                        session.getRepositorySession(),
+                        AGGREGATOR_LOCK_REACTOR,
+                        Constants.MAVEN_BUILDER_AGGREGATOR_LOCK)
+                : AGGREGATOR_LOCK_REACTOR;
+        return !AGGREGATOR_LOCK_PROJECTS.equalsIgnoreCase(scope);
+    }
+
+    private static void recordLockWaitTime(MavenSession session, MojoExecution mojoExecution, Duration wait) {
+        session.getSession()
+                .getData()
+                .computeIfAbsent(LOCK_WAIT_TIMES, ConcurrentHashMap::new)
+                .merge(lockWaitKey(session, mojoExecution), wait, Duration::plus);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                    "Waited {} ms for project locks before executing {} on {}",
+                    wait.toMillis(),
+                    mojoExecution,
+                    session.getCurrentProject().getId());
         }
     }
 
+    /**
+     * Identifies an execution of the build plan of the current project, so that the recorded wait times are bounded
+     * by the size of the build plans without retaining the executions.
+     */
+    private static String lockWaitKey(MavenSession session, MojoExecution mojoExecution) {
+        return session.getCurrentProject().getId()
+                + ' '
+                + mojoExecution.getGroupId()
+                + ':'
+                + mojoExecution.getArtifactId()
+                + ':'
+                + mojoExecution.getGoal()
+                + '@'
+                + mojoExecution.getExecutionId();
+    }
+
+    /**
+     * Returns the time the given mojo execution of the current project waited for project locks held by other
+     * executions, or {@link Duration#ZERO} if it never waited.
+     *
+     * @param session the session, whose current project is the one of the execution
+     * @param mojoExecution the mojo execution
+     * @return the lock wait time, never {@code null}
+     * @since 4.0.0
+     */
+    public Duration getLockWaitTime(MavenSession session, MojoExecution mojoExecution) {
+        Map<String, Duration> times = session.getSession().getData().get(LOCK_WAIT_TIMES);
+        Duration wait = times != null ? times.get(lockWaitKey(session, mojoExecution)) : null;
+        return wait != null ? wait : Duration.ZERO;
+    }
+
     static class OwnerReentrantLock extends ReentrantLock {
         @Override
         public Thread getOwner() {
@@ -306,7 +404,7 @@ private void doExecute(MavenSession session, MojoExecution mojoExecution, Depend
 
         ensureDependenciesAreResolved(mojoDescriptor, session, dependencyContext);
 
-        try (NoExceptionCloseable lock = getProjectLock(session, mojoDescriptor)) {
+        try (NoExceptionCloseable lock = getProjectLock(session, mojoExecution)) {
             doExecute2(session, mojoExecution);
         } finally {
             for (MavenProject forkedProject : forkedProjects) {
@@ -320,9 +418,9 @@ protected interface NoExceptionCloseable extends AutoCloseable {
         void close();
     }
 
-    protected NoExceptionCloseable getProjectLock(MavenSession session, MojoDescriptor mojoDescriptor) {
+    protected NoExceptionCloseable getProjectLock(MavenSession session, MojoExecution mojoExecution) {
         if (useProjectLock(session)) {
-            return new ProjectLock(session, mojoDescriptor);
+            return new ProjectLock(session, mojoExecution);
         } else {
             return new NoLock();
         }
@@ -333,6 +431,8 @@ protected boolean useProjectLock(MavenSession session) {
     }
 
     private void doExecute2(MavenSession session, MojoExecution mojoExecution) throws LifecycleExecutionException {
+        BuildTrace trace = BuildTrace.get(session);
+        long traceStart = trace != null ? trace.now() : 0;
         eventCatapult.fire(ExecutionEvent.Type.MojoStarted, session, mojoExecution);
         try {
             try {
@@ -351,6 +451,10 @@ private void doExecute2(MavenSession session, MojoExecution mojoExecution) throw
             eventCatapult.fire(ExecutionEvent.Type.MojoFailed, session, mojoExecution, e);
 
             throw e;
+        } finally {
+            if (trace != null) {
+                trace.mojo(mojoExecution, session.getCurrentProject(), traceStart);
+            }
         }
     }
 
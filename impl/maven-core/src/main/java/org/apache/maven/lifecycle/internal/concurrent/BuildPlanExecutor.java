@@ -64,6 +64,7 @@
 import org.apache.maven.lifecycle.LifecyclePhaseNotFoundException;
 import org.apache.maven.lifecycle.MojoExecutionConfigurator;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
+import org.apache.maven.lifecycle.internal.BuildTrace;
 import org.apache.maven.lifecycle.internal.CompoundProjectExecutionListener;
 import org.apache.maven.lifecycle.internal.ExecutionEventCatapult;
 import org.apache.maven.lifecycle.internal.GoalTask;
@@ -108,6 +109,8 @@
  * This builder uses a number of threads equal to the minimum of the degree of concurrency (which is the thread count
  * set with <code>-T</code> on the command-line) and the number of projects to build. As such, building a single project
  * will always result in a sequential build, regardless of the thread count.
+ * The number of steps executing mojos at the same time can be further limited per phase, or adapted to the CPU and
+ * heap usage, see {@link StepThrottle}.
  * </p>
  * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
  *
@@ -169,6 +172,8 @@ class BuildContext implements AutoCloseable {
         final Map<Object, Clock> clocks = new ConcurrentHashMap<>();
         final ReadWriteLock lock = new ReentrantReadWriteLock();
         final int threads;
+        final BuildTrace trace;
+        final StepThrottle throttle;
         BuildPlan plan;
 
         BuildContext(MavenSession session, ReactorContext reactorContext, List<TaskSegment> taskSegments) {
@@ -180,6 +185,8 @@ class BuildContext implements AutoCloseable {
             // Propagate the parallel flag to the root session
             session.setParallel(threads > 1);
             this.executor = new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
+            this.trace = BuildTrace.get(session);
+            this.throttle = StepThrottle.of(session, threads);
 
             // build initial plan
             this.plan = buildInitialPlan(taskSegments);
@@ -190,6 +197,8 @@ class BuildContext implements AutoCloseable {
             this.reactorContext = null;
             this.threads = 1;
             this.executor = null;
+            this.trace = null;
+            this.throttle = null;
             this.plan = null;
         }
 
@@ -305,6 +314,9 @@ void execute() {
                 plan();
                 executePlan();
             } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
                 session.getResult().addException(e);
             }
         }
@@ -326,33 +338,69 @@ private void executePlan() {
                         .filter(step -> step.status.get() == CREATED)
                         .filter(step -> step.predecessors.stream().allMatch(s -> s.status.get() == EXECUTED))
                         .filter(step -> step.status.compareAndSet(CREATED, SCHEDULED))
-                        .forEach(step -> {
-                            boolean nextIsPlanning = step.successors.stream().anyMatch(st -> PLAN.equals(st.name));
-                            executor.execute(() -> {
-                                try {
-                                    executeStep(step);
-                                    if (nextIsPlanning) {
-                                        lock.writeLock().lock();
-                                        try {
-                                            plan();
-                                        } finally {
-                                            lock.writeLock().unlock();
-                                        }
+                        .forEach(step -> executor.execute(() -> {
+                            if (throttle != null && step.executions().findAny().isPresent()) {
+                                long start = trace != null ? trace.now() : 0;
+                                throttle.execute(step.name, executor, permit -> {
+                                    if (trace != null && permit.waited()) {
+                                        trace.lockWait("throttle " + step.name, start);
                                     }
-                                    executePlan();
-                                } catch (Exception e) {
-                                    step.status.compareAndSet(SCHEDULED, FAILED);
-                                    global.stop();
-                                    handleBuildError(reactorContext, session, step.project, e, global);
-                                }
-                            });
-                        });
+                                    executeScheduledStep(step, permit, global);
+                                });
+                            } else {
+                                executeScheduledStep(step, null, global);
+                            }
+                        }));
             } finally {
                 lock.readLock().unlock();
             }
         }
 
+        /**
+         * Executes the given step, holding the given throttle permit if any, then schedules the next steps.
+         */
+        private void executeScheduledStep(BuildStep step, StepThrottle.Permit permit, Clock global) {
+            try {
+                try (permit) {
+                    executeStep(step);
+                }
+                if (step.successors.stream().anyMatch(st -> PLAN.equals(st.name))) {
+                    if (!lock.writeLock().tryLock()) {
+                        long start = trace != null ? trace.now() : 0;
+                        lock.writeLock().lock();
+                        if (trace != null) {
+                            trace.lockWait("plan lock", start);
+                        }
+                    }
+                    try {
+                        plan();
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+                executePlan();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                step.status.compareAndSet(SCHEDULED, FAILED);
+                global.stop();
+                handleBuildError(reactorContext, session, step.project, e, global);
+            }
+        }
+
         private void executeStep(BuildStep step) throws IOException, LifecycleExecutionException {
+            long start = trace != null ? trace.now() : 0;
+            try {
+                doExecuteStep(step);
+            } finally {
+                if (trace != null) {
+                    trace.step(step.name, step.project, start);
+                }
+            }
+        }
+
+        private void doExecuteStep(BuildStep step) throws IOException, LifecycleExecutionException {
             Clock clock = getClock(step.project);
             switch (step.name) {
                 case PLAN:
@@ -395,6 +443,7 @@ private Clock getClock(Object key) {
         }
 
         private void plan() {
+            long start = trace != null ? trace.now() : 0;
             lock.writeLock().lock();
             try {
                 Set<BuildStep> planSteps = plan.allSteps()
@@ -448,6 +497,9 @@ private void plan() {
                     MavenProject project = step.project;
                     buildPlanLogger.writePlan(plan, project);
                     step.status.compareAndSet(SCHEDULED, EXECUTED);
+                    if (trace != null) {
+                        trace.step(step.name, project, start);
+                    }
                 }
 
                 checkThreadSafety(plan);
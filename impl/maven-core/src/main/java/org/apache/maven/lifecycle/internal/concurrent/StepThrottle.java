@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.maven.api.Lifecycle.AFTER;
+import static org.apache.maven.api.Lifecycle.AT;
+import static org.apache.maven.api.Lifecycle.BEFORE;
+
+/**
+ * Limits the number of build steps executing mojos at the same time.
+ * <p>
+ * Two limits are applied:
+ * <ul>
+ *     <li>per-phase caps, defined by {@link Constants#MAVEN_BUILDER_PHASE_CONCURRENCY}, which bound the number of
+ *     projects running a given phase concurrently;</li>
+ *     <li>in adaptive mode ({@link Constants#MAVEN_BUILDER_ADAPTIVE}), a global limit which starts at the thread
+ *     count and is lowered when the CPU is saturated or the heap is nearly full after garbage collection, then raised
+ *     back when resources are available again.</li>
+ * </ul>
+ * Steps waiting for a permit do not hold a build thread: they are parked, and submitted again to their executor, in
+ * order, once a permit is released for them. A step is only parked while other steps hold a permit, so parked steps
+ * are always eventually executed.
+ */
+class StepThrottle {
+
+    static final double HEAP_CRITICAL = 0.90;
+    static final double HEAP_HIGH = 0.80;
+    static final double HEAP_LOW = 0.70;
+    static final double CPU_SATURATED = 0.95;
+    static final double CPU_LOW = 0.75;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepThrottle.class);
+    private static final long SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Provides the resource usage the adaptive limit is based on.
+     */
+    interface Sampler {
+        /**
+         * @return the recent CPU load of the machine, between 0 and 1, or a negative value if not available
+         */
+        double cpuLoad();
+
+        /**
+         * @return the heap usage after the last garbage collection, between 0 and 1, or a negative value if not
+         * available
+         */
+        double heapUsage();
+    }
+
+    private final int maxPermits;
+    private final boolean adaptive;
+    private final Map<String, Integer> phaseCaps;
+    private final Sampler sampler;
+    private final Map<String, Integer> phaseInFlight = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Parked> parked = new ArrayDeque<>();
+    private int limit;
+    private int inFlight;
+    private long lastSample;
+
+    StepThrottle(int maxPermits, boolean adaptive, Map<String, Integer> phaseCaps, Sampler sampler) {
+        this.maxPermits = Math.max(1, maxPermits);
+        this.adaptive = adaptive;
+        this.phaseCaps = phaseCaps;
+        this.sampler = sampler;
+        this.limit = this.maxPermits;
+        this.lastSample = System.nanoTime();
+    }
+
+    /**
+     * Creates the throttle for the given session, or returns {@code null} if neither the adaptive mode nor any
+     * per-phase cap is configured.
+     */
+    static StepThrottle of(MavenSession session, int threads) {
+        if (session.getRepositorySession() == null) {
+            return null;
+        }
+        boolean adaptive =
+                ConfigUtils.getBoolean(session.getRepositorySession(), false, Constants.MAVEN_BUILDER_ADAPTIVE);
+        Map<String, Integer> caps = parsePhaseCaps(
+                ConfigUtils.getString(session.getRepositorySession(), null, Constants.MAVEN_BUILDER_PHASE_CONCURRENCY));
+        if (!adaptive && caps.isEmpty()) {
+            return null;
+        }
+        return new StepThrottle(threads, adaptive, caps, new JmxSampler());
+    }
+
+    static Map<String, Integer> parsePhaseCaps(String value) {
+        Map<String, Integer> caps = new HashMap<>();
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                entry = entry.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                int idx = entry.indexOf('=');
+                if (idx <= 0) {
+                    throw new IllegalArgumentException("Invalid " + Constants.MAVEN_BUILDER_PHASE_CONCURRENCY
+                            + " entry '" + entry + "', expected phase=count");
+                }
+                try {
+                    int cap = Integer.parseInt(entry.substring(idx + 1).trim());
+                    if (cap < 1) {
+                        throw new NumberFormatException();
+                    }
+                    caps.put(entry.substring(0, idx).trim(), cap);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid " + Constants.MAVEN_BUILDER_PHASE_CONCURRENCY
+                            + " entry '" + entry + "', the count must be a positive integer");
+                }
+            }
+        }
+        return caps;
+    }
+
+    static String phase(String step) {
+        for (String prefix : new String[] {BEFORE, AFTER, AT}) {
+            if (step.startsWith(prefix)) {
+                return step.substring(prefix.length());
+            }
+        }
+        return step;
+    }
+
+    /**
+     * Executes the given task with a permit for the given step: immediately on the calling thread if a permit is
+     * available, or later, through the given executor, once a permit has been released for it.
+     *
+     * @param step the name of the step
+     * @param executor the executor to submit the task to if it has to wait for a permit
+     * @param task the task executing the step, which must close the permit once the step is executed
+     */
+    void execute(String step, Executor executor, Consumer<Permit> task) {
+        String phase = phase(step);
+        Permit permit = null;
+        List<Runnable> runnables;
+        lock.lock();
+        try {
+            // the step counts as waiting for the adaptive limit to be raised
+            adjust(parked.size() + 1);
+            // the steps parked first get the permits freed by a raised limit first
+            runnables = unpark();
+            if (fits(phase)) {
+                permit = grant(phase, false);
+            } else {
+                parked.addLast(new Parked(phase, executor, task));
+            }
+        } finally {
+            lock.unlock();
+        }
+        runnables.forEach(Runnable::run);
+        if (permit != null) {
+            task.accept(permit);
+        }
+    }
+
+    private boolean fits(String phase) {
+        Integer cap = phaseCaps.get(phase);
+        return inFlight < limit && (cap == null || phaseInFlight.getOrDefault(phase, 0) < cap);
+    }
+
+    private Permit grant(String phase, boolean waited) {
+        inFlight++;
+        phaseInFlight.merge(phase, 1, Integer::sum);
+        return new Permit(phase, waited);
+    }
+
+    /**
+     * Grants a permit to the parked steps that fit, in order. Must be called with the lock held.
+     */
+    private List<Runnable> unpark() {
+        List<Runnable> runnables = new ArrayList<>();
+        for (Iterator<Parked> it = parked.iterator(); it.hasNext() && inFlight < limit; ) {
+            Parked p = it.next();
+            if (fits(p.phase)) {
+                it.remove();
+                Permit permit = grant(p.phase, true);
+                runnables.add(() -> p.executor.execute(() -> p.task.accept(permit)));
+            }
+        }
+        return runnables;
+    }
+
+    private void release(String phase) {
+        List<Runnable> runnables;
+        lock.lock();
+        try {
+            inFlight--;
+            phaseInFlight.merge(phase, -1, Integer::sum);
+            adjust(parked.size());
+            runnables = unpark();
+        } finally {
+            lock.unlock();
+        }
+        runnables.forEach(Runnable::run);
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adapts the global limit to the resource usage, at most once per sample interval. Must be called with the
+     * lock held. A raised limit is used by the next acquisitions and releases.
+     */
+    private void adjust(int waiting) {
+        if (!adaptive) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastSample < SAMPLE_INTERVAL) {
+            return;
+        }
+        lastSample = now;
+        double heap = sampler.heapUsage();
+        double cpu = sampler.cpuLoad();
+        int newLimit = limit;
+        if (heap >= HEAP_CRITICAL) {
+            newLimit = Math.max(1, limit / 2);
+        } else if (heap >= HEAP_HIGH || cpu >= CPU_SATURATED) {
+            newLimit = Math.max(1, limit - 1);
+        } else if (waiting > 0 && heap < HEAP_LOW && cpu >= 0 && cpu < CPU_LOW) {
+            newLimit = Math.min(maxPermits, limit + 1);
+        }
+        if (newLimit != limit) {
+            LOGGER.debug(
+                    "Adjusting the number of concurrent build steps from {} to {} (cpu: {}%, heap: {}%)",
+                    limit, newLimit, Math.round(cpu * 100), Math.round(heap * 100));
+            limit = newLimit;
+        }
+    }
+
+    /**
+     * Forces the next adjustment of the limit to sample the resource usage.
+     */
+    void expireSample() {
+        lock.lock();
+        try {
+            lastSample = System.nanoTime() - SAMPLE_INTERVAL;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Samples the resource usage and adapts the limit immediately.
+     */
+    void sample() {
+        lock.lock();
+        try {
+            lastSample = System.nanoTime() - SAMPLE_INTERVAL;
+            adjust(parked.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A permit to execute a step, released when closed.
+     */
+    final class Permit implements AutoCloseable {
+        private final String phase;
+        private final boolean waited;
+        private boolean closed;
+
+        Permit(String phase, boolean waited) {
+            this.phase = phase;
+            this.waited = waited;
+        }
+
+        /**
+         * @return {@code true} if the step has been parked before getting this permit
+         */
+        boolean waited() {
+            return waited;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(phase);
+            }
+        }
+    }
+
+    private record Parked(String phase, Executor executor, Consumer<Permit> task) {}
+
+    static class JmxSampler implements Sampler {
+        private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+        @Override
+        public double cpuLoad() {
+            if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+                return sunOs.getCpuLoad();
+            }
+            double load = os.getSystemLoadAverage();
+            return load >= 0 ? load / os.getAvailableProcessors() : -1;
+        }
+
+        @Override
+        public double heapUsage() {
+            // the heap retained after the last collections approximates the live set
+            Runtime rt = Runtime.getRuntime();
+            long used = 0;
+            boolean collected = false;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    MemoryUsage collection = pool.getCollectionUsage();
+                    if (collection != null && collection.getUsed() > 0) {
+                        used += collection.getUsed();
+                        collected = true;
+                    }
+                }
+            }
+            if (!collected) {
+                used = rt.totalMemory() - rt.freeMemory();
+            }
+            return (double) used / rt.maxMemory();
+        }
+    }
+}
@@ -0,0 +1,1027 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.xml.stream.XMLStreamException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.model.DistributionManagement;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Parent;
+import org.apache.maven.api.model.Relocation;
+import org.apache.maven.internal.impl.resolver.MavenWorkspaceReader;
+import org.apache.maven.internal.impl.resolver.RelocatedArtifact;
+import org.apache.maven.model.v4.MavenStaxReader;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.AuthenticationSelector;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.ProxySelector;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.FileUtils;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.VersionConstraint;
+import org.eclipse.aether.version.VersionScheme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the collected dependency graphs in the {@code .cache/dependency-graphs} directory of the local repository,
+ * when {@link Constants#MAVEN_RESOLVER_GRAPH_CACHE} is enabled.
+ * <p>
+ * A graph is keyed by a digest of everything the collection depends on: the dependencies, dependency management and
+ * repositories of the request, the components and resolver configuration of the session, the user properties and
+ * the Java and OS versions. Along with the graph, the size and modification time of the POM of each node, of its
+ * parents and of the BOMs they import are recorded, or the dependency metadata of its model for the projects of the
+ * reactor, so that the graph is collected again as soon as one of them changes. Graphs depending on snapshots, version
+ * ranges or {@code LATEST} and {@code RELEASE} versions also record the metadata files their versions are resolved
+ * from, and are only reused the day they have been collected, unless offline, and never when updates are forced.
+ * <p>
+ * Graphs collected in verbose mode, as when debugging, are never cached. Graphs not used for 30 days are deleted.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class DefaultDependencyGraphCache implements DependencyGraphCache {
+
+    private static final String MAGIC = "maven-dependency-graph";
+
+    private static final int FORMAT = 2;
+
+    private static final String DIRECTORY = ".cache/dependency-graphs";
+
+    private static final String MISSING = "missing";
+
+    private static final String LATEST = "LATEST";
+
+    private static final String RELEASE = "RELEASE";
+
+    private static final Model MISSING_MODEL = Model.newInstance();
+
+    private static final int MAX_INTERPOLATIONS = 32;
+
+    private static final String PRUNED = ".pruned";
+
+    private static final Duration PRUNE_INTERVAL = Duration.ofDays(1);
+
+    /**
+     * The age after which the graphs not used anymore are deleted.
+     */
+    private static final Duration MAX_AGE = Duration.ofDays(30);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final VersionScheme versionScheme;
+
+    @Inject
+    public DefaultDependencyGraphCache(VersionScheme versionScheme) {
+        this.versionScheme = versionScheme;
+    }
+
+    /**
+     * The key of a graph, i.e. the digest of the inputs of its collection.
+     */
+    protected static class CacheKey implements Key {
+
+        private final String digest;
+
+        public CacheKey(String digest) {
+            this.digest = Objects.requireNonNull(digest, "digest cannot be null");
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey that && digest.equals(that.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return digest.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return digest;
+        }
+    }
+
+    @Override
+    public Key createKey(RepositorySystemSession session, CollectRequest request) {
+        if (!ConfigUtils.getBoolean(session, false, Constants.MAVEN_RESOLVER_GRAPH_CACHE)
+                || isVerbose(session, DependencyManagerUtils.CONFIG_PROP_VERBOSE)
+                || isVerbose(session, ConflictResolver.CONFIG_PROP_VERBOSE)) {
+            return null;
+        }
+
+        Digester digester = new Digester().add(MAGIC).add(FORMAT);
+        for (String property : List.of("maven.version", "java.version", "os.name", "os.arch", "os.version")) {
+            digester.add(session.getSystemProperties().get(property));
+        }
+
+        digester.add(request.getRequestContext());
+        digester.add(request.getRootArtifact());
+        digester.add(request.getRoot());
+        digester.add(request.getDependencies().size());
+        request.getDependencies().forEach(digester::add);
+        digester.add(request.getManagedDependencies().size());
+        request.getManagedDependencies().forEach(digester::add);
+        digester.add(request.getRepositories().size());
+        request.getRepositories().forEach(digester::add);
+
+        Stream.of(
+                        session.getDependencyManager(),
+                        session.getDependencySelector(),
+                        session.getDependencyTraverser(),
+                        session.getVersionFilter(),
+                        session.getDependencyGraphTransformer())
+                .map(component -> component != null ? component.getClass().getName() : null)
+                .forEach(digester::add);
+
+        Map<String, Object> configuration = new TreeMap<>();
+        session.getConfigProperties().forEach((key, value) -> {
+            if ((key.startsWith("aether.") || key.startsWith("maven.resolver."))
+                    && (value instanceof String || value instanceof Number || value instanceof Boolean)) {
+                configuration.put(key, value);
+            }
+        });
+        digester.add(configuration);
+        digester.add(new TreeMap<>(session.getUserProperties()));
+
+        return new CacheKey(digester.hex());
+    }
+
+    private static boolean isVerbose(RepositorySystemSession session, String key) {
+        Object value = session.getConfigProperties().get(key);
+        return value != null && !Boolean.FALSE.equals(value) && !"false".equalsIgnoreCase(value.toString());
+    }
+
+    @Override
+    public DependencyNode get(RepositorySystemSession session, Key key) {
+        Path file = file(session, key);
+        if (!Files.isRegularFile(file)) {
+            logger.debug("Dependency graph {} not cached", key);
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!MAGIC.equals(in.readUTF()) || in.readInt() != FORMAT) {
+                logger.debug("Dependency graph {} cached in an unsupported format", key);
+                return null;
+            }
+
+            long created = in.readLong();
+            boolean updatable = in.readBoolean();
+            if (updatable
+                    && !session.isOffline()
+                    && (RepositoryPolicy.UPDATE_POLICY_ALWAYS.equals(session.getMetadataUpdatePolicy())
+                            || created < startOfToday())) {
+                logger.debug("Dependency graph {} depends on snapshots or version ranges to update", key);
+                return null;
+            }
+
+            Map<String, String> files = readMap(in);
+            for (Map.Entry<String, String> entry : files.entrySet()) {
+                if (!entry.getValue().equals(stamp(Path.of(entry.getKey())))) {
+                    logger.debug("Dependency graph {} invalidated by {}", key, entry.getKey());
+                    return null;
+                }
+            }
+            Map<String, String> directories = readMap(in);
+            for (Map.Entry<String, String> entry : directories.entrySet()) {
+                if (!entry.getValue().equals(listing(Path.of(entry.getKey())))) {
+                    logger.debug("Dependency graph {} invalidated by the metadata of {}", key, entry.getKey());
+                    return null;
+                }
+            }
+            Map<String, String> workspace = readMap(in);
+            if (!workspace.isEmpty()) {
+                if (!(session.getWorkspaceReader() instanceof MavenWorkspaceReader reader)) {
+                    return null;
+                }
+                for (Map.Entry<String, String> entry : workspace.entrySet()) {
+                    Model model = reader.findModel(new DefaultArtifact(entry.getKey()));
+                    if (model == null || !entry.getValue().equals(digest(model))) {
+                        logger.debug("Dependency graph {} invalidated by project {}", key, entry.getKey());
+                        return null;
+                    }
+                }
+            }
+
+            DependencyNode root = new GraphReader(session, in).read();
+            logger.debug("Dependency graph {} read from the cache", key);
+            touch(file);
+            return root;
+        } catch (IOException | RuntimeException | InvalidVersionSpecificationException e) {
+            logger.debug("Unable to read the cached dependency graph {}: {}", key, e.toString());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(RepositorySystemSession session, Key key, DependencyNode root) {
+        Graph graph = new Graph(root);
+
+        boolean updatable = false;
+        Map<String, String> files = new LinkedHashMap<>();
+        Map<String, String> directories = new LinkedHashMap<>();
+        Map<String, String> workspace = new LinkedHashMap<>();
+        Map<Path, Model> ancestors = new HashMap<>();
+        WorkspaceReader workspaceReader = session.getWorkspaceReader();
+        for (DependencyNode node : graph.nodes) {
+            Artifact artifact = node.getArtifact();
+            if (node == root || artifact == null) {
+                continue;
+            }
+            Artifact pom = new DefaultArtifact(
+                    artifact.getGroupId(), artifact.getArtifactId(), "pom", artifact.getBaseVersion());
+
+            if (workspaceReader instanceof MavenWorkspaceReader reader) {
+                Model model = reader.findModel(pom);
+                if (model != null) {
+                    workspace.put(ArtifactIdUtils.toId(pom), digest(model));
+                    continue;
+                }
+            }
+            Path path = locate(session, pom, node);
+            if (files.putIfAbsent(path.toString(), stamp(path)) == null
+                    && !trackAncestors(session, node, path, ancestors, files, workspace)) {
+                logger.debug("Dependency graph {} not cached: the imports of {} cannot be located", key, pom);
+                return;
+            }
+
+            if (artifact.isSnapshot()) {
+                updatable = true;
+                directories.put(path.getParent().toString(), listing(path.getParent()));
+            }
+            if (isUpdatable(node.getVersionConstraint())) {
+                updatable = true;
+                Path versions = path.getParent().getParent();
+                directories.put(versions.toString(), listing(versions));
+            }
+        }
+
+        Path file = file(session, key);
+        prune(file.getParent().getParent());
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileUtils.CollocatedTempFile tempFile = FileUtils.newTempFile(file)) {
+                try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.getPath())))) {
+                    out.writeUTF(MAGIC);
+                    out.writeInt(FORMAT);
+                    out.writeLong(System.currentTimeMillis());
+                    out.writeBoolean(updatable);
+                    writeMap(out, files);
+                    writeMap(out, directories);
+                    writeMap(out, workspace);
+                    graph.write(out);
+                }
+                tempFile.move();
+            }
+            logger.debug("Dependency graph {} written to the cache", key);
+        } catch (IOException e) {
+            logger.debug("Unable to cache the dependency graph {}: {}", key, e.toString());
+        }
+    }
+
+    /**
+     * Versions resolved from the repository metadata, which change as new versions are deployed.
+     */
+    private static boolean isUpdatable(VersionConstraint constraint) {
+        if (constraint == null) {
+            return false;
+        }
+        if (constraint.getRange() != null) {
+            return true;
+        }
+        String version = String.valueOf(constraint.getVersion());
+        return LATEST.equals(version) || RELEASE.equals(version);
+    }
+
+    /**
+     * Records the stamps of the parents and imported BOMs of the given POM, and of their own parents and imports, as
+     * the dependencies of a node are inherited and imported from them. Their raw models are read, and the versions of
+     * the imports are interpolated with the properties of the models inheriting them.
+     *
+     * @return {@code false} if the version of an import cannot be interpolated
+     */
+    private boolean trackAncestors(
+            RepositorySystemSession session,
+            DependencyNode node,
+            Path pom,
+            Map<Path, Model> models,
+            Map<String, String> files,
+            Map<String, String> workspace) {
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.push(pom);
+        while (!pending.isEmpty()) {
+            List<Model> lineage = new ArrayList<>();
+            Map<String, String> properties = new HashMap<>();
+            Path current = pending.pop();
+            while (current != null) {
+                Model model = models.computeIfAbsent(current, DefaultDependencyGraphCache::readRawModel);
+                if (model == MISSING_MODEL || lineage.contains(model)) {
+                    break;
+                }
+                lineage.add(model);
+                model.getProperties().forEach(properties::putIfAbsent);
+                Parent parent = model.getParent();
+                current = null;
+                if (parent != null) {
+                    Artifact artifact = new DefaultArtifact(
+                            parent.getGroupId(), parent.getArtifactId(), "pom", parent.getVersion());
+                    Model project = findProject(session, artifact);
+                    if (project != null) {
+                        // inherited from a project of the reactor, whose model is already effective
+                        workspace.put(ArtifactIdUtils.toId(artifact), digest(project));
+                        project.getProperties().forEach(properties::putIfAbsent);
+                    } else {
+                        current = locate(session, artifact, node);
+                        files.putIfAbsent(current.toString(), stamp(current));
+                    }
+                }
+            }
+            if (lineage.isEmpty()) {
+                continue;
+            }
+            Model model = lineage.get(0);
+            Parent parent = model.getParent();
+            String version =
+                    model.getVersion() != null ? model.getVersion() : parent != null ? parent.getVersion() : null;
+            properties.put("project.version", version);
+            properties.put("pom.version", version);
+            properties.put("version", version);
+            properties.put(
+                    "project.groupId",
+                    model.getGroupId() != null ? model.getGroupId() : parent != null ? parent.getGroupId() : null);
+            if (parent != null) {
+                properties.put("project.parent.version", parent.getVersion());
+                properties.put("project.parent.groupId", parent.getGroupId());
+            }
+            for (Model ancestor : lineage) {
+                if (ancestor.getDependencyManagement() == null) {
+                    continue;
+                }
+                for (org.apache.maven.api.model.Dependency dependency :
+                        ancestor.getDependencyManagement().getDependencies()) {
+                    if (!"import".equals(dependency.getScope()) || !"pom".equals(dependency.getType())) {
+                        continue;
+                    }
+                    String groupId = interpolate(dependency.getGroupId(), properties);
+                    String artifactId = interpolate(dependency.getArtifactId(), properties);
+                    String bomVersion = interpolate(dependency.getVersion(), properties);
+                    if (groupId == null || artifactId == null || bomVersion == null) {
+                        return false;
+                    }
+                    Artifact artifact = new DefaultArtifact(groupId, artifactId, "pom", bomVersion);
+                    Model project = findProject(session, artifact);
+                    if (project != null) {
+                        workspace.put(ArtifactIdUtils.toId(artifact), digest(project));
+                        continue;
+                    }
+                    Path bom = locate(session, artifact, node);
+                    if (files.putIfAbsent(bom.toString(), stamp(bom)) == null) {
+                        pending.push(bom);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Model findProject(RepositorySystemSession session, Artifact pom) {
+        return session.getWorkspaceReader() instanceof MavenWorkspaceReader reader ? reader.findModel(pom) : null;
+    }
+
+    /**
+     * Locates the POM of an artifact in the workspace, or in the local repository.
+     */
+    private static Path locate(RepositorySystemSession session, Artifact pom, DependencyNode node) {
+        WorkspaceReader workspaceReader = session.getWorkspaceReader();
+        File file = workspaceReader != null ? workspaceReader.findArtifact(pom) : null;
+        return file != null ? file.toPath() : pomPath(session, pom, node);
+    }
+
+    private static Model readRawModel(Path pom) {
+        try (InputStream in = Files.newInputStream(pom)) {
+            MavenStaxReader reader = new MavenStaxReader();
+            reader.setAddLocationInformation(false);
+            return reader.read(in, false, null);
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            // the stamp of the POM is recorded, it is read again once it changes
+            return MISSING_MODEL;
+        }
+    }
+
+    /**
+     * Interpolates the given value with the given properties.
+     *
+     * @return the interpolated value, or {@code null} if it references an unknown property
+     */
+    private static String interpolate(String value, Map<String, String> properties) {
+        String interpolated = value;
+        for (int i = 0; interpolated != null && interpolated.contains("${") && i < MAX_INTERPOLATIONS; i++) {
+            int start = interpolated.indexOf("${");
+            int end = interpolated.indexOf('}', start);
+            String replacement = end > start ? properties.get(interpolated.substring(start + 2, end)) : null;
+            interpolated = replacement != null
+                    ? interpolated.substring(0, start) + replacement + interpolated.substring(end + 1)
+                    : null;
+        }
+        return interpolated != null && !interpolated.contains("${") ? interpolated : null;
+    }
+
+    /**
+     * Deletes the graphs which have not been used for {@link #MAX_AGE}, at most once a day.
+     */
+    private void prune(Path directory) {
+        Path marker = directory.resolve(PRUNED);
+        long now = System.currentTimeMillis();
+        try {
+            if (Files.exists(marker)
+                    && Files.getLastModifiedTime(marker).toMillis() > now - PRUNE_INTERVAL.toMillis()) {
+                return;
+            }
+            Files.createDirectories(directory);
+            Files.write(marker, new byte[0]);
+            long threshold = now - MAX_AGE.toMillis();
+            try (Stream<Path> files = Files.walk(directory, 2)) {
+                files.filter(file -> !file.equals(marker) && Files.isRegularFile(file))
+                        .forEach(file -> {
+                            try {
+                                if (Files.getLastModifiedTime(file).toMillis() < threshold) {
+                                    Files.deleteIfExists(file);
+                                }
+                            } catch (IOException e) {
+                                // deleted concurrently, or in use
+                            }
+                        });
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to prune the cached dependency graphs: {}", e.toString());
+        }
+    }
+
+    private Path file(RepositorySystemSession session, Key key) {
+        String digest = key.toString();
+        return session.getLocalRepository()
+                .getBasePath()
+                .resolve(DIRECTORY)
+                .resolve(digest.substring(0, 2))
+                .resolve(digest);
+    }
+
+    /**
+     * Marks a graph as used, so that it is not pruned.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // the graph may be pruned and collected again
+        }
+    }
+
+    private static long startOfToday() {
+        return LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Path pomPath(RepositorySystemSession session, Artifact pom, DependencyNode node) {
+        LocalRepositoryManager manager = session.getLocalRepositoryManager();
+        Path local = manager.getAbsolutePathForLocalArtifact(pom);
+        if (!Files.exists(local)) {
+            for (RemoteRepository repository : node.getRepositories()) {
+                Path remote = manager.getAbsolutePathForRemoteArtifact(pom, repository, node.getRequestContext());
+                if (Files.exists(remote)) {
+                    return remote;
+                }
+            }
+        }
+        return local;
+    }
+
+    private static String stamp(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * Lists the size and modification time of the repository metadata files of the given directory.
+     */
+    private static String listing(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            StringBuilder listing = new StringBuilder();
+            files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith("maven-metadata") && name.endsWith(".xml");
+                    })
+                    .sorted()
+                    .forEach(file -> listing.append(file.getFileName())
+                            .append('=')
+                            .append(stamp(file))
+                            .append('\n'));
+            return listing.toString();
+        } catch (NoSuchFileException e) {
+            return MISSING;
+        } catch (IOException e) {
+            return e.toString();
+        }
+    }
+
+    /**
+     * Digests the dependency metadata of a project of the workspace.
+     */
+    private static String digest(Model model) {
+        Digester digester = new Digester()
+                .add(model.getGroupId())
+                .add(model.getArtifactId())
+                .add(model.getVersion())
+                .add(model.getPackaging());
+        digester.add(model.getDependencies().size());
+        model.getDependencies().forEach(digester::add);
+        if (model.getDependencyManagement() != null) {
+            digester.add(model.getDependencyManagement().getDependencies().size());
+            model.getDependencyManagement().getDependencies().forEach(digester::add);
+        }
+        model.getRepositories()
+                .forEach(repository -> digester.add(repository.getId()).add(repository.getUrl()));
+        DistributionManagement distributionManagement = model.getDistributionManagement();
+        Relocation relocation = distributionManagement != null ? distributionManagement.getRelocation() : null;
+        if (relocation != null) {
+            digester.add(relocation.getGroupId())
+                    .add(relocation.getArtifactId())
+                    .add(relocation.getVersion())
+                    .add(relocation.getMessage());
+        }
+        return digester.hex();
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes a SHA-256 digest of length prefixed values, so that distinct sequences of values never collide.
+     */
+    private static final class Digester {
+
+        private final MessageDigest digest;
+
+        Digester() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Digester add(String value) {
+            if (value == null) {
+                add(-1);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                add(bytes.length);
+                digest.update(bytes);
+            }
+            return this;
+        }
+
+        Digester add(int value) {
+            digest.update((byte) (value >>> 24));
+            digest.update((byte) (value >>> 16));
+            digest.update((byte) (value >>> 8));
+            digest.update((byte) value);
+            return this;
+        }
+
+        Digester add(Map<String, ?> map) {
+            add(map.size());
+            map.forEach((key, value) -> add(key).add(String.valueOf(value)));
+            return this;
+        }
+
+        Digester add(Artifact artifact) {
+            if (artifact == null) {
+                return add((String) null);
+            }
+            return add(artifact.getGroupId())
+                    .add(artifact.getArtifactId())
+                    .add(artifact.getClassifier())
+                    .add(artifact.getExtension())
+                    .add(artifact.getVersion())
+                    .add(new TreeMap<>(artifact.getProperties()));
+        }
+
+        Digester add(Dependency dependency) {
+            if (dependency == null) {
+                return add((String) null);
+            }
+            add(dependency.getArtifact()).add(dependency.getScope()).add(String.valueOf(dependency.getOptional()));
+            add(dependency.getExclusions().size());
+            for (Exclusion exclusion : dependency.getExclusions()) {
+                add(exclusion.getGroupId())
+                        .add(exclusion.getArtifactId())
+                        .add(exclusion.getClassifier())
+                        .add(exclusion.getExtension());
+            }
+            return this;
+        }
+
+        Digester add(org.apache.maven.api.model.Dependency dependency) {
+            add(dependency.getGroupId())
+                    .add(dependency.getArtifactId())
+                    .add(dependency.getVersion())
+                    .add(dependency.getType())
+                    .add(dependency.getClassifier())
+                    .add(dependency.getScope())
+                    .add(dependency.getOptional());
+            add(dependency.getExclusions().size());
+            dependency.getExclusions().forEach(exclusion -> add(exclusion.getGroupId())
+                    .add(exclusion.getArtifactId()));
+            return this;
+        }
+
+        Digester add(RemoteRepository repository) {
+            add(repository.getId()).add(repository.getContentType()).add(repository.getUrl());
+            for (RepositoryPolicy policy : List.of(repository.getPolicy(false), repository.getPolicy(true))) {
+                add(String.valueOf(policy.isEnabled()))
+                        .add(policy.getArtifactUpdatePolicy())
+                        .add(policy.getMetadataUpdatePolicy())
+                        .add(policy.getChecksumPolicy());
+            }
+            add(String.valueOf(repository.isRepositoryManager())).add(String.valueOf(repository.isBlocked()));
+            add(repository.getMirroredRepositories().size());
+            repository.getMirroredRepositories().forEach(this::add);
+            return this;
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    /**
+     * The nodes of a graph, indexed in the order they are written, and the repositories they reference.
+     */
+    private static final class Graph {
+
+        private final List<DependencyNode> nodes = new ArrayList<>();
+
+        private final Map<DependencyNode, Integer> indexes = new IdentityHashMap<>();
+
+        private final Map<RemoteRepository, Integer> repositories = new LinkedHashMap<>();
+
+        Graph(DependencyNode root) {
+            Deque<DependencyNode> pending = new ArrayDeque<>();
+            index(root, pending);
+            while (!pending.isEmpty()) {
+                for (DependencyNode child : pending.pop().getChildren()) {
+                    index(child, pending);
+                }
+            }
+        }
+
+        private void index(DependencyNode node, Deque<DependencyNode> pending) {
+            if (indexes.putIfAbsent(node, nodes.size()) == null) {
+                nodes.add(node);
+                pending.push(node);
+                for (RemoteRepository repository : node.getRepositories()) {
+                    repositories.putIfAbsent(repository, repositories.size());
+                }
+            }
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(repositories.size());
+            for (RemoteRepository repository : repositories.keySet()) {
+                writeRepository(out, repository);
+            }
+            out.writeInt(nodes.size());
+            for (DependencyNode node : nodes) {
+                writeNode(out, node);
+            }
+            for (DependencyNode node : nodes) {
+                out.writeInt(node.getChildren().size());
+                for (DependencyNode child : node.getChildren()) {
+                    out.writeInt(indexes.get(child));
+                }
+            }
+        }
+
+        private void writeNode(DataOutputStream out, DependencyNode node) throws IOException {
+            Dependency dependency = node.getDependency();
+            out.writeBoolean(dependency != null);
+            if (dependency != null) {
+                writeArtifact(out, dependency.getArtifact());
+                writeString(out, dependency.getScope());
+                writeString(
+                        out,
+                        dependency.getOptional() != null
+                                ? dependency.getOptional().toString()
+                                : null);
+                out.writeInt(dependency.getExclusions().size());
+                for (Exclusion exclusion : dependency.getExclusions()) {
+                    writeString(out, exclusion.getGroupId());
+                    writeString(out, exclusion.getArtifactId());
+                    writeString(out, exclusion.getClassifier());
+                    writeString(out, exclusion.getExtension());
+                }
+            } else {
+                writeArtifact(out, node.getArtifact());
+            }
+            writeArtifacts(out, node.getRelocations());
+            writeArtifacts(out, node.getAliases());
+            writeString(
+                    out,
+                    node.getVersionConstraint() != null
+                            ? node.getVersionConstraint().toString()
+                            : null);
+            writeString(out, node.getVersion() != null ? node.getVersion().toString() : null);
+            out.writeInt(node.getManagedBits());
+            out.writeInt(node.getRepositories().size());
+            for (RemoteRepository repository : node.getRepositories()) {
+                out.writeInt(repositories.get(repository));
+            }
+            writeString(out, node.getRequestContext());
+        }
+
+        private static void writeArtifacts(DataOutputStream out, Collection<? extends Artifact> artifacts)
+                throws IOException {
+            out.writeInt(artifacts.size());
+            for (Artifact artifact : artifacts) {
+                writeArtifact(out, artifact);
+            }
+        }
+
+        private static void writeArtifact(DataOutputStream out, Artifact artifact) throws IOException {
+            out.writeBoolean(artifact != null);
+            if (artifact != null) {
+                writeString(out, artifact.getGroupId());
+                writeString(out, artifact.getArtifactId());
+                writeString(out, artifact.getClassifier());
+                writeString(out, artifact.getExtension());
+                writeString(out, artifact.getVersion());
+                writeMap(out, artifact.getProperties());
+                writeString(out, artifact instanceof RelocatedArtifact relocated ? relocated.getMessage() : null);
+            }
+        }
+
+        private static void writeRepository(DataOutputStream out, RemoteRepository repository) throws IOException {
+            writeString(out, repository.getId());
+            writeString(out, repository.getContentType());
+            writeString(out, repository.getUrl());
+            for (RepositoryPolicy policy : List.of(repository.getPolicy(false), repository.getPolicy(true))) {
+                out.writeBoolean(policy.isEnabled());
+                writeString(out, policy.getArtifactUpdatePolicy());
+                writeString(out, policy.getMetadataUpdatePolicy());
+                writeString(out, policy.getChecksumPolicy());
+            }
+            out.writeBoolean(repository.isRepositoryManager());
+            out.writeBoolean(repository.isBlocked());
+            out.writeInt(repository.getMirroredRepositories().size());
+            for (RemoteRepository mirrored : repository.getMirroredRepositories()) {
+                writeRepository(out, mirrored);
+            }
+        }
+    }
+
+    /**
+     * Reads a graph written by {@link Graph#write(DataOutputStream)}, using the authentication and proxies of the
+     * session for its repositories.
+     */
+    private final class GraphReader {
+
+        private final RepositorySystemSession session;
+
+        private final DataInputStream in;
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        GraphReader(RepositorySystemSession session, DataInputStream in) {
+            this.session = session;
+            this.in = in;
+        }
+
+        DependencyNode read() throws IOException, InvalidVersionSpecificationException {
+            int repositoryCount = in.readInt();
+            List<RemoteRepository> repositories = new ArrayList<>(repositoryCount);
+            for (int i = 0; i < repositoryCount; i++) {
+                repositories.add(authenticate(readRepository()));
+            }
+
+            int nodeCount = in.readInt();
+            List<DefaultDependencyNode> nodes = new ArrayList<>(nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                nodes.add(readNode(repositories));
+            }
+            for (DefaultDependencyNode node : nodes) {
+                int childCount = in.readInt();
+                List<DependencyNode> children = new ArrayList<>(childCount);
+                for (int i = 0; i < childCount; i++) {
+                    children.add(nodes.get(in.readInt()));
+                }
+                node.setChildren(children);
+            }
+            return nodes.get(0);
+        }
+
+        private DefaultDependencyNode readNode(List<RemoteRepository> repositories)
+                throws IOException, InvalidVersionSpecificationException {
+            DefaultDependencyNode node;
+            if (in.readBoolean()) {
+                Artifact artifact = readArtifact();
+                String scope = readString();
+                String optional = readString();
+                int exclusionCount = in.readInt();
+                List<Exclusion> exclusions = new ArrayList<>(exclusionCount);
+                for (int i = 0; i < exclusionCount; i++) {
+                    exclusions.add(new Exclusion(readString(), readString(), readString(), readString()));
+                }
+                node = new DefaultDependencyNode(new Dependency(
+                        artifact, scope, optional != null ? Boolean.valueOf(optional) : null, exclusions));
+            } else {
+                node = new DefaultDependencyNode(readArtifact());
+            }
+            node.setRelocations(readArtifacts());
+            node.setAliases(readArtifacts());
+            String constraint = readString();
+            if (constraint != null) {
+                node.setVersionConstraint(versionScheme.parseVersionConstraint(constraint));
+            }
+            String version = readString();
+            if (version != null) {
+                node.setVersion(versionScheme.parseVersion(version));
+            }
+            node.setManagedBits(in.readInt());
+            int repositoryCount = in.readInt();
+            List<RemoteRepository> nodeRepositories = new ArrayList<>(repositoryCount);
+            for (int i = 0; i < repositoryCount; i++) {
+                nodeRepositories.add(repositories.get(in.readInt()));
+            }
+            node.setRepositories(nodeRepositories);
+            node.setRequestContext(readString());
+            return node;
+        }
+
+        private List<Artifact> readArtifacts() throws IOException {
+            int count = in.readInt();
+            List<Artifact> artifacts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                artifacts.add(readArtifact());
+            }
+            return artifacts;
+        }
+
+        private Artifact readArtifact() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            Artifact artifact = new DefaultArtifact(
+                    readString(), readString(), readString(), readString(), readString(), readMap(in), (Path) null);
+            String message = readString();
+            return message != null ? new RelocatedArtifact(artifact, null, null, null, null, null, message) : artifact;
+        }
+
+        private RemoteRepository readRepository() throws IOException {
+            RemoteRepository.Builder builder = new RemoteRepository.Builder(readString(), readString(), readString());
+            builder.setReleasePolicy(readPolicy());
+            builder.setSnapshotPolicy(readPolicy());
+            builder.setRepositoryManager(in.readBoolean());
+            builder.setBlocked(in.readBoolean());
+            int mirroredCount = in.readInt();
+            for (int i = 0; i < mirroredCount; i++) {
+                builder.addMirroredRepository(readRepository());
+            }
+            return builder.build();
+        }
+
+        private RepositoryPolicy readPolicy() throws IOException {
+            return new RepositoryPolicy(in.readBoolean(), readString(), readString(), readString());
+        }
+
+        private RemoteRepository authenticate(RemoteRepository repository) {
+            RemoteRepository.Builder builder = new RemoteRepository.Builder(repository);
+            AuthenticationSelector authenticationSelector = session.getAuthenticationSelector();
+            if (authenticationSelector != null) {
+                builder.setAuthentication(authenticationSelector.getAuthentication(repository));
+            }
+            ProxySelector proxySelector = session.getProxySelector();
+            if (proxySelector != null) {
+                builder.setProxy(proxySelector.getProxy(repository));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Reads a string, sharing the instances of the coordinates repeated across the graph.
+         */
+        private String readString() throws IOException {
+            String value = DefaultDependencyGraphCache.readString(in);
+            return value != null ? strings.computeIfAbsent(value, v -> v) : null;
+        }
+    }
+}
@@ -40,12 +40,18 @@
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.ProjectCycleException;
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.SessionData;
 import org.apache.maven.api.model.Build;
 import org.apache.maven.api.model.Dependency;
@@ -73,6 +79,7 @@
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.bridge.MavenRepositorySystem;
 import org.apache.maven.internal.impl.InternalSession;
+import org.apache.maven.internal.impl.model.DirectoryProbeCache;
 import org.apache.maven.internal.impl.resolver.ArtifactDescriptorUtils;
 import org.apache.maven.model.building.DefaultModelProblem;
 import org.apache.maven.model.building.FileModelSource;
@@ -89,6 +96,7 @@
 import org.eclipse.aether.repository.WorkspaceRepository;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -316,9 +324,25 @@ class BuildSession implements AutoCloseable {
         private final RepositorySystemSession session;
         private final ModelBuilder.ModelBuilderSession modelBuilderSession;
         private final Map<String, MavenProject> projectIndex = new ConcurrentHashMap<>(256);
+        private final boolean locationTracking;
 
         BuildSession(ProjectBuildingRequest request) {
+            this(request, isLocationTracking(request));
+        }
+
+        /**
+         * Creates a session sharing the repository and model builder sessions of the given one, for the given request.
+         */
+        private BuildSession(BuildSession session, ProjectBuildingRequest request, boolean locationTracking) {
             this.request = request;
+            this.locationTracking = locationTracking;
+            this.session = session.session;
+            this.modelBuilderSession = session.modelBuilderSession;
+        }
+
+        BuildSession(ProjectBuildingRequest request, boolean locationTracking) {
+            this.request = request;
+            this.locationTracking = locationTracking;
             this.session =
                     RepositoryUtils.overlay(request.getLocalRepository(), request.getRepositorySession(), repoSystem);
             InternalSession iSession = InternalSession.from(session);
@@ -362,7 +386,7 @@ ProjectBuildingResult build(Path pomFile, ModelSource modelSource) throws Projec
                             .build();
 
                     if (pomFile != null) {
-                        project.setRootDirectory(rootLocator.findRoot(pomFile.getParent()));
+                        project.setRootDirectory(findRoot(pomFile.getParent()));
                     }
 
                     ModelBuilderResult result;
@@ -451,6 +475,9 @@ List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive) throws
             if (results.stream()
                     .flatMap(r -> r.getProblems().stream())
                     .anyMatch(p -> p.getSeverity() != org.apache.maven.model.building.ModelProblem.Severity.WARNING)) {
+                if (!locationTracking) {
+                    results = withLocations(results);
+                }
                 org.apache.maven.model.building.ModelProblem cycle = results.stream()
                         .flatMap(r -> r.getProblems().stream())
                         .filter(p -> p.getException() instanceof CycleDetectedException)
@@ -467,6 +494,30 @@ List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive) throws
             return results;
         }
 
+        /**
+         * Reads the projects which failed to build again with their locations, for their errors to be reported with
+         * line numbers. The projects of the reactor remain known to the model builder session, so that these are built
+         * on their own.
+         */
+        private List<ProjectBuildingResult> withLocations(List<ProjectBuildingResult> results) {
+            BuildSession session = new BuildSession(this, request, true);
+            List<ProjectBuildingResult> located = new ArrayList<>(results.size());
+            for (ProjectBuildingResult result : results) {
+                File pomFile = result.getPomFile();
+                if (pomFile != null
+                        && result.getProblems().stream()
+                                .anyMatch(p -> p.getSeverity()
+                                        != org.apache.maven.model.building.ModelProblem.Severity.WARNING)) {
+                    result = session.doBuild(List.of(pomFile), false).stream()
+                            .filter(r -> pomFile.equals(r.getPomFile()))
+                            .findFirst()
+                            .orElse(result);
+                }
+                located.add(result);
+            }
+            return located;
+        }
+
         List<ProjectBuildingResult> doBuild(List<File> pomFiles, boolean recursive) {
             ClassLoader oldContextClassLoader = Thread.currentThread().getContextClassLoader();
             try {
@@ -490,7 +541,7 @@ private List<ProjectBuildingResult> build(File pomFile, boolean recursive) {
                 ModelBuilderRequest modelBuildingRequest = getModelBuildingRequest()
                         .source(ModelSource.fromPath(pomFile.toPath()))
                         .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
-                        .locationTracking(true)
+                        .locationTracking(locationTracking)
                         .recursive(recursive)
                         .lifecycleBindingsInjector(injector)
                         .build();
@@ -502,39 +553,90 @@ private List<ProjectBuildingResult> build(File pomFile, boolean recursive) {
                 }
             }
 
-            List<ProjectBuildingResult> results = new ArrayList<>();
             List<ModelBuilderResult> allModels = results(result).toList();
-            for (ModelBuilderResult r : allModels) {
-                List<ModelProblem> problems = new ArrayList<>(r.getProblems());
-                results(r)
-                        .filter(c -> c != r)
-                        .flatMap(c -> c.getProblems().stream())
-                        .forEach(problems::remove);
-                if (r.getEffectiveModel() != null) {
-                    File pom = r.getSource().getPath().toFile();
-                    MavenProject project =
-                            projectIndex.get(r.getEffectiveModel().getId());
-                    Path rootDirectory =
-                            rootLocator.findRoot(pom.getParentFile().toPath());
-                    project.setRootDirectory(rootDirectory);
-                    project.setFile(pom);
-                    project.setExecutionRoot(pom.equals(pomFile));
-                    initProject(project, r);
-                    project.setCollectedProjects(results(r)
-                            .filter(cr -> cr != r && cr.getEffectiveModel() != null)
-                            .map(cr -> projectIndex.get(cr.getEffectiveModel().getId()))
-                            .collect(Collectors.toList()));
-
-                    DependencyResolutionResult resolutionResult = null;
-                    if (request.isResolveDependencies()) {
-                        resolutionResult = resolveDependencies(project);
-                    }
-                    results.add(new DefaultProjectBuildingResult(project, convert(problems), resolutionResult));
-                } else {
-                    results.add(new DefaultProjectBuildingResult(null, convert(problems), null));
+            int parallelism = Math.min(getParallelism(), allModels.size());
+            if (parallelism <= 1) {
+                return allModels.stream().map(r -> build(pomFile, r)).collect(Collectors.toList());
+            }
+
+            // the projects are initialized concurrently, the realms being already created by the model builder
+            AtomicInteger threads = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+                Thread thread = new Thread(r, "maven-project-builder-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<ProjectBuildingResult>> futures = new ArrayList<>(allModels.size());
+                for (ModelBuilderResult r : allModels) {
+                    futures.add(executor.submit(() -> build(pomFile, r)));
                 }
+                List<ProjectBuildingResult> results = new ArrayList<>(futures.size());
+                for (Future<ProjectBuildingResult> future : futures) {
+                    results.add(get(future));
+                }
+                return results;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private Path findRoot(Path basedir) {
+            return DirectoryProbeCache.of(InternalSession.from(session)).findRoot(basedir, rootLocator::findRoot);
+        }
+
+        private ProjectBuildingResult build(File pomFile, ModelBuilderResult r) {
+            List<ModelProblem> problems = r.getOwnProblems();
+            if (r.getEffectiveModel() == null) {
+                return new DefaultProjectBuildingResult(null, convert(problems), null);
+            }
+
+            File pom = r.getSource().getPath().toFile();
+            MavenProject project = projectIndex.get(r.getEffectiveModel().getId());
+            Path rootDirectory = findRoot(pom.getParentFile().toPath());
+            project.setRootDirectory(rootDirectory);
+            project.setFile(pom);
+            project.setExecutionRoot(pom.equals(pomFile));
+            initProject(project, r);
+            project.setCollectedProjects(results(r)
+                    .filter(cr -> cr != r && cr.getEffectiveModel() != null)
+                    .map(cr -> projectIndex.get(cr.getEffectiveModel().getId()))
+                    .collect(Collectors.toList()));
+
+            DependencyResolutionResult resolutionResult = null;
+            if (request.isResolveDependencies()) {
+                resolutionResult = resolveDependencies(project);
+            }
+            return new DefaultProjectBuildingResult(project, convert(problems), resolutionResult);
+        }
+
+        private int getParallelism() {
+            int parallelism = Runtime.getRuntime().availableProcessors() / 2 + 1;
+            try {
+                String str = request.getUserProperties().getProperty(Constants.MAVEN_MODEL_BUILDER_PARALLELISM);
+                if (str != null) {
+                    parallelism = Integer.parseInt(str);
+                }
+            } catch (Exception e) {
+                // ignore
+            }
+            return Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors()));
+        }
+
+        private static <T> T get(Future<T> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
             }
-            return results;
         }
 
         private Stream<ModelBuilderResult> results(ModelBuilderResult result) {
@@ -730,43 +832,7 @@ private void initParent(MavenProject project, ModelBuilderResult result) {
 
                 MavenProject parent = projectIndex.get(parentModel.getId());
                 if (parent == null) {
-                    //
-                    // At this point the DefaultModelBuildingListener has fired and it populates the
-                    // remote repositories with those found in the pom.xml, along with the existing externally
-                    // defined repositories.
-                    //
-                    request.setRemoteRepositories(project.getRemoteArtifactRepositories());
-                    Path parentPomFile = parentModel.getPomFile();
-                    if (parentPomFile != null) {
-                        project.setParentFile(parentPomFile.toFile());
-                        try {
-                            parent = build(parentPomFile, ModelSource.fromPath(parentPomFile))
-                                    .getProject();
-                        } catch (ProjectBuildingException e) {
-                            // MNG-4488 where let invalid parents slide on by
-                            if (logger.isDebugEnabled()) {
-                                // Message below is checked for in the MNG-2199 core IT.
-                                logger.warn("Failed to build parent project for " + project.getId(), e);
-                            } else {
-                                // Message below is checked for in the MNG-2199 core IT.
-                                logger.warn("Failed to build parent project for " + project.getId());
-                            }
-                        }
-                    } else {
-                        Artifact parentArtifact = project.getParentArtifact();
-                        try {
-                            parent = build(parentArtifact, false).getProject();
-                        } catch (ProjectBuildingException e) {
-                            // MNG-4488 where let invalid parents slide on by
-                            if (logger.isDebugEnabled()) {
-                                // Message below is checked for in the MNG-2199 core IT.
-                                logger.warn("Failed to build parent project for " + project.getId(), e);
-                            } else {
-                                // Message below is checked for in the MNG-2199 core IT.
-                                logger.warn("Failed to build parent project for " + project.getId());
-                            }
-                        }
-                    }
+                    parent = buildParent(project, parentModel);
                 }
                 project.setParent(parent);
                 if (project.getParentFile() == null && parent != null) {
@@ -775,6 +841,55 @@ private void initParent(MavenProject project, ModelBuilderResult result) {
             }
         }
 
+        /**
+         * Builds a parent which is not part of the reactor, with a copy of the request using the remote repositories
+         * of the child, so that the parents of the projects initialized concurrently are built independently.
+         */
+        private MavenProject buildParent(MavenProject project, Model parentModel) {
+            MavenProject parent = null;
+            //
+            // At this point the DefaultModelBuildingListener has fired and it populates the
+            // remote repositories with those found in the pom.xml, along with the existing externally
+            // defined repositories.
+            //
+            ProjectBuildingRequest parentRequest = new DefaultProjectBuildingRequest(request);
+            parentRequest.setRemoteRepositories(project.getRemoteArtifactRepositories());
+            BuildSession parentSession = new BuildSession(this, parentRequest, locationTracking);
+            Path parentPomFile = parentModel.getPomFile();
+            if (parentPomFile != null) {
+                project.setParentFile(parentPomFile.toFile());
+                try {
+                    parent = parentSession
+                            .build(parentPomFile, ModelSource.fromPath(parentPomFile))
+                            .getProject();
+                } catch (ProjectBuildingException e) {
+                    // MNG-4488 where let invalid parents slide on by
+                    if (logger.isDebugEnabled()) {
+                        // Message below is checked for in the MNG-2199 core IT.
+                        logger.warn("Failed to build parent project for " + project.getId(), e);
+                    } else {
+                        // Message below is checked for in the MNG-2199 core IT.
+                        logger.warn("Failed to build parent project for " + project.getId());
+                    }
+                }
+            } else {
+                Artifact parentArtifact = project.getParentArtifact();
+                try {
+                    parent = parentSession.build(parentArtifact, false).getProject();
+                } catch (ProjectBuildingException e) {
+                    // MNG-4488 where let invalid parents slide on by
+                    if (logger.isDebugEnabled()) {
+                        // Message below is checked for in the MNG-2199 core IT.
+                        logger.warn("Failed to build parent project for " + project.getId(), e);
+                    } else {
+                        // Message below is checked for in the MNG-2199 core IT.
+                        logger.warn("Failed to build parent project for " + project.getId());
+                    }
+                }
+            }
+            return parent;
+        }
+
         private ModelBuilderRequest.ModelBuilderRequestBuilder getModelBuildingRequest() {
             ModelBuilderRequest.ModelBuilderRequestBuilder modelBuildingRequest = ModelBuilderRequest.builder();
 
@@ -835,6 +950,11 @@ private DependencyResolutionResult resolveDependencies(MavenProject project) {
         }
     }
 
+    private static boolean isLocationTracking(ProjectBuildingRequest request) {
+        return ConfigUtils.getBoolean(
+                request.getRepositorySession(), true, Constants.MAVEN_MODEL_BUILDER_LOCATION_TRACKING);
+    }
+
     private List<String> getProfileIds(List<Profile> profiles) {
         return profiles.stream().map(Profile::getId).collect(Collectors.toList());
     }
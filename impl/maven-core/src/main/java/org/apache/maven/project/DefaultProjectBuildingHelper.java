@@ -22,15 +22,19 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.api.xml.XmlNode;
@@ -65,11 +69,14 @@
 @Named
 @Singleton
 public class DefaultProjectBuildingHelper implements ProjectBuildingHelper {
+    private static final int LOCKS = 64;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final ClassRealmManager classRealmManager;
     private final ProjectRealmCache projectRealmCache;
     private final MavenRepositorySystem repositorySystem;
     private final MavenPluginManager pluginManager;
+    private final Object[] locks = new Object[LOCKS];
 
     @Inject
     public DefaultProjectBuildingHelper(
@@ -81,6 +88,7 @@ public DefaultProjectBuildingHelper(
         this.projectRealmCache = projectRealmCache;
         this.repositorySystem = repositorySystem;
         this.pluginManager = pluginManager;
+        Arrays.setAll(locks, i -> new Object());
     }
 
     public List<ArtifactRepository> createArtifactRepositories(
@@ -134,11 +142,9 @@ public List<ArtifactRepository> createArtifactRepositories(
         return artifactRepositories;
     }
 
-    public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
+    public ProjectRealmCache.CacheRecord createProjectRealm(
             MavenProject project, Model model, ProjectBuildingRequest request)
             throws PluginResolutionException, PluginVersionResolutionException, PluginManagerException {
-        ClassRealm projectRealm;
-
         List<Plugin> extensionPlugins = new ArrayList<>();
 
         Build build = model.getBuild();
@@ -171,7 +177,7 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
             return new ProjectRealmCache.CacheRecord(null, null);
         }
 
-        List<ClassRealm> extensionRealms = new ArrayList<>();
+        Set<ClassRealm> declaredRealms = new LinkedHashSet<>();
 
         Map<ClassRealm, List<String>> exportedPackages = new HashMap<>();
 
@@ -180,14 +186,20 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
         List<Artifact> publicArtifacts = new ArrayList<>();
 
         for (Plugin plugin : extensionPlugins) {
-            ExtensionRealmCache.CacheRecord recordRealm =
-                    pluginManager.setupExtensionsRealm(project, plugin, request.getRepositorySession());
+            ExtensionRealmCache.CacheRecord recordRealm;
+            // the realm of an extension is shared by the projects using it, whatever the version they declare
+            synchronized (lock(plugin.getGroupId() + ':' + plugin.getArtifactId())) {
+                recordRealm = pluginManager.setupExtensionsRealm(project, plugin, request.getRepositorySession());
+            }
 
             final ClassRealm extensionRealm = recordRealm.getRealm();
             final ExtensionDescriptor extensionDescriptor = recordRealm.getDescriptor();
             final List<Artifact> artifacts = recordRealm.getArtifacts();
 
-            extensionRealms.add(extensionRealm);
+            if (!declaredRealms.add(extensionRealm)) {
+                // the same extension declared twice, e.g. both as build extension and as plugin
+                continue;
+            }
             if (extensionDescriptor != null) {
                 exportedPackages.put(extensionRealm, extensionDescriptor.getExportedPackages());
                 exportedArtifacts.put(extensionRealm, extensionDescriptor.getExportedArtifacts());
@@ -205,16 +217,71 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
             }
         }
 
+        List<ClassRealm> extensionRealms = canonicalOrder(declaredRealms, exportedPackages);
+
         if (logger.isDebugEnabled()) {
             logger.debug("Extension realms for project " + model.getId() + ": " + extensionRealms);
         }
 
         ProjectRealmCache.Key projectRealmKey = projectRealmCache.createKey(extensionRealms);
 
+        ProjectRealmCache.CacheRecord record;
+        synchronized (lock(projectRealmKey)) {
+            record = createProjectRealm(
+                    projectRealmKey, model, extensionRealms, exportedPackages, exportedArtifacts, publicArtifacts);
+        }
+
+        projectRealmCache.register(project, projectRealmKey, record);
+
+        return record;
+    }
+
+    /**
+     * Orders the extension realms by id, so that projects declaring the same extensions in a different order share
+     * their project realm. The declaration order is kept if some realms export overlapping packages, as it then
+     * decides which realm provides the classes of these packages.
+     */
+    static List<ClassRealm> canonicalOrder(
+            Collection<ClassRealm> extensionRealms, Map<ClassRealm, List<String>> exportedPackages) {
+        List<String> exports = new ArrayList<>();
+        for (ClassRealm extensionRealm : extensionRealms) {
+            List<String> realmExports = exportedPackages.get(extensionRealm);
+            if (realmExports != null && !realmExports.isEmpty()) {
+                for (String export : new LinkedHashSet<>(realmExports)) {
+                    for (String other : exports) {
+                        if (export.startsWith(other) || other.startsWith(export)) {
+                            return new ArrayList<>(extensionRealms);
+                        }
+                    }
+                }
+                exports.addAll(realmExports);
+            }
+        }
+        List<ClassRealm> realms = new ArrayList<>(extensionRealms);
+        realms.sort(Comparator.comparing(ClassRealm::getId));
+        return realms;
+    }
+
+    /**
+     * Returns the monitor guarding the creation of the realms for the given key, so that projects using different
+     * extensions mostly create their realms concurrently. The monitors are striped, so that they do not retain the
+     * keys, and thus the realms, once built.
+     */
+    private Object lock(Object key) {
+        return locks[Math.floorMod(key.hashCode(), LOCKS)];
+    }
+
+    private ProjectRealmCache.CacheRecord createProjectRealm(
+            ProjectRealmCache.Key projectRealmKey,
+            Model model,
+            List<ClassRealm> extensionRealms,
+            Map<ClassRealm, List<String>> exportedPackages,
+            Map<ClassRealm, List<String>> exportedArtifacts,
+            List<Artifact> publicArtifacts) {
         ProjectRealmCache.CacheRecord record = projectRealmCache.get(projectRealmKey);
 
         if (record == null) {
-            projectRealm = classRealmManager.createProjectRealm(model, toAetherArtifacts(publicArtifacts));
+            ClassRealm projectRealm = classRealmManager.createProjectRealm(model, toAetherArtifacts(publicArtifacts));
 
             Set<String> exclusions = new LinkedHashSet<>();
 
@@ -247,13 +314,35 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
             }
 
             record = projectRealmCache.put(projectRealmKey, projectRealm, extensionArtifactFilter);
-        }
 
-        projectRealmCache.register(project, projectRealmKey, record);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Created project realm " + projectRealm.getId() + ": " + realmUsage(projectRealm));
+            }
+        }
 
         return record;
     }
 
+    /**
+     * Describes the number of realms of the class world of the given realm, by kind, and the metaspace they use.
+     */
+    private static String realmUsage(ClassRealm realm) {
+        Map<String, Integer> kinds = new TreeMap<>();
+        Collection<ClassRealm> realms = realm.getWorld().getRealms();
+        for (ClassRealm r : realms) {
+            int index = r.getId().indexOf('>');
+            kinds.merge(index > 0 ? r.getId().substring(0, index) : "other", 1, Integer::sum);
+        }
+        StringBuilder buffer = new StringBuilder(64);
+        buffer.append(realms.size()).append(" realms ").append(kinds);
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                buffer.append(", ").append(pool.getUsage().getUsed() >> 20).append(" MiB of metaspace used");
+            }
+        }
+        return buffer.toString();
+    }
+
     public void selectProjectRealm(MavenProject project) {
         ClassLoader projectRealm = project.getClassRealm();
 
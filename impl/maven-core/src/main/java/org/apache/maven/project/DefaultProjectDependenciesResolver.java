@@ -22,12 +22,20 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.DependencyScope;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Dependency;
@@ -41,10 +49,12 @@
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
 import org.eclipse.aether.util.graph.visitor.DependencyGraphDumper;
@@ -59,12 +69,16 @@ public class DefaultProjectDependenciesResolver implements ProjectDependenciesRe
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final RepositorySystem repoSystem;
     private final List<RepositorySessionDecorator> decorators;
+    private final DependencyGraphCache dependencyGraphCache;
 
     @Inject
     public DefaultProjectDependenciesResolver(
-            RepositorySystem repoSystem, List<RepositorySessionDecorator> decorators) {
+            RepositorySystem repoSystem,
+            List<RepositorySessionDecorator> decorators,
+            DependencyGraphCache dependencyGraphCache) {
         this.repoSystem = repoSystem;
         this.decorators = decorators;
+        this.dependencyGraphCache = dependencyGraphCache;
     }
 
     public DependencyResolutionResult resolve(DependencyResolutionRequest request)
@@ -150,10 +164,27 @@ public DependencyResolutionResult resolve(DependencyResolutionRequest request)
         DependencyRequest depRequest = new DependencyRequest(collect, filter);
         depRequest.setTrace(trace);
 
-        DependencyNode node;
+        SharedGraphs sharedGraphs = ConfigUtils.getBoolean(session, false, Constants.MAVEN_RESOLVER_GRAPH_SHARING)
+                ? (SharedGraphs)
+                        request.getRepositorySession().getData().computeIfAbsent(SharedGraphs.class, SharedGraphs::new)
+                : null;
+        SharedGraphKey sharedKey = sharedGraphs != null ? sharedGraphs.key(session, collect) : null;
+        DependencyNode node = sharedGraphs != null ? sharedGraphs.get(sharedKey, collect, project) : null;
         try {
-            collect.setTrace(RequestTrace.newChild(trace, depRequest));
-            node = repoSystem.collectDependencies(session, collect).getRoot();
+            if (node == null) {
+                DependencyGraphCache.Key cacheKey = dependencyGraphCache.createKey(session, collect);
+                node = cacheKey != null ? dependencyGraphCache.get(session, cacheKey) : null;
+                if (node == null) {
+                    collect.setTrace(RequestTrace.newChild(trace, depRequest));
+                    node = repoSystem.collectDependencies(session, collect).getRoot();
+                    if (cacheKey != null) {
+                        dependencyGraphCache.put(session, cacheKey, node);
+                    }
+                }
+                if (sharedGraphs != null) {
+                    sharedGraphs.put(sharedKey, node);
+                }
+            }
             result.setDependencyGraph(node);
         } catch (DependencyCollectionException e) {
             result.setDependencyGraph(e.getResult().getRoot());
@@ -196,6 +227,152 @@ public DependencyResolutionResult resolve(DependencyResolutionRequest request)
         return result;
     }
 
+    /**
+     * The inputs of the collection of a dependency graph, except its root.
+     */
+    record SharedGraphKey(
+            String requestContext,
+            List<org.eclipse.aether.graph.Dependency> dependencies,
+            List<org.eclipse.aether.graph.Dependency> managedDependencies,
+            List<org.eclipse.aether.repository.RemoteRepository> repositories,
+            List<Object> components,
+            ConfigProperties configProperties) {}
+
+    /**
+     * A copy of the configuration properties of a session, with its hash code computed once.
+     */
+    static final class ConfigProperties {
+        private final Map<String, Object> source;
+
+        private final Map<String, Object> properties;
+
+        private final int hashCode;
+
+        ConfigProperties(Map<String, Object> source) {
+            this.source = source;
+            this.properties = new HashMap<>(source);
+            this.hashCode = properties.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj
+                    || obj instanceof ConfigProperties other
+                            && hashCode == other.hashCode
+                            && properties.equals(other.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The dependency graphs collected in a session, shared by the projects with the same collection inputs.
+     */
+    static class SharedGraphs {
+        private final Logger logger = LoggerFactory.getLogger(getClass());
+
+        private final Map<SharedGraphKey, DependencyNode> graphs = new ConcurrentHashMap<>();
+
+        private final AtomicInteger shared = new AtomicInteger();
+
+        private final AtomicReference<ConfigProperties> configProperties = new AtomicReference<>();
+
+        SharedGraphKey key(RepositorySystemSession session, CollectRequest collect) {
+            return new SharedGraphKey(
+                    collect.getRequestContext(),
+                    List.copyOf(collect.getDependencies()),
+                    List.copyOf(collect.getManagedDependencies()),
+                    List.copyOf(collect.getRepositories()),
+                    Arrays.asList(
+                            session.getDependencyManager(),
+                            session.getDependencySelector(),
+                            session.getDependencyTraverser(),
+                            session.getVersionFilter(),
+                            session.getDependencyGraphTransformer(),
+                            session.getWorkspaceReader(),
+                            session.getLocalRepository()),
+                    configProperties(session.getConfigProperties()));
+        }
+
+        /**
+         * Returns the configuration properties of the session, copied once for all the projects resolved with the
+         * same session.
+         */
+        private ConfigProperties configProperties(Map<String, Object> properties) {
+            ConfigProperties last = configProperties.get();
+            if (last == null || last.source != properties) {
+                last = new ConfigProperties(properties);
+                configProperties.set(last);
+            }
+            return last;
+        }
+
+        /**
+         * Returns a copy of the graph collected with the same inputs, with the root of the given request.
+         */
+        DependencyNode get(SharedGraphKey key, CollectRequest collect, MavenProject project) {
+            DependencyNode graph = graphs.get(key);
+            if (graph == null) {
+                return null;
+            }
+            DefaultDependencyNode root = new DefaultDependencyNode(collect.getRootArtifact());
+            root.setRepositories(graph.getRepositories());
+            root.setRequestContext(graph.getRequestContext());
+            Map<DependencyNode, DependencyNode> copies = new IdentityHashMap<>();
+            copies.put(graph, root);
+            List<DependencyNode> children = new ArrayList<>(graph.getChildren().size());
+            for (DependencyNode child : graph.getChildren()) {
+                children.add(copy(child, copies));
+            }
+            root.setChildren(children);
+            // the root of a graph is excluded from it, so a graph referring to either root is specific to its root
+            for (DependencyNode node : copies.keySet()) {
+                if (node != graph
+                        && node.getArtifact() != null
+                        && (isSameArtifact(node.getArtifact(), graph.getArtifact())
+                                || isSameArtifact(node.getArtifact(), collect.getRootArtifact()))) {
+                    return null;
+                }
+            }
+            logger.debug(
+                    "Using the dependency graph collected for {} for project {} ({} graphs shared)",
+                    graph.getArtifact(),
+                    project.getId(),
+                    shared.incrementAndGet());
+            return root;
+        }
+
+        void put(SharedGraphKey key, DependencyNode graph) {
+            // keep a copy, as the resolution of the dependencies updates the nodes
+            graphs.putIfAbsent(key, copy(graph, new IdentityHashMap<>()));
+        }
+
+        private static boolean isSameArtifact(
+                org.eclipse.aether.artifact.Artifact artifact, org.eclipse.aether.artifact.Artifact other) {
+            return other != null
+                    && Objects.equals(artifact.getGroupId(), other.getGroupId())
+                    && Objects.equals(artifact.getArtifactId(), other.getArtifactId());
+        }
+
+        private static DependencyNode copy(DependencyNode node, Map<DependencyNode, DependencyNode> copies) {
+            DependencyNode copy = copies.get(node);
+            if (copy == null) {
+                copy = new DefaultDependencyNode(node);
+                copies.put(node, copy);
+                List<DependencyNode> children =
+                        new ArrayList<>(node.getChildren().size());
+                for (DependencyNode child : node.getChildren()) {
+                    children.add(copy(child, copies));
+                }
+                copy.setChildren(children);
+            }
+            return copy;
+        }
+    }
+
     private void process(DefaultDependencyResolutionResult result, Collection<ArtifactResult> results) {
         for (ArtifactResult ar : results) {
             DependencyNode node = ar.getRequest().getDependencyNode();
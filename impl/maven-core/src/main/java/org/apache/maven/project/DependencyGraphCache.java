@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DependencyNode;
+
+/**
+ * Caches the dependency graphs collected for projects. <strong>Warning:</strong> This is an internal utility
+ * interface that is only public for technical reasons, it is not part of the public API. In particular, this
+ * interface can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+public interface DependencyGraphCache {
+
+    /**
+     * A cache key.
+     */
+    interface Key {
+        // marker interface for cache keys
+    }
+
+    /**
+     * Creates the key of the graph collected for the given request.
+     *
+     * @param session the repository session the graph is collected with
+     * @param request the collect request
+     * @return the key, or {@code null} if the graph must not be cached
+     */
+    Key createKey(RepositorySystemSession session, CollectRequest request);
+
+    /**
+     * Returns the root of the cached graph, if it is still valid.
+     *
+     * @param session the repository session the graph is collected with
+     * @param key the key of the graph
+     * @return the root of the graph, or {@code null} if not cached or no longer valid
+     */
+    DependencyNode get(RepositorySystemSession session, Key key);
+
+    /**
+     * Caches the graph collected without errors for the given key.
+     *
+     * @param session the repository session the graph has been collected with
+     * @param key the key of the graph
+     * @param root the root of the collected graph
+     */
+    void put(RepositorySystemSession session, Key key, DependencyNode root);
+}
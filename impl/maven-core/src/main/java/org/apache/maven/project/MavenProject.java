@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +32,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -129,17 +131,17 @@ public class MavenProject implements Cloneable {
 
     private List<RemoteRepository> remotePluginRepositories;
 
-    private List<Artifact> attachedArtifacts = new ArrayList<>();
+    private List<Artifact> attachedArtifacts = new CopyOnWriteList<>();
 
     private MavenProject executionProject;
 
     private List<MavenProject> collectedProjects;
 
-    private List<String> compileSourceRoots = new ArrayList<>();
+    private List<String> compileSourceRoots = new CopyOnWriteList<>();
 
-    private List<String> testCompileSourceRoots = new ArrayList<>();
+    private List<String> testCompileSourceRoots = new CopyOnWriteList<>();
 
-    private List<String> scriptSourceRoots = new ArrayList<>();
+    private List<String> scriptSourceRoots = new CopyOnWriteList<>();
 
     private ArtifactRepository releaseArtifactRepository;
 
@@ -844,7 +846,7 @@ public void addAttachedArtifact(Artifact artifact) throws DuplicateArtifactAttac
      */
     public List<Artifact> getAttachedArtifacts() {
         if (attachedArtifacts == null) {
-            attachedArtifacts = new ArrayList<>();
+            attachedArtifacts = new CopyOnWriteList<>();
         }
         return Collections.unmodifiableList(attachedArtifacts);
     }
@@ -1106,25 +1108,26 @@ private void deepCopy(MavenProject project) {
             setActiveProfiles((Collections.unmodifiableList(project.getActiveProfiles())));
         }
 
-        if (project.getAttachedArtifacts() != null) {
-            // clone properties modifiable by plugins in a forked lifecycle
-            setAttachedArtifacts(new ArrayList<>(project.getAttachedArtifacts()));
+        if (project.attachedArtifacts != null) {
+            // clone properties modifiable by plugins in a forked lifecycle, they are only copied once modified
+            setAttachedArtifacts(copy(project.attachedArtifacts));
         }
 
         if (project.getCompileSourceRoots() != null) {
             // clone source roots
-            setCompileSourceRoots((new ArrayList<>(project.getCompileSourceRoots())));
+            setCompileSourceRoots(copy(project.getCompileSourceRoots()));
         }
 
         if (project.getTestCompileSourceRoots() != null) {
-            setTestCompileSourceRoots((new ArrayList<>(project.getTestCompileSourceRoots())));
+            setTestCompileSourceRoots(copy(project.getTestCompileSourceRoots()));
         }
 
         if (project.getScriptSourceRoots() != null) {
-            setScriptSourceRoots((new ArrayList<>(project.getScriptSourceRoots())));
+            setScriptSourceRoots(copy(project.getScriptSourceRoots()));
         }
 
         if (project.getModel() != null) {
+            // the clone shares the immutable model of the project until modified
             setModel(project.getModel().clone());
         }
 
@@ -1145,6 +1148,71 @@ private void deepCopy(MavenProject project) {
         lifecyclePhases.addAll(project.lifecyclePhases);
     }
 
+    private static <E> List<E> copy(List<E> list) {
+        return list instanceof CopyOnWriteList<E> cowList ? cowList.copy() : new CopyOnWriteList<>(list);
+    }
+
+    /**
+     * A list sharing its elements with the copies made of it, until either the list or a copy is modified.
+     */
+    private static final class CopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+        private List<E> elements;
+
+        private boolean shared;
+
+        CopyOnWriteList() {
+            this.elements = new ArrayList<>();
+        }
+
+        CopyOnWriteList(List<E> elements) {
+            this.elements = new ArrayList<>(elements);
+        }
+
+        CopyOnWriteList<E> copy() {
+            CopyOnWriteList<E> copy = new CopyOnWriteList<>();
+            copy.elements = elements;
+            copy.shared = true;
+            shared = true;
+            return copy;
+        }
+
+        private List<E> modifiable() {
+            if (shared) {
+                elements = new ArrayList<>(elements);
+                shared = false;
+            }
+            return elements;
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return modifiable().set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            modifiable().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public E remove(int index) {
+            E element = modifiable().remove(index);
+            modCount++;
+            return element;
+        }
+    }
+
     private static String getProjectReferenceId(String groupId, String artifactId, String version) {
         StringBuilder buffer = new StringBuilder(128);
         buffer.append(groupId).append(':').append(artifactId).append(':').append(version);
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration.internal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnhancedCompositeBeanHelperTest {
+
+    private final ExpressionEvaluator evaluator = new ExpressionEvaluator() {
+        @Override
+        public Object evaluate(String expression) {
+            return expression;
+        }
+
+        @Override
+        public File alignToBaseDirectory(File file) {
+            return file;
+        }
+    };
+
+    private void configure(Object bean, PlexusConfiguration configuration) throws ComponentConfigurationException {
+        new EnhancedConfigurationConverter()
+                .processConfiguration(
+                        new EnhancedConverterLookup(), bean, getClass().getClassLoader(), configuration, evaluator);
+    }
+
+    private static PlexusConfiguration config(String... nameValues) {
+        XmlPlexusConfiguration configuration = new XmlPlexusConfiguration("configuration");
+        for (int i = 0; i < nameValues.length; i += 2) {
+            configuration.addChild(nameValues[i], nameValues[i + 1]);
+        }
+        return configuration;
+    }
+
+    @Test
+    void testSetterFieldAndAdder() throws Exception {
+        SomeBean bean = new SomeBean();
+        configure(bean, config("name", "foo", "count", "42", "item", "a", "file", "test"));
+
+        assertEquals("foo!", bean.name);
+        assertEquals(42, bean.count);
+        assertEquals(List.of("a"), bean.items);
+        assertEquals(new File("test"), bean.file);
+    }
+
+    @Test
+    void testInheritedField() throws Exception {
+        SubBean bean = new SubBean();
+        configure(bean, config("count", "1", "extra", "bar"));
+
+        assertEquals(1, bean.count);
+        assertEquals("bar", bean.extra);
+    }
+
+    @Test
+    void testBindingIsCached() {
+        EnhancedCompositeBeanHelper.PropertyBinding binding =
+                EnhancedCompositeBeanHelper.binding(SomeBean.class, "name");
+        assertSame(binding, EnhancedCompositeBeanHelper.binding(SomeBean.class, "name"));
+        assertEquals(1, binding.setters().size());
+        assertTrue(binding.adders().isEmpty());
+        assertEquals(String.class, binding.fieldRawType());
+
+        EnhancedCompositeBeanHelper.PropertyBinding missing =
+                EnhancedCompositeBeanHelper.binding(SomeBean.class, "missing");
+        assertTrue(missing.setters().isEmpty());
+        assertNull(missing.field());
+    }
+
+    @Test
+    void testUnknownProperty() {
+        ComponentConfigurationException e = assertThrows(
+                ComponentConfigurationException.class, () -> configure(new SomeBean(), config("missing", "x")));
+        assertTrue(e.getMessage().contains("Cannot find 'missing'"), e.getMessage());
+    }
+
+    @Test
+    void testInvalidValue() {
+        ComponentConfigurationException e = assertThrows(
+                ComponentConfigurationException.class, () -> configure(new SomeBean(), config("count", "x")));
+        assertEquals("count", e.getFailedConfiguration().getName());
+    }
+
+    public static class SomeBean {
+        String name;
+        int count;
+        List<String> items = new ArrayList<>();
+        File file;
+
+        public void setName(String name) {
+            this.name = name + "!";
+        }
+
+        public void addItem(String item) {
+            items.add(item);
+        }
+    }
+
+    public static class SubBean extends SomeBean {
+        String extra;
+    }
+}
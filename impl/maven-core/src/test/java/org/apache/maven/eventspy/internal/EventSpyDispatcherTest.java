@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSpyDispatcherTest {
+
+    static class RecordingEventSpy extends AbstractEventSpy {
+        final List<Object> events = new CopyOnWriteArrayList<>();
+
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        volatile boolean closed;
+
+        @Override
+        public void onEvent(Object event) throws Exception {
+            Thread.sleep(1);
+            assertFalse(closed);
+            events.add(event);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static void init(EventSpyDispatcher dispatcher, String... properties) {
+        Properties userProperties = new Properties();
+        for (int i = 0; i < properties.length; i += 2) {
+            userProperties.setProperty(properties[i], properties[i + 1]);
+        }
+        dispatcher.init(() -> Map.of("userProperties", userProperties, "systemProperties", new Properties()));
+    }
+
+    @Test
+    void testSyncDispatch() {
+        RecordingEventSpy spy = new RecordingEventSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(spy));
+        init(dispatcher);
+
+        dispatcher.onEvent("a");
+        dispatcher.onEvent("b");
+        dispatcher.close();
+
+        assertEquals(List.of("a", "b"), spy.events);
+        assertSame(Thread.currentThread(), spy.threads.get(0));
+        assertTrue(spy.closed);
+    }
+
+    @Test
+    void testAsyncDispatch() {
+        RecordingEventSpy spy1 = new RecordingEventSpy();
+        RecordingEventSpy spy2 = new RecordingEventSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(spy1, spy2));
+        init(dispatcher, Constants.MAVEN_EVENT_SPY_ASYNC, "true", Constants.MAVEN_EVENT_SPY_QUEUE_SIZE, "2");
+
+        List<Integer> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(i);
+            dispatcher.onEvent(i);
+        }
+        dispatcher.close();
+
+        // all the events are delivered in order before the spies are closed
+        assertEquals(events, spy1.events);
+        assertEquals(events, spy2.events);
+        assertTrue(spy1.closed);
+        assertNotSame(Thread.currentThread(), spy1.threads.get(0));
+        assertNotSame(spy1.threads.get(0), spy2.threads.get(0));
+    }
+
+    @Test
+    void testAsyncDispatchKeepsTheCurrentProject() {
+        List<String> projects = new CopyOnWriteArrayList<>();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(new AbstractEventSpy() {
+            @Override
+            public void onEvent(Object event) {
+                ExecutionEvent executionEvent = (ExecutionEvent) event;
+                projects.add(executionEvent.getProject().getArtifactId() + " "
+                        + executionEvent.getSession().getCurrentProject().getArtifactId());
+            }
+        }));
+        init(dispatcher, Constants.MAVEN_EVENT_SPY_ASYNC, "true");
+
+        MavenSession session = new MavenSession(
+                new DefaultRepositorySystemSession(h -> false),
+                new DefaultMavenExecutionRequest(),
+                new DefaultMavenExecutionResult());
+        for (String artifactId : List.of("a", "b")) {
+            MavenProject project = new MavenProject();
+            project.setArtifactId(artifactId);
+            session.setCurrentProject(project);
+            dispatcher.onEvent(new ExecutionEvent() {
+                @Override
+                public Type getType() {
+                    return Type.ProjectStarted;
+                }
+
+                @Override
+                public MavenSession getSession() {
+                    return session;
+                }
+
+                @Override
+                public MavenProject getProject() {
+                    return session.getCurrentProject();
+                }
+
+                @Override
+                public MojoExecution getMojoExecution() {
+                    return null;
+                }
+
+                @Override
+                public Exception getException() {
+                    return null;
+                }
+            });
+        }
+        session.setCurrentProject(null);
+        dispatcher.close();
+
+        // the events are read on another thread, once the current project of the build thread has changed
+        assertEquals(List.of("a a", "b b"), projects);
+    }
+
+    @Test
+    void testEventsFiredWhileClosingAreDelivered() throws Exception {
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(new AbstractEventSpy() {
+            @Override
+            public void onEvent(Object event) throws Exception {
+                Thread.sleep(1);
+                delivered.add(event);
+            }
+        }));
+        init(dispatcher, Constants.MAVEN_EVENT_SPY_ASYNC, "true", Constants.MAVEN_EVENT_SPY_QUEUE_SIZE, "2");
+
+        // a listener thread of the resolver may still fire events while the build thread closes the dispatcher
+        List<Integer> fired = new ArrayList<>();
+        CountDownLatch firing = new CountDownLatch(10);
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                fired.add(i);
+                dispatcher.onEvent(i);
+                firing.countDown();
+            }
+        });
+        thread.start();
+        assertTrue(firing.await(10, TimeUnit.SECONDS));
+        dispatcher.close();
+        thread.join(10_000);
+
+        assertFalse(thread.isAlive());
+        assertEquals(fired, delivered);
+    }
+
+    @Test
+    void testInvalidQueueSize() {
+        for (String queueSize : List.of("0", "-1", "many")) {
+            RecordingEventSpy spy = new RecordingEventSpy();
+            EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(spy));
+            init(dispatcher, Constants.MAVEN_EVENT_SPY_ASYNC, "true", Constants.MAVEN_EVENT_SPY_QUEUE_SIZE, queueSize);
+
+            dispatcher.onEvent("a");
+            dispatcher.close();
+
+            assertEquals(List.of("a"), spy.events);
+            assertNotSame(Thread.currentThread(), spy.threads.get(0));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositorySystemSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MavenPathProcessorTest {
+    @TempDir
+    Path tempDir;
+
+    private final MavenPathProcessor processor = new MavenPathProcessor();
+
+    @Test
+    void testCopyWithTimestamp() throws Exception {
+        Path source = tempDir.resolve("source.jar");
+        byte[] data = new byte[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Files.write(source, data);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(1_000_000_000L));
+        Path target = tempDir.resolve("repo/target.jar");
+
+        processor.copyWithTimestamp(source, target);
+
+        assertArrayEquals(data, Files.readAllBytes(target));
+        assertEquals(Files.getLastModifiedTime(source), Files.getLastModifiedTime(target));
+        assertFalse(Files.isSameFile(source, target));
+    }
+
+    @Test
+    void testHardLink() throws Exception {
+        Path source = tempDir.resolve("source.jar");
+        Files.writeString(source, "content");
+        Path target = tempDir.resolve("repo/target.jar");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, "previous content");
+        Path other = tempDir.resolve("repo/other.jar");
+
+        RepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+        HardLinkingRepositoryListener listener = new HardLinkingRepositoryListener();
+        listener.artifactInstalling(new RepositoryEvent.Builder(session, RepositoryEvent.EventType.ARTIFACT_INSTALLING)
+                .setPath(target)
+                .build());
+        try {
+            processor.copyWithTimestamp(source, target);
+            // only the installed file is linked
+            processor.copyWithTimestamp(source, other);
+        } finally {
+            listener.artifactInstalled(
+                    new RepositoryEvent.Builder(session, RepositoryEvent.EventType.ARTIFACT_INSTALLED)
+                            .setPath(target)
+                            .build());
+        }
+
+        assertEquals("content", Files.readString(target));
+        assertTrue(Files.isSameFile(source, target));
+        assertEquals("content", Files.readString(other));
+        assertFalse(Files.isSameFile(source, other));
+
+        // once installed, the file is copied again
+        Files.delete(target);
+        processor.copyWithTimestamp(source, target);
+        assertFalse(Files.isSameFile(source, target));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.services.ChecksumAlgorithmService.ChecksumAlgorithm;
+import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.internal.impl.checksum.Md5ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the checksum computation of files of various sizes through a {@link java.nio.channels.FileChannel} with the former
+ * buffered stream based computation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class DefaultChecksumAlgorithmServicePerfTest {
+    @State(Scope.Benchmark)
+    public static class FileState {
+        @Param({"10", "100", "500", "2047"})
+        int sizeInMb;
+
+        DefaultChecksumAlgorithmService service;
+        Collection<ChecksumAlgorithm> algorithms;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            service = new DefaultChecksumAlgorithmService(new DefaultChecksumAlgorithmFactorySelector(Map.of(
+                    Sha512ChecksumAlgorithmFactory.NAME, new Sha512ChecksumAlgorithmFactory(),
+                    Sha256ChecksumAlgorithmFactory.NAME, new Sha256ChecksumAlgorithmFactory(),
+                    Sha1ChecksumAlgorithmFactory.NAME, new Sha1ChecksumAlgorithmFactory(),
+                    Md5ChecksumAlgorithmFactory.NAME, new Md5ChecksumAlgorithmFactory())));
+            algorithms = service.select(Arrays.asList("SHA-512", "SHA-256", "SHA-1", "MD5"));
+            file = Files.createTempFile("checksum", ".bin");
+            byte[] block = new byte[1024 * 1024];
+            Random random = new Random(0);
+            try (OutputStream os = Files.newOutputStream(file)) {
+                for (int i = 0; i < sizeInMb; i++) {
+                    random.nextBytes(block);
+                    os.write(block);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public Map<ChecksumAlgorithm, String> channel(FileState state) throws IOException {
+        return state.service.calculate(state.file, state.algorithms);
+    }
+
+    @Benchmark
+    public Map<ChecksumAlgorithm, String> stream(FileState state) throws IOException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(state.file))) {
+            return state.service.calculate(is, state.algorithms);
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DefaultChecksumAlgorithmServicePerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -22,10 +22,13 @@
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 import org.apache.maven.api.services.ChecksumAlgorithmService;
 import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
@@ -35,6 +38,7 @@
 import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -97,4 +101,37 @@ void calculateStream() throws IOException {
         assertEquals("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", checksums.get(service.select("SHA-1")));
         assertEquals("098f6bcd4621d373cade4e832627b4f6", checksums.get(service.select("MD5")));
     }
+
+    @Test
+    void calculateFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("test.txt");
+        Files.writeString(file, "test");
+        Map<ChecksumAlgorithmService.ChecksumAlgorithm, String> checksums =
+                service.calculate(file, service.select(Arrays.asList("SHA-1", "MD5")));
+        assertNotNull(checksums);
+        assertEquals(2, checksums.size());
+        assertEquals("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", checksums.get(service.select("SHA-1")));
+        assertEquals("098f6bcd4621d373cade4e832627b4f6", checksums.get(service.select("MD5")));
+    }
+
+    @Test
+    void calculateLargeFile(@TempDir Path tempDir) throws IOException {
+        // not a multiple of the chunk size, to check the last partial chunk
+        byte[] data = new byte[(int) DefaultChecksumAlgorithmService.CONCURRENT_THRESHOLD + 12345];
+        new Random(0).nextBytes(data);
+        Path file = tempDir.resolve("large.bin");
+        Files.write(file, data);
+        Collection<ChecksumAlgorithmService.ChecksumAlgorithm> algorithms =
+                service.select(Arrays.asList("SHA-512", "SHA-256", "SHA-1", "MD5"));
+        Map<ChecksumAlgorithmService.ChecksumAlgorithm, String> expected = service.calculate(data, algorithms);
+        assertEquals(expected, service.calculate(file, algorithms));
+
+        // the chunk buffers are reused, without leftovers of the previous file
+        Path smaller = tempDir.resolve("smaller.bin");
+        Files.write(smaller, Arrays.copyOf(data, data.length - 54321));
+        assertEquals(
+                service.calculate(Arrays.copyOf(data, data.length - 54321), algorithms),
+                service.calculate(smaller, algorithms));
+        assertEquals(expected, service.calculate(file, algorithms));
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.MavenExecutionPlan;
+import org.apache.maven.lifecycle.internal.stub.LifecycleExecutionPlanCalculatorStub;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.plugin.MojoExecution;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BuildTraceTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWritesCompleteEvents() throws Exception {
+        Path file = tempDir.resolve("target/trace.json");
+        MavenExecutionPlan plan = LifecycleExecutionPlanCalculatorStub.getProjectAExecutionPlan();
+        MojoExecution mojoExecution = plan.getMojoExecutions().get(0);
+
+        try (BuildTrace trace = new BuildTrace(file)) {
+            long start = trace.now();
+            trace.mojo(mojoExecution, ProjectDependencyGraphStub.A, start);
+            trace.step("compile", ProjectDependencyGraphStub.A, start);
+            trace.lockWait("plan \"lock\"", start);
+        }
+
+        String json = Files.readString(file).trim();
+        assertTrue(json.startsWith("[") && json.endsWith("]"), json);
+        assertEquals(1, count(json, "\"ph\":\"M\""), json);
+        assertEquals(3, count(json, "\"ph\":\"X\""), json);
+        assertTrue(json.contains("\"cat\":\"mojo\""), json);
+        assertTrue(json.contains("\"cat\":\"step\""), json);
+        assertTrue(json.contains("\"name\":\"plan \\\"lock\\\"\""), json);
+        assertTrue(json.contains("\"project\":\"" + ProjectDependencyGraphStub.A.getId() + "\""), json);
+    }
+
+    @Test
+    void testSpansAreWrittenBeforeClose() throws Exception {
+        Path file = tempDir.resolve("trace.json");
+
+        try (BuildTrace trace = new BuildTrace(file)) {
+            trace.step("compile", ProjectDependencyGraphStub.A, trace.now());
+
+            // the trace of a killed build is readable up to its last span
+            String json = Files.readString(file);
+            assertEquals(1, count(json, "\"ph\":\"X\""), json);
+        }
+    }
+
+    @Test
+    void testRelativeFileIsResolvedAgainstTheSessionWorkingDirectory() throws Exception {
+        DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession(h -> false);
+        repositorySession.setConfigProperty(Constants.MAVEN_BUILDER_TRACE_FILE, "target/trace.json");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("user.dir", tempDir.toString());
+        SessionData data = mock(SessionData.class);
+        Session session = mock(Session.class);
+        when(session.getData()).thenReturn(data);
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySession);
+        when(mavenSession.getSystemProperties()).thenReturn(systemProperties);
+        when(mavenSession.getSession()).thenReturn(session);
+
+        try (BuildTrace trace = BuildTrace.start(mavenSession)) {
+            verify(data).set(any(), same(trace));
+        }
+        assertTrue(Files.isRegularFile(tempDir.resolve("target/trace.json")));
+    }
+
+    private static int count(String str, String sub) {
+        int count = 0;
+        for (int i = str.indexOf(sub); i >= 0; i = str.indexOf(sub, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
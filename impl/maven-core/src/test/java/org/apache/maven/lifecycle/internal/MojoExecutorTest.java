@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MojoExecutorTest {
+
+    private final MojoExecutor executor = new MojoExecutor(null, null, null, null, null, null);
+
+    private final DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession(h -> false);
+
+    private final Session session = mock(Session.class);
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+
+    private MavenProject parent;
+    private MavenProject module;
+    private MavenProject other;
+
+    @BeforeEach
+    void setUp() {
+        parent = project("parent");
+        module = project("module");
+        other = project("other");
+        parent.setCollectedProjects(List.of(module));
+
+        Map<Object, Object> data = new ConcurrentHashMap<>();
+        when(session.getData()).thenReturn(new SessionData() {
+            @Override
+            public <T> void set(Key<T> key, T value) {
+                data.put(key, value);
+            }
+
+            @Override
+            public <T> boolean replace(Key<T> key, T oldValue, T newValue) {
+                return data.replace(key, oldValue, newValue);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T get(Key<T> key) {
+                return (T) data.get(key);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T computeIfAbsent(Key<T> key, Supplier<T> supplier) {
+                return (T) data.computeIfAbsent(key, k -> supplier.get());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void testReactorLockBlocksOtherProjects() throws Exception {
+        Future<?> otherLock;
+        try (MojoExecutor.ProjectLock lock = executor.new ProjectLock(session(parent), execution(true))) {
+            otherLock = lockInThread(other);
+            assertThrows(TimeoutException.class, () -> otherLock.get(200, TimeUnit.MILLISECONDS));
+        }
+        otherLock.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testProjectsLockOnlyBlocksAggregatedProjects() throws Exception {
+        repositorySession.setConfigProperty(Constants.MAVEN_BUILDER_AGGREGATOR_LOCK, "projects");
+        MojoExecution execution = execution(false);
+        Future<?> moduleLock;
+        long start;
+        try (MojoExecutor.ProjectLock lock = executor.new ProjectLock(session(parent), execution(true))) {
+            lockInThread(other).get(10, TimeUnit.SECONDS);
+
+            start = System.nanoTime();
+            moduleLock = lockInThread(module);
+            assertThrows(TimeoutException.class, () -> moduleLock.get(200, TimeUnit.MILLISECONDS));
+        }
+        moduleLock.get(10, TimeUnit.SECONDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // only contended locks record a wait, which may start after the thread has been submitted
+        Duration wait = executor.getLockWaitTime(session(module), execution);
+        assertTrue(!wait.isZero() && wait.compareTo(elapsed) <= 0, wait::toString);
+        assertEquals(Duration.ZERO, executor.getLockWaitTime(session(module), execution(true)));
+        // the wait is recorded for the blocked project and execution only
+        assertEquals(Duration.ZERO, executor.getLockWaitTime(session(other), execution));
+        assertEquals(Duration.ZERO, executor.getLockWaitTime(session(module), execution(false, "other")));
+    }
+
+    private Future<?> lockInThread(MavenProject project) {
+        MavenSession mavenSession = session(project);
+        MojoExecution execution = execution(false);
+        return threads.submit(() -> {
+            try (MojoExecutor.ProjectLock lock = executor.new ProjectLock(mavenSession, execution)) {
+                // locked until the end of the block
+            }
+        });
+    }
+
+    private MavenSession session(MavenProject currentProject) {
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getCurrentProject()).thenReturn(currentProject);
+        when(mavenSession.getProjects()).thenReturn(List.of(parent, module, other));
+        when(mavenSession.getSession()).thenReturn(session);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySession);
+        return mavenSession;
+    }
+
+    private static MojoExecution execution(boolean aggregator) {
+        return execution(aggregator, "default");
+    }
+
+    private static MojoExecution execution(boolean aggregator, String executionId) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("org.example");
+        pluginDescriptor.setArtifactId("example-plugin");
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        mojoDescriptor.setGoal(aggregator ? "aggregate" : "run");
+        mojoDescriptor.setAggregator(aggregator);
+        return new MojoExecution(mojoDescriptor, executionId);
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        return project;
+    }
+}
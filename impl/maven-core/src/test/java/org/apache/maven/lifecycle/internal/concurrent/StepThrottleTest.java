@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StepThrottleTest {
+
+    static class FixedSampler implements StepThrottle.Sampler {
+        volatile double cpu;
+        volatile double heap;
+
+        @Override
+        public double cpuLoad() {
+            return cpu;
+        }
+
+        @Override
+        public double heapUsage() {
+            return heap;
+        }
+    }
+
+    @Test
+    void testParsePhaseCaps() {
+        Map<String, Integer> caps = StepThrottle.parsePhaseCaps(" test=2, integration-test = 1 ,");
+        assertEquals(Map.of("test", 2, "integration-test", 1), caps);
+        assertTrue(StepThrottle.parsePhaseCaps(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> StepThrottle.parsePhaseCaps("test"));
+        assertThrows(IllegalArgumentException.class, () -> StepThrottle.parsePhaseCaps("test=0"));
+    }
+
+    @Test
+    void testPhase() {
+        assertEquals("test", StepThrottle.phase("before:test"));
+        assertEquals("test", StepThrottle.phase("after:test"));
+        assertEquals("test", StepThrottle.phase("test"));
+    }
+
+    @Test
+    void testPhaseCap() throws Exception {
+        StepThrottle throttle = new StepThrottle(4, false, Map.of("test", 1), new FixedSampler());
+        List<Runnable> submitted = new ArrayList<>();
+        Executor executor = submitted::add;
+        AtomicReference<StepThrottle.Permit> first = new AtomicReference<>();
+        throttle.execute("test", executor, first::set);
+        assertNotNull(first.get());
+        // other phases are not limited
+        AtomicBoolean compiled = new AtomicBoolean();
+        throttle.execute("compile", executor, permit -> {
+            try (permit) {
+                compiled.set(true);
+            }
+        });
+        assertTrue(compiled.get());
+
+        AtomicReference<StepThrottle.Permit> second = new AtomicReference<>();
+        throttle.execute("test", executor, second::set);
+        assertNull(second.get());
+        assertTrue(submitted.isEmpty());
+
+        // the parked step is submitted again once the permit is released
+        first.get().close();
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+        assertNotNull(second.get());
+        assertTrue(second.get().waited());
+        assertFalse(first.get().waited());
+        second.get().close();
+    }
+
+    @Test
+    void testThrottledStepDoesNotBlockOtherSteps() throws Exception {
+        StepThrottle throttle = new StepThrottle(1, false, Map.of("test", 1), new FixedSampler());
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch acquired = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch firstDone = new CountDownLatch(1);
+            // a step holding the only permit of its phase on another thread
+            new Thread(() -> throttle.execute("test", thread, permit -> {
+                        try (permit) {
+                            acquired.countDown();
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        firstDone.countDown();
+                    }))
+                    .start();
+            assertTrue(acquired.await(5, TimeUnit.SECONDS));
+
+            // a throttled step of the same phase does not hold the single build thread
+            CountDownLatch secondDone = new CountDownLatch(1);
+            thread.execute(() -> throttle.execute("after:test", thread, permit -> {
+                try (permit) {
+                    secondDone.countDown();
+                }
+            }));
+            CountDownLatch unrelatedDone = new CountDownLatch(1);
+            thread.execute(unrelatedDone::countDown);
+            assertTrue(unrelatedDone.await(5, TimeUnit.SECONDS));
+            assertFalse(secondDone.await(100, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            assertTrue(firstDone.await(5, TimeUnit.SECONDS));
+            assertTrue(secondDone.await(5, TimeUnit.SECONDS));
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAdaptiveLimit() throws Exception {
+        FixedSampler sampler = new FixedSampler();
+        StepThrottle throttle = new StepThrottle(8, true, Collections.emptyMap(), sampler);
+        assertEquals(8, throttle.limit());
+
+        sampler.heap = 0.95;
+        throttle.sample();
+        assertEquals(4, throttle.limit());
+
+        sampler.heap = 0.5;
+        sampler.cpu = 0.99;
+        throttle.sample();
+        assertEquals(3, throttle.limit());
+
+        // resources are available, but nobody is waiting
+        sampler.cpu = 0.2;
+        throttle.sample();
+        assertEquals(3, throttle.limit());
+
+        // a waiting step raises the limit again
+        throttle.expireSample();
+        throttle.execute("compile", Runnable::run, StepThrottle.Permit::close);
+        assertEquals(4, throttle.limit());
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.maven.api.Constants;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.internal.impl.SimpleLocalRepositoryManagerFactory;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.VersionScheme;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultDependencyGraphCacheTest {
+
+    private static final String PARENT = "<project><parent><groupId>org.example</groupId>"
+            + "<artifactId>parent</artifactId><version>1.0</version></parent></project>";
+
+    private static final String IMPORT = "<dependencyManagement><dependencies><dependency>"
+            + "<groupId>org.example</groupId><artifactId>bom</artifactId><version>${bom.version}</version>"
+            + "<type>pom</type><scope>import</scope></dependency></dependencies></dependencyManagement>";
+
+    private final VersionScheme versionScheme = new GenericVersionScheme();
+
+    private final DefaultDependencyGraphCache cache = new DefaultDependencyGraphCache(versionScheme);
+
+    private final RemoteRepository central =
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2").build();
+
+    @TempDir
+    Path repo;
+
+    private DefaultRepositorySystemSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = new DefaultRepositorySystemSession(h -> false);
+        session.setLocalRepositoryManager(
+                new SimpleLocalRepositoryManagerFactory().newInstance(session, new LocalRepository(repo)));
+        session.setConfigProperty(Constants.MAVEN_RESOLVER_GRAPH_CACHE, true);
+    }
+
+    private CollectRequest request(String... dependencies) {
+        CollectRequest request = new CollectRequest();
+        request.setRootArtifact(new DefaultArtifact("org.example:root:1.0"));
+        request.setRequestContext("project");
+        request.setRepositories(List.of(central));
+        for (String dependency : dependencies) {
+            request.addDependency(new Dependency(new DefaultArtifact(dependency), "compile"));
+        }
+        return request;
+    }
+
+    private DefaultDependencyNode node(String coordinates) throws Exception {
+        Artifact artifact = new DefaultArtifact(coordinates);
+        DefaultDependencyNode node = new DefaultDependencyNode(
+                new Dependency(artifact, "compile", false, List.of(new Exclusion("org.excluded", "*", "*", "*"))));
+        node.setVersion(versionScheme.parseVersion(artifact.getVersion()));
+        node.setVersionConstraint(versionScheme.parseVersionConstraint(artifact.getVersion()));
+        node.setRepositories(List.of(central));
+        node.setRequestContext("project");
+        return node;
+    }
+
+    private Path pom(String coordinates) throws Exception {
+        return pom(coordinates, "<project/>");
+    }
+
+    private Path pom(String coordinates, String content) throws Exception {
+        Artifact artifact = new DefaultArtifact(coordinates);
+        Path pom = repo.resolve(session.getLocalRepositoryManager()
+                .getPathForLocalArtifact(new DefaultArtifact(
+                        artifact.getGroupId(), artifact.getArtifactId(), "pom", artifact.getBaseVersion())));
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, content);
+        return pom;
+    }
+
+    /**
+     * Creates the graph {@code root -> a -> b}, with {@code b} shared by {@code root}.
+     */
+    private DependencyNode graph() throws Exception {
+        pom("org.example:a:1.0");
+        pom("org.example:b:2.0");
+        DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.example:root:1.0"));
+        DefaultDependencyNode a = node("org.example:a:1.0");
+        DefaultDependencyNode b = node("org.example:b:2.0");
+        a.setChildren(List.of(b));
+        root.setChildren(List.of(a, b));
+        return root;
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        assertNotNull(key);
+        assertNull(cache.get(session, key));
+
+        cache.put(session, key, graph());
+        DependencyNode root = cache.get(session, key);
+
+        assertNotNull(root);
+        assertEquals("org.example:root:jar:1.0", root.getArtifact().toString());
+        assertEquals(2, root.getChildren().size());
+        DependencyNode a = root.getChildren().get(0);
+        DependencyNode b = root.getChildren().get(1);
+        assertSame(b, a.getChildren().get(0));
+        assertEquals("org.example:a:jar:1.0", a.getArtifact().toString());
+        assertEquals("compile", a.getDependency().getScope());
+        assertEquals(Boolean.FALSE, a.getDependency().getOptional());
+        assertEquals(1, a.getDependency().getExclusions().size());
+        assertEquals(versionScheme.parseVersion("1.0"), a.getVersion());
+        assertEquals(List.of(central), a.getRepositories());
+        assertEquals("project", a.getRequestContext());
+    }
+
+    @Test
+    void testKey() {
+        assertEquals(
+                cache.createKey(session, request("org.example:a:1.0")),
+                cache.createKey(session, request("org.example:a:1.0")));
+        assertNotEquals(
+                cache.createKey(session, request("org.example:a:1.0")),
+                cache.createKey(session, request("org.example:a:1.1")));
+
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        session.setUserProperty("foo", "bar");
+        assertNotEquals(key, cache.createKey(session, request("org.example:a:1.0")));
+
+        session.setConfigProperty(Constants.MAVEN_RESOLVER_GRAPH_CACHE, false);
+        assertNull(cache.createKey(session, request("org.example:a:1.0")));
+    }
+
+    @Test
+    void testChangedPomInvalidatesGraph() throws Exception {
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        cache.put(session, key, graph());
+        assertNotNull(cache.get(session, key));
+
+        Files.writeString(pom("org.example:b:2.0"), "<project><modelVersion>4.0.0</modelVersion></project>");
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testUpdatedSnapshotInvalidatesGraph() throws Exception {
+        Path pom = pom("org.example:c:1.0-SNAPSHOT");
+        DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.example:root:1.0"));
+        root.setChildren(List.of(node("org.example:c:1.0-SNAPSHOT")));
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:c:1.0-SNAPSHOT"));
+        cache.put(session, key, root);
+        assertNotNull(cache.get(session, key));
+
+        Files.writeString(pom.resolveSibling("maven-metadata-central.xml"), "<metadata/>");
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testChangedParentInvalidatesGraph() throws Exception {
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        DependencyNode graph = graph();
+        pom("org.example:a:1.0", PARENT);
+        Path parent = pom("org.example:parent:1.0", "<project><properties/></project>");
+        cache.put(session, key, graph);
+        assertNotNull(cache.get(session, key));
+
+        Files.writeString(parent, "<project><properties><foo>bar</foo></properties></project>");
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testChangedImportInvalidatesGraph() throws Exception {
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        DependencyNode graph = graph();
+        pom("org.example:a:1.0", PARENT.replace("</project>", IMPORT + "</project>"));
+        pom("org.example:parent:1.0", "<project><properties><bom.version>3.0</bom.version></properties></project>");
+        Path bom = pom("org.example:bom:3.0");
+        cache.put(session, key, graph);
+        assertNotNull(cache.get(session, key));
+
+        Files.writeString(bom, "<project><modelVersion>4.0.0</modelVersion></project>");
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testUninterpolatedImportIsNotCached() throws Exception {
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        DependencyNode graph = graph();
+        pom("org.example:a:1.0", "<project>" + IMPORT + "</project>");
+        cache.put(session, key, graph);
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testUpdatedLatestInvalidatesGraph() throws Exception {
+        Path pom = pom("org.example:d:1.0");
+        DefaultDependencyNode node = node("org.example:d:1.0");
+        node.setVersionConstraint(versionScheme.parseVersionConstraint("LATEST"));
+        DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.example:root:1.0"));
+        root.setChildren(List.of(node));
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:d:LATEST"));
+        cache.put(session, key, root);
+        assertNotNull(cache.get(session, key));
+
+        Files.writeString(pom.getParent().resolveSibling("maven-metadata-central.xml"), "<metadata/>");
+
+        assertNull(cache.get(session, key));
+    }
+
+    @Test
+    void testPrunesUnusedGraphs() throws Exception {
+        Path directory = repo.resolve(".cache/dependency-graphs/00");
+        Files.createDirectories(directory);
+        Path unused = Files.writeString(directory.resolve("unused"), "graph");
+        Files.setLastModifiedTime(unused, FileTime.from(Instant.now().minus(Duration.ofDays(60))));
+        Path recent = Files.writeString(directory.resolve("recent"), "graph");
+        Files.setLastModifiedTime(recent, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        DependencyGraphCache.Key key = cache.createKey(session, request("org.example:a:1.0"));
+        cache.put(session, key, graph());
+
+        assertFalse(Files.exists(unused));
+        assertTrue(Files.exists(recent));
+        assertNotNull(cache.get(session, key));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DefaultProjectBuildingHelperTest {
+
+    private final ClassWorld world = new ClassWorld();
+
+    @Test
+    void testCanonicalOrder() throws Exception {
+        ClassRealm a = world.newRealm("extension>org.example:a:1.0");
+        ClassRealm b = world.newRealm("extension>org.example:b:1.0");
+        ClassRealm c = world.newRealm("extension>org.example:c:1.0");
+
+        Map<ClassRealm, List<String>> exports = Map.of(a, List.of("org.example.a"), c, List.of("org.example.c"));
+
+        assertEquals(List.of(a, b, c), DefaultProjectBuildingHelper.canonicalOrder(List.of(c, a, b), exports));
+        assertEquals(List.of(a, b, c), DefaultProjectBuildingHelper.canonicalOrder(List.of(b, c, a), exports));
+    }
+
+    @Test
+    void testDeclarationOrderKeptForOverlappingExports() throws Exception {
+        ClassRealm a = world.newRealm("extension>org.example:a:1.0");
+        ClassRealm b = world.newRealm("extension>org.example:b:1.0");
+
+        Map<ClassRealm, List<String>> exports = Map.of(a, List.of("org.example"), b, List.of("org.example.b"));
+
+        assertEquals(List.of(b, a), DefaultProjectBuildingHelper.canonicalOrder(List.of(b, a), exports));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.util.List;
+
+import org.apache.maven.project.DefaultProjectDependenciesResolver.SharedGraphKey;
+import org.apache.maven.project.DefaultProjectDependenciesResolver.SharedGraphs;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DefaultProjectDependenciesResolverTest {
+
+    private final RemoteRepository central =
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2").build();
+
+    private final SharedGraphs sharedGraphs = new SharedGraphs();
+
+    private DefaultRepositorySystemSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new DefaultRepositorySystemSession(h -> false);
+        session.setConfigProperty("foo", "bar");
+    }
+
+    private CollectRequest request(String root, Dependency... dependencies) {
+        CollectRequest request = new CollectRequest();
+        request.setRootArtifact(new DefaultArtifact(root));
+        request.setRequestContext("project");
+        request.setRepositories(List.of(central));
+        for (Dependency dependency : dependencies) {
+            request.addDependency(dependency);
+        }
+        return request;
+    }
+
+    private static Dependency dependency(String coordinates, Exclusion... exclusions) {
+        return new Dependency(new DefaultArtifact(coordinates), "compile", false, List.of(exclusions));
+    }
+
+    private static DefaultDependencyNode node(String coordinates, DependencyNode... children) {
+        DefaultDependencyNode node = new DefaultDependencyNode(dependency(coordinates));
+        node.setChildren(List.of(children));
+        return node;
+    }
+
+    private static DependencyNode graph(String root, DependencyNode... children) {
+        DefaultDependencyNode node = new DefaultDependencyNode(new DefaultArtifact(root));
+        node.setChildren(List.of(children));
+        return node;
+    }
+
+    @Test
+    void testKey() {
+        Dependency a = dependency("org.example:a:1.0");
+        SharedGraphKey key = sharedGraphs.key(session, request("org.example:p1:1.0", a));
+
+        // the root is not part of the key
+        assertEquals(key, sharedGraphs.key(session, request("org.example:p2:1.0", a)));
+        assertEquals(
+                key.hashCode(),
+                sharedGraphs.key(session, request("org.example:p2:1.0", a)).hashCode());
+
+        assertNotEquals(key, sharedGraphs.key(session, request("org.example:p2:1.0", dependency("org.example:a:1.1"))));
+        assertNotEquals(
+                key,
+                sharedGraphs.key(
+                        session,
+                        request(
+                                "org.example:p2:1.0",
+                                dependency("org.example:a:1.0", new Exclusion("org.example", "b", "*", "*")))));
+
+        CollectRequest managed = request("org.example:p2:1.0", a);
+        managed.addManagedDependency(dependency("org.example:b:2.0"));
+        assertNotEquals(key, sharedGraphs.key(session, managed));
+
+        CollectRequest otherContext = request("org.example:p2:1.0", a);
+        otherContext.setRequestContext("plugin");
+        assertNotEquals(key, sharedGraphs.key(session, otherContext));
+
+        DefaultRepositorySystemSession configured = new DefaultRepositorySystemSession(session);
+        configured.setConfigProperty("foo", "baz");
+        assertNotEquals(key, sharedGraphs.key(configured, request("org.example:p2:1.0", a)));
+    }
+
+    @Test
+    void testConfigPropertiesCopiedOncePerSession() {
+        SharedGraphKey key1 = sharedGraphs.key(session, request("org.example:p1:1.0"));
+        SharedGraphKey key2 = sharedGraphs.key(session, request("org.example:p2:1.0"));
+
+        assertSame(key1.configProperties(), key2.configProperties());
+
+        // a session with the same properties gets a key equal to the one of the first session
+        DefaultRepositorySystemSession other = new DefaultRepositorySystemSession(session);
+        SharedGraphKey key3 = sharedGraphs.key(other, request("org.example:p3:1.0"));
+        assertNotSame(key1.configProperties(), key3.configProperties());
+        assertEquals(key1, key3);
+    }
+
+    @Test
+    void testSharedGraphHasTheRootOfTheProject() {
+        Dependency a = dependency("org.example:a:1.0");
+        CollectRequest request1 = request("org.example:p1:1.0", a);
+        SharedGraphKey key = sharedGraphs.key(session, request1);
+        DependencyNode b = node("org.example:b:1.0");
+        DependencyNode graph = graph("org.example:p1:1.0", node("org.example:a:1.0", b), b);
+
+        assertNull(sharedGraphs.get(key, request1, new MavenProject()));
+        sharedGraphs.put(key, graph);
+        // the resolution of the first project updates its graph
+        graph.setChildren(List.of());
+
+        CollectRequest request2 = request("org.example:p2:1.0", a);
+        DependencyNode shared = sharedGraphs.get(sharedGraphs.key(session, request2), request2, new MavenProject());
+
+        assertNotNull(shared);
+        assertEquals(new DefaultArtifact("org.example:p2:1.0"), shared.getArtifact());
+        assertEquals(2, shared.getChildren().size());
+        DependencyNode sharedA = shared.getChildren().get(0);
+        DependencyNode sharedB = shared.getChildren().get(1);
+        assertEquals(new DefaultArtifact("org.example:a:1.0"), sharedA.getArtifact());
+        assertEquals(new DefaultArtifact("org.example:b:1.0"), sharedB.getArtifact());
+        assertSame(sharedB, sharedA.getChildren().get(0));
+        assertNotSame(b, sharedB);
+
+        // each project gets its own copy
+        DependencyNode other = sharedGraphs.get(sharedGraphs.key(session, request2), request2, new MavenProject());
+        assertNotSame(shared.getChildren().get(0), other.getChildren().get(0));
+    }
+
+    @Test
+    void testGraphDependingOnTheProjectIsNotShared() {
+        Dependency a = dependency("org.example:a:1.0");
+        CollectRequest request1 = request("org.example:p1:1.0", a);
+        SharedGraphKey key = sharedGraphs.key(session, request1);
+        sharedGraphs.put(key, graph("org.example:p1:1.0", node("org.example:a:1.0", node("org.example:p2:0.9"))));
+
+        // the collector excludes the root from its graph, p2 would not depend on itself
+        CollectRequest request2 = request("org.example:p2:1.0", a);
+        assertNull(sharedGraphs.get(sharedGraphs.key(session, request2), request2, new MavenProject()));
+
+        CollectRequest request3 = request("org.example:p3:1.0", a);
+        assertNotNull(sharedGraphs.get(sharedGraphs.key(session, request3), request3, new MavenProject()));
+    }
+}
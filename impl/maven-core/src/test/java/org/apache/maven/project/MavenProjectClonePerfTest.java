@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of cloning a project for a forked lifecycle, run with the GC profiler to report the memory
+ * allocated per clone ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MavenProjectClonePerfTest {
+    @State(Scope.Benchmark)
+    public static class ProjectState {
+        @Param({"2", "20"})
+        int size;
+
+        MavenProject project;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            project = new MavenProject();
+            project.setArtifact(new DefaultArtifact("org.example", "project", "1.0", "compile", "jar", null, null));
+            for (int i = 0; i < size; i++) {
+                project.addCompileSourceRoot("/project/src/main/java" + i);
+                project.addTestCompileSourceRoot("/project/src/test/java" + i);
+                project.addAttachedArtifact(
+                        new DefaultArtifact("org.example", "project", "1.0", "compile", "jar", "classifier" + i, null));
+            }
+        }
+    }
+
+    @Benchmark
+    public MavenProject cloneProject(ProjectState state) {
+        return state.project.clone();
+    }
+
+    @Benchmark
+    public MavenProject cloneAndAddSourceRoot(ProjectState state) {
+        MavenProject clone = state.project.clone();
+        clone.addCompileSourceRoot("/project/target/generated-sources");
+        return clone;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(MavenProjectClonePerfTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -23,6 +23,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
@@ -190,6 +191,26 @@ void testCloneWithBaseDir() throws Exception {
                 projectToClone.getBasedir(), clonedProject.getBasedir(), "Base directory is preserved across clone");
     }
 
+    @Test
+    void testCloneSourceRootsAndAttachedArtifacts() {
+        MavenProject project = new MavenProject();
+        project.getCompileSourceRoots().add("src/main/java");
+        project.addAttachedArtifact(new DefaultArtifact("g", "a", "1", "compile", "jar", "sources", null));
+
+        MavenProject clone = project.clone();
+        assertEquals(List.of("src/main/java"), clone.getCompileSourceRoots());
+        assertEquals(project.getAttachedArtifacts(), clone.getAttachedArtifacts());
+
+        clone.getCompileSourceRoots().add("target/generated-sources");
+        clone.addAttachedArtifact(new DefaultArtifact("g", "a", "1", "compile", "jar", "javadoc", null));
+        project.getCompileSourceRoots().add("src/main/kotlin");
+
+        assertEquals(List.of("src/main/java", "src/main/kotlin"), project.getCompileSourceRoots());
+        assertEquals(List.of("src/main/java", "target/generated-sources"), clone.getCompileSourceRoots());
+        assertEquals(1, project.getAttachedArtifacts().size());
+        assertEquals(2, clone.getAttachedArtifacts().size());
+    }
+
     @Test
     void testUndefinedOutputDirectory() throws Exception {
         MavenProject p = new MavenProject();
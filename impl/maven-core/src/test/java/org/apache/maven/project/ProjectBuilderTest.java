@@ -29,6 +29,7 @@
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.AbstractCoreMavenComponentTestCase;
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.SessionData;
 import org.apache.maven.api.services.model.ModelCache;
 import org.apache.maven.execution.MavenSession;
@@ -38,6 +39,7 @@
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.model.building.ModelProblem;
 import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -388,4 +390,140 @@ void testLocationTrackingResolution() throws Exception {
         assertEquals(
                 "org.apache.maven.its:parent:0.1", pluginLocation.getSource().getModelId());
     }
+
+    @Test
+    void testParallelAndSerialBuildsAreEquivalent(@TempDir Path tempDir) throws Exception {
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            // each module inherits from a parent outside the reactor and declares its own repository
+            Path parent = tempDir.resolve("parents/p" + i + "/pom.xml");
+            Files.createDirectories(parent.getParent());
+            Files.writeString(
+                    parent,
+                    "<project><modelVersion>4.0.0</modelVersion><groupId>test</groupId><artifactId>p" + i
+                            + "</artifactId><version>1.0</version><packaging>pom</packaging>"
+                            + "<properties><parent.index>" + i + "</parent.index></properties></project>");
+            Path module = tempDir.resolve("reactor/m" + i + "/pom.xml");
+            Files.createDirectories(module.getParent());
+            Files.writeString(
+                    module,
+                    "<project><modelVersion>4.0.0</modelVersion><parent><groupId>test</groupId><artifactId>p" + i
+                            + "</artifactId><version>1.0</version><relativePath>../../parents/p" + i
+                            + "</relativePath></parent><artifactId>m" + i + "</artifactId>"
+                            + "<repositories><repository><id>repo" + i + "</id><url>"
+                            + tempDir.resolve("repo" + i).toUri() + "</url></repository></repositories></project>");
+            modules.append("<module>m").append(i).append("</module>");
+        }
+        Path root = tempDir.resolve("reactor/pom.xml");
+        Files.writeString(
+                root,
+                "<project><modelVersion>4.0.0</modelVersion><groupId>test</groupId><artifactId>root</artifactId>"
+                        + "<version>1.0</version><packaging>pom</packaging><modules>" + modules
+                        + "</modules></project>");
+
+        MavenSession mavenSession = createMavenSession(null);
+        mavenSession.getRequest().setRootDirectory(tempDir);
+        org.apache.maven.project.ProjectBuilder projectBuilder =
+                getContainer().lookup(org.apache.maven.project.ProjectBuilder.class);
+
+        List<String> serial = describe(projectBuilder, mavenSession, root, "1");
+        mavenSession
+                .getSession()
+                .getData()
+                .get(SessionData.key(ModelCache.class))
+                .clear();
+        List<String> parallel = describe(projectBuilder, mavenSession, root, "4");
+
+        assertEquals(9, serial.size());
+        for (int i = 0; i < 8; i++) {
+            String prefix = "test:m" + i + ":jar:1.0 test:p" + i + ":pom:1.0 ";
+            String repository = "[repo" + i + "]";
+            assertTrue(serial.stream().anyMatch(p -> p.startsWith(prefix) && p.contains(repository)), prefix);
+        }
+        assertEquals(serial, parallel);
+    }
+
+    private List<String> describe(
+            org.apache.maven.project.ProjectBuilder projectBuilder, MavenSession mavenSession, Path pom, String threads)
+            throws Exception {
+        ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+        configuration.setRepositorySession(mavenSession.getRepositorySession());
+        configuration.getUserProperties().setProperty(Constants.MAVEN_MODEL_BUILDER_PARALLELISM, threads);
+        List<ProjectBuildingResult> results =
+                projectBuilder.build(Collections.singletonList(pom.toFile()), true, configuration);
+        List<String> projects = new ArrayList<>();
+        for (ProjectBuildingResult result : results) {
+            MavenProject project = result.getProject();
+            projects.add(project.getId() + " "
+                    + (project.getParent() != null ? project.getParent().getId() : null)
+                    + " " + project.getProperties() + " "
+                    + project.getRemoteArtifactRepositories().stream()
+                            .map(r -> r.getId() + "=" + r.getUrl())
+                            .toList()
+                    + " "
+                    + project.getRemoteProjectRepositories().stream()
+                            .map(r -> r.getId())
+                            .toList()
+                    + " " + configuration.getRemoteRepositories().size());
+        }
+        return projects;
+    }
+
+    @Test
+    void testProblemsHaveLocationsWithoutLocationTracking(@TempDir Path tempDir) throws Exception {
+        Path root = tempDir.resolve("pom.xml");
+        Files.writeString(
+                root,
+                "<project><modelVersion>4.0.0</modelVersion><groupId>test</groupId><artifactId>root</artifactId>"
+                        + "<version>1.0</version><packaging>pom</packaging>"
+                        + "<modules><module>valid</module><module>invalid</module></modules></project>");
+        Path valid = tempDir.resolve("valid/pom.xml");
+        Files.createDirectories(valid.getParent());
+        Files.writeString(
+                valid,
+                "<project><modelVersion>4.0.0</modelVersion><parent><groupId>test</groupId>"
+                        + "<artifactId>root</artifactId><version>1.0</version></parent>"
+                        + "<artifactId>valid</artifactId></project>");
+        Path invalid = tempDir.resolve("invalid/pom.xml");
+        Files.createDirectories(invalid.getParent());
+        Files.writeString(
+                invalid,
+                "<project>\n  <modelVersion>4.0.0</modelVersion>\n  <parent><groupId>test</groupId>"
+                        + "<artifactId>root</artifactId><version>1.0</version></parent>\n"
+                        + "  <artifactId>invalid</artifactId>\n  <dependencies>\n"
+                        + "    <dependency><groupId>test</groupId><artifactId>missing</artifactId></dependency>\n"
+                        + "  </dependencies>\n</project>");
+
+        MavenSession mavenSession = createMavenSession(null);
+        mavenSession.getRequest().setRootDirectory(tempDir);
+        DefaultRepositorySystemSession repositorySession =
+                new DefaultRepositorySystemSession(mavenSession.getRepositorySession());
+        repositorySession.setConfigProperty(Constants.MAVEN_MODEL_BUILDER_LOCATION_TRACKING, false);
+        ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+        configuration.setRepositorySession(repositorySession);
+        org.apache.maven.project.ProjectBuilder projectBuilder =
+                getContainer().lookup(org.apache.maven.project.ProjectBuilder.class);
+
+        ProjectBuildingException e = assertThrows(
+                ProjectBuildingException.class,
+                () -> projectBuilder.build(Collections.singletonList(root.toFile()), true, configuration));
+
+        assertEquals(3, e.getResults().size());
+        for (ProjectBuildingResult result : e.getResults()) {
+            if (result.getPomFile().equals(invalid.toFile())) {
+                ModelProblem problem = result.getProblems().stream()
+                        .filter(p -> p.getSeverity() == ModelProblem.Severity.ERROR)
+                        .findFirst()
+                        .orElseThrow();
+                assertThat(problem.getMessage(), containsString("test:missing"));
+                // the failing project is read again with its locations
+                assertEquals(6, problem.getLineNumber());
+                assertEquals(5, problem.getColumnNumber());
+            } else {
+                // the other projects are not read again
+                assertThat(result.getProblems(), is(empty()));
+                assertEquals(null, result.getProject().getModel().getLocation("artifactId"));
+            }
+        }
+    }
 }
@@ -28,9 +28,11 @@
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -72,6 +74,8 @@
 import org.apache.maven.api.services.ArtifactManager;
 import org.apache.maven.api.services.ArtifactResolver;
 import org.apache.maven.api.services.ArtifactResolverException;
+import org.apache.maven.api.services.ArtifactResolverRequest;
+import org.apache.maven.api.services.ArtifactResolverResult;
 import org.apache.maven.api.services.DependencyCoordinatesFactory;
 import org.apache.maven.api.services.DependencyResolver;
 import org.apache.maven.api.services.DependencyResolverException;
@@ -89,6 +93,8 @@
 import org.apache.maven.api.services.VersionRangeResolver;
 import org.apache.maven.api.services.VersionResolver;
 import org.apache.maven.api.services.VersionResolverException;
+import org.apache.maven.internal.impl.util.DenseInterner;
+import org.apache.maven.internal.impl.util.WeakInterner;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -106,19 +112,28 @@ public abstract class AbstractSession implements InternalSession {
     protected final Lookup lookup;
     private final Map<Class<? extends Service>, Service> services = new ConcurrentHashMap<>();
     private final List<Listener> listeners = new CopyOnWriteArrayList<>();
-    private final Map<org.eclipse.aether.graph.DependencyNode, Node> allNodes =
-            Collections.synchronizedMap(new WeakHashMap<>());
-    private final Map<Class<? extends Artifact>, Map<org.eclipse.aether.artifact.Artifact, Artifact>> allArtifacts =
-            new ConcurrentHashMap<>();
-    private final Map<org.eclipse.aether.repository.RemoteRepository, RemoteRepository> allRepositories =
-            Collections.synchronizedMap(new WeakHashMap<>());
-    private final Map<org.eclipse.aether.graph.Dependency, Dependency> allDependencies =
-            Collections.synchronizedMap(new WeakHashMap<>());
+    private final WeakInterner<org.eclipse.aether.graph.DependencyNode, Node> allNodes = new WeakInterner<>();
+    private final Map<Class<? extends Artifact>, WeakInterner<org.eclipse.aether.artifact.Artifact, Artifact>>
+            allArtifacts = new ConcurrentHashMap<>();
+    private final WeakInterner<org.eclipse.aether.repository.RemoteRepository, RemoteRepository> allRepositories =
+            new WeakInterner<>();
+    private final WeakInterner<org.eclipse.aether.graph.Dependency, Dependency> allDependencies = new WeakInterner<>();
+    private final DenseInterner<ArtifactKey> keys;
+    private final DenseInterner<String> keyStrings;
+
+    /**
+     * The keys of the repository session data holding the interned artifact keys and their coordinate strings, shared
+     * by the sessions derived from the same repository session.
+     */
+    private static final String KEYS = AbstractSession.class.getName() + ".keys";
+
+    private static final String KEY_STRINGS = AbstractSession.class.getName() + ".keyStrings";
 
     static {
         TransferResource.setClock(MonotonicClock.get());
     }
 
+    @SuppressWarnings("unchecked")
     public AbstractSession(
             RepositorySystemSession session,
             RepositorySystem repositorySystem,
@@ -129,6 +144,8 @@ public AbstractSession(
         this.repositorySystem = repositorySystem;
         this.repositories = getRepositories(repositories, resolverRepositories);
         this.lookup = lookup;
+        this.keys = (DenseInterner<ArtifactKey>) session.getData().computeIfAbsent(KEYS, DenseInterner::new);
+        this.keyStrings = (DenseInterner<String>) session.getData().computeIfAbsent(KEY_STRINGS, DenseInterner::new);
     }
 
     @Override
@@ -155,8 +172,8 @@ public Artifact getArtifact(@Nonnull org.eclipse.aether.artifact.Artifact artifa
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Artifact> T getArtifact(Class<T> clazz, org.eclipse.aether.artifact.Artifact artifact) {
-        Map<org.eclipse.aether.artifact.Artifact, Artifact> map =
-                allArtifacts.computeIfAbsent(clazz, c -> Collections.synchronizedMap(new WeakHashMap<>()));
+        WeakInterner<org.eclipse.aether.artifact.Artifact, Artifact> map =
+                allArtifacts.computeIfAbsent(clazz, c -> new WeakInterner<>());
         if (clazz == Artifact.class) {
             return (T) map.computeIfAbsent(artifact, a -> new DefaultArtifact(this, a));
         } else if (clazz == DownloadedArtifact.class) {
@@ -178,6 +195,24 @@ public Dependency getDependency(@Nonnull org.eclipse.aether.graph.Dependency dep
         return allDependencies.computeIfAbsent(dependency, d -> new DefaultDependency(this, d));
     }
 
+    @Override
+    public int getKeyId(
+            @Nonnull String groupId,
+            @Nonnull String artifactId,
+            @Nonnull String extension,
+            @Nonnull String classifier,
+            @Nonnull String version) {
+        return keys.intern(
+                new ArtifactKey(groupId, artifactId, extension, classifier, version),
+                k -> k.canonicalize(keyStrings::canonicalize));
+    }
+
+    @Nonnull
+    @Override
+    public ArtifactKey getKey(int id) {
+        return keys.get(id);
+    }
+
     @Override
     public List<org.eclipse.aether.repository.RemoteRepository> toRepositories(List<RemoteRepository> repositories) {
         return repositories == null ? null : map(repositories, this::toRepository);
@@ -603,6 +638,28 @@ public Collection<DownloadedArtifact> resolveArtifacts(
                 .getArtifacts();
     }
 
+    /**
+     * Shortcut for <code>getService(ArtifactResolver.class).resolveAsync(...)</code>
+     *
+     * @see ArtifactResolver#resolveAsync(ArtifactResolverRequest, Consumer)
+     */
+    @Override
+    public CompletionStage<Collection<DownloadedArtifact>> resolveArtifactsAsync(
+            Collection<? extends ArtifactCoordinates> coordinates, Consumer<? super DownloadedArtifact> consumer) {
+        CompletableFuture<ArtifactResolverResult> resolution = getService(ArtifactResolver.class)
+                .resolveAsync(ArtifactResolverRequest.build(this, coordinates), consumer)
+                .toCompletableFuture();
+        CompletableFuture<Collection<DownloadedArtifact>> result =
+                resolution.thenApply(ArtifactResolverResult::getArtifacts);
+        // propagate the cancellation to the resolution
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                resolution.cancel(true);
+            }
+        });
+        return result;
+    }
+
     /**
      * Shortcut for <code>getService(ArtifactResolver.class).resolve(...)</code>
      *
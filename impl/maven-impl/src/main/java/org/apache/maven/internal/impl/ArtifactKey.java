@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import org.apache.maven.api.annotations.Nonnull;
+
+/**
+ * The coordinates identifying an artifact or a dependency, as used for their {@code key()}. The canonical keys of a
+ * session are interned with canonical coordinate strings, see {@link InternalSession#getKeyId}, so that the wrappers
+ * sharing the same coordinates share the same strings. The key string itself is only built when requested.
+ */
+public final class ArtifactKey {
+    private final String groupId;
+    private final String artifactId;
+    private final String extension;
+    private final String classifier;
+    private final String version;
+    private final int hashCode;
+    private String key;
+
+    ArtifactKey(
+            @Nonnull String groupId,
+            @Nonnull String artifactId,
+            @Nonnull String extension,
+            @Nonnull String classifier,
+            @Nonnull String version) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.extension = extension;
+        this.classifier = classifier;
+        this.version = version;
+        this.hashCode = Objects.hash(groupId, artifactId, extension, classifier, version);
+    }
+
+    /**
+     * Returns a key equal to this one made of the canonical instances of its coordinates.
+     *
+     * @param canonical the function returning the canonical instance of a string
+     * @return the canonical key
+     */
+    ArtifactKey canonicalize(UnaryOperator<String> canonical) {
+        return new ArtifactKey(
+                canonical.apply(groupId),
+                canonical.apply(artifactId),
+                canonical.apply(extension),
+                canonical.apply(classifier),
+                canonical.apply(version));
+    }
+
+    @Nonnull
+    public String groupId() {
+        return groupId;
+    }
+
+    @Nonnull
+    public String artifactId() {
+        return artifactId;
+    }
+
+    @Nonnull
+    public String extension() {
+        return extension;
+    }
+
+    @Nonnull
+    public String classifier() {
+        return classifier;
+    }
+
+    @Nonnull
+    public String version() {
+        return version;
+    }
+
+    /**
+     * {@return the "groupId:artifactId:extension[:classifier]:version" key string}
+     */
+    @Nonnull
+    public String key() {
+        String k = key;
+        if (k == null) {
+            // racy but idempotent, the string is immutable
+            k = groupId
+                    + ':'
+                    + artifactId
+                    + ':'
+                    + extension
+                    + (classifier.isEmpty() ? "" : ":" + classifier)
+                    + ':'
+                    + version;
+            key = k;
+        }
+        return k;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ArtifactKey that
+                && hashCode == that.hashCode
+                && groupId.equals(that.groupId)
+                && artifactId.equals(that.artifactId)
+                && version.equals(that.version)
+                && extension.equals(that.extension)
+                && classifier.equals(that.classifier);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return key();
+    }
+}
@@ -28,24 +28,22 @@
 import static org.apache.maven.internal.impl.Utils.nonNull;
 
 /**
- * A wrapper class around a maven resolver artifact.
+ * A wrapper class around a maven resolver artifact. Its coordinates are the canonical strings of its interned key.
  */
 public class DefaultArtifact implements Artifact {
     protected final @Nonnull InternalSession session;
     protected final @Nonnull org.eclipse.aether.artifact.Artifact artifact;
-    protected final String key;
+    protected final int keyId;
 
     public DefaultArtifact(@Nonnull InternalSession session, @Nonnull org.eclipse.aether.artifact.Artifact artifact) {
         this.session = nonNull(session, "session");
         this.artifact = nonNull(artifact, "artifact");
-        this.key = getGroupId()
-                + ':'
-                + getArtifactId()
-                + ':'
-                + getExtension()
-                + (getClassifier().isEmpty() ? "" : ":" + getClassifier())
-                + ':'
-                + getVersion();
+        this.keyId = session.getKeyId(
+                artifact.getGroupId(),
+                artifact.getArtifactId(),
+                artifact.getExtension(),
+                artifact.getClassifier(),
+                artifact.getVersion());
     }
 
     public org.eclipse.aether.artifact.Artifact getArtifact() {
@@ -54,25 +52,25 @@ public org.eclipse.aether.artifact.Artifact getArtifact() {
 
     @Override
     public String key() {
-        return key;
+        return session.getKey(keyId).key();
     }
 
     @Nonnull
     @Override
     public String getGroupId() {
-        return artifact.getGroupId();
+        return session.getKey(keyId).groupId();
     }
 
     @Nonnull
     @Override
     public String getArtifactId() {
-        return artifact.getArtifactId();
+        return session.getKey(keyId).artifactId();
     }
 
     @Nonnull
     @Override
     public Version getVersion() {
-        return session.parseVersion(artifact.getVersion());
+        return session.parseVersion(session.getKey(keyId).version());
     }
 
     @Override
@@ -83,13 +81,13 @@ public Version getBaseVersion() {
     @Nonnull
     @Override
     public String getExtension() {
-        return artifact.getExtension();
+        return session.getKey(keyId).extension();
     }
 
     @Nonnull
     @Override
     public String getClassifier() {
-        return artifact.getClassifier();
+        return session.getKey(keyId).classifier();
     }
 
     @Override
@@ -105,12 +103,15 @@ public ArtifactCoordinates toCoordinates() {
 
     @Override
     public boolean equals(Object o) {
+        if (o instanceof DefaultArtifact that && that.session == session) {
+            return keyId == that.keyId;
+        }
         return o instanceof Artifact && Objects.equals(key(), ((Artifact) o).key());
     }
 
     @Override
     public int hashCode() {
-        return key.hashCode();
+        return key().hashCode();
     }
 
     @Override
@@ -18,7 +18,10 @@
  */
 package org.apache.maven.internal.impl;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collection;
+import java.util.List;
 
 import org.apache.maven.api.ProducedArtifact;
 import org.apache.maven.api.RemoteRepository;
@@ -28,6 +31,7 @@
 import org.apache.maven.api.services.ArtifactDeployer;
 import org.apache.maven.api.services.ArtifactDeployerException;
 import org.apache.maven.api.services.ArtifactDeployerRequest;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.deployment.DeployRequest;
 import org.eclipse.aether.deployment.DeploymentException;
 
@@ -47,11 +51,22 @@ public void deploy(@Nonnull ArtifactDeployerRequest request) {
         Collection<ProducedArtifact> artifacts = nonNull(request.getArtifacts(), "request.artifacts");
         RemoteRepository repository = nonNull(request.getRepository(), "request.repository");
         try {
+            List<Artifact> aetherArtifacts = session.toArtifacts(artifacts);
             DeployRequest deployRequest = new DeployRequest()
                     .setRepository(session.toRepository(repository))
-                    .setArtifacts(session.toArtifacts(artifacts));
+                    .setArtifacts(aetherArtifacts);
 
             session.getRepositorySystem().deploy(session.getSession(), deployRequest);
+            IoCounters counters = IoCounters.of(session);
+            for (Artifact artifact : aetherArtifacts) {
+                if (artifact.getPath() != null) {
+                    try {
+                        counters.uploaded(Files.size(artifact.getPath()));
+                    } catch (IOException e) {
+                        // ignore, the counters are only informative
+                    }
+                }
+            }
         } catch (DeploymentException e) {
             throw new ArtifactDeployerException("Unable to deploy artifacts", e);
         }
@@ -18,6 +18,11 @@
  */
 package org.apache.maven.internal.impl;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -26,6 +31,7 @@
 import org.apache.maven.api.services.ArtifactInstallerException;
 import org.apache.maven.api.services.ArtifactInstallerRequest;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.installation.InstallRequest;
 import org.eclipse.aether.installation.InstallationException;
 
@@ -47,12 +53,29 @@ public void install(ArtifactInstallerRequest request) throws ArtifactInstallerEx
         nonNull(request, "request");
         InternalSession session = InternalSession.from(request.getSession());
         try {
-            InstallRequest installRequest =
-                    new InstallRequest().setArtifacts(session.toArtifacts(request.getArtifacts()));
+            List<Artifact> artifacts = session.toArtifacts(request.getArtifacts());
+            InstallRequest installRequest = new InstallRequest().setArtifacts(artifacts);
 
             repositorySystem.install(session.getSession(), installRequest);
+            count(session, artifacts);
         } catch (InstallationException e) {
             throw new ArtifactInstallerException(e.getMessage(), e);
         }
     }
+
+    private static void count(InternalSession session, List<Artifact> artifacts) {
+        IoCounters counters = IoCounters.of(session);
+        for (Artifact artifact : artifacts) {
+            Path source = artifact.getPath();
+            if (source != null) {
+                Path target =
+                        session.getSession().getLocalRepositoryManager().getAbsolutePathForLocalArtifact(artifact);
+                try {
+                    counters.installed(Files.size(source), Files.isSameFile(source, target));
+                } catch (IOException e) {
+                    // ignore, the counters are only informative
+                }
+            }
+        }
+    }
 }
@@ -24,6 +24,17 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.maven.api.Artifact;
 import org.apache.maven.api.ArtifactCoordinates;
@@ -39,6 +50,7 @@
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.util.ConfigUtils;
 
 import static org.apache.maven.internal.impl.Utils.nonNull;
 
@@ -46,6 +58,22 @@
 @Singleton
 public class DefaultArtifactResolver implements ArtifactResolver {
 
+    /**
+     * The resolver configuration key of the number of concurrent downloads, also used to bound the number of
+     * artifacts resolved concurrently by {@link #resolveAsync(ArtifactResolverRequest, Consumer)}.
+     */
+    static final String THREADS_KEY = "aether.connector.basic.threads";
+
+    static final int DEFAULT_THREADS = 5;
+
+    /**
+     * The maximum number of artifacts resolved by a single request to the repository system in
+     * {@link #resolveAsync(ArtifactResolverRequest, Consumer)}.
+     */
+    static final int BATCH_SIZE = 8;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
     @Override
     public ArtifactResolverResult resolve(ArtifactResolverRequest request)
             throws ArtifactResolverException, IllegalArgumentException {
@@ -86,6 +114,142 @@ public ArtifactResolverResult resolve(ArtifactResolverRequest request)
         }
     }
 
+    @Override
+    public CompletionStage<ArtifactResolverResult> resolveAsync(
+            ArtifactResolverRequest request, Consumer<? super DownloadedArtifact> consumer) {
+        nonNull(request, "request");
+        nonNull(consumer, "consumer");
+        return new AsyncResolution(request, consumer).start();
+    }
+
+    /**
+     * Resolves the artifacts of a request in batches on a bounded number of workers, each artifact being consumed
+     * by the worker that resolved it. The artifacts of a batch are resolved by a single request to the repository
+     * system, which downloads them concurrently, and batches are kept small so that artifacts are still consumed
+     * while the next ones are downloaded.
+     */
+    class AsyncResolution {
+        final InternalSession session;
+        final ArtifactManager artifactManager;
+        final List<RemoteRepository> repositories;
+        final Consumer<? super DownloadedArtifact> consumer;
+        final Queue<ArtifactCoordinates> pending;
+        final AtomicInteger remaining;
+        final Map<DownloadedArtifact, Path> paths = new ConcurrentHashMap<>();
+        final CompletableFuture<ArtifactResolverResult> future = new CompletableFuture<>();
+        final List<Future<?>> workers = new ArrayList<>();
+        int batchSize;
+
+        AsyncResolution(ArtifactResolverRequest request, Consumer<? super DownloadedArtifact> consumer) {
+            this.session = InternalSession.from(request.getSession());
+            this.artifactManager = session.getService(ArtifactManager.class);
+            this.repositories = session.toRepositories(
+                    request.getRepositories() != null ? request.getRepositories() : session.getRemoteRepositories());
+            this.consumer = consumer;
+            this.pending = new ConcurrentLinkedQueue<>(request.getCoordinates());
+            this.remaining = new AtomicInteger(pending.size());
+        }
+
+        CompletableFuture<ArtifactResolverResult> start() {
+            if (pending.isEmpty()) {
+                future.complete(new DefaultArtifactResolverResult(paths));
+                return future;
+            }
+            int threads = Math.max(1, ConfigUtils.getInteger(session.getSession(), DEFAULT_THREADS, THREADS_KEY));
+            // spread small requests over the workers, and split large ones in batches of at most BATCH_SIZE
+            int size = pending.size();
+            batchSize = Math.min(BATCH_SIZE, (size + threads - 1) / threads);
+            int batches = (size + batchSize - 1) / batchSize;
+            synchronized (workers) {
+                for (int i = 0; i < Math.min(threads, batches); i++) {
+                    workers.add(executor.submit(this::work));
+                }
+            }
+            future.whenComplete((r, e) -> {
+                if (future.isCancelled()) {
+                    synchronized (workers) {
+                        workers.forEach(w -> w.cancel(true));
+                    }
+                }
+            });
+            return future;
+        }
+
+        void work() {
+            while (!future.isDone()) {
+                List<ArtifactCoordinates> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    resolve(batch);
+                } catch (ArtifactResolutionException e) {
+                    future.completeExceptionally(
+                            new ArtifactResolverException("Unable to resolve artifact: " + e.getMessage(), e));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        }
+
+        List<ArtifactCoordinates> nextBatch() {
+            List<ArtifactCoordinates> batch = new ArrayList<>(batchSize);
+            ArtifactCoordinates coords;
+            while (batch.size() < batchSize && (coords = pending.poll()) != null) {
+                batch.add(coords);
+            }
+            return batch;
+        }
+
+        void resolve(List<ArtifactCoordinates> batch) throws ArtifactResolutionException {
+            List<ArtifactRequest> requests = new ArrayList<>(batch.size());
+            for (ArtifactCoordinates coords : batch) {
+                org.eclipse.aether.artifact.Artifact aetherArtifact = session.toArtifact(coords);
+                Path path = artifactManager
+                        .getPath(session.getArtifact(aetherArtifact))
+                        .orElse(null);
+                if (path != null) {
+                    if (aetherArtifact.getPath() == null) {
+                        aetherArtifact = aetherArtifact.setPath(path);
+                    }
+                    accept(session.getArtifact(DownloadedArtifact.class, aetherArtifact));
+                } else {
+                    requests.add(new ArtifactRequest(aetherArtifact, repositories, null));
+                }
+            }
+            if (!requests.isEmpty()) {
+                List<ArtifactResult> results =
+                        session.getRepositorySystem().resolveArtifacts(session.getSession(), requests);
+                for (ArtifactResult result : results) {
+                    accept(session.getArtifact(DownloadedArtifact.class, result.getArtifact()));
+                }
+            }
+        }
+
+        void accept(DownloadedArtifact artifact) {
+            // stop consuming once the resolution has failed or has been cancelled
+            if (future.isDone()) {
+                return;
+            }
+            paths.put(artifact, artifact.getPath());
+            consumer.accept(artifact);
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(new DefaultArtifactResolverResult(paths));
+            }
+        }
+    }
+
+    static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "maven-artifact-resolver-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     static class DefaultArtifactResolverResult implements ArtifactResolverResult {
         final Map<DownloadedArtifact, Path> paths;
 
@@ -18,19 +18,21 @@
  */
 package org.apache.maven.internal.impl;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import org.apache.maven.api.di.Inject;
@@ -43,9 +45,40 @@
 
 import static org.apache.maven.internal.impl.Utils.nonNull;
 
+/**
+ * Default implementation of {@link ChecksumAlgorithmService}.
+ * <p>
+ * Files are read through a {@link FileChannel}. When several checksums of a large file are requested, the file is
+ * read in large direct buffers and each algorithm digests a chunk on its own core while the next chunk is read,
+ * so that the elapsed time is bound by the slowest algorithm rather than by the sum of all of them.
+ */
 @Named
 @Singleton
 public class DefaultChecksumAlgorithmService implements ChecksumAlgorithmService {
+    /**
+     * Size of the buffer used to read small files or streams.
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Size of the chunks of large files digested concurrently.
+     */
+    static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Size above which the checksums of a file are computed concurrently.
+     */
+    static final long CONCURRENT_THRESHOLD = 2L * CHUNK_SIZE;
+
+    /**
+     * Maximum number of chunk buffers kept for reuse. Direct buffers are costly to allocate and are only released
+     * by the garbage collector, so they are pooled rather than allocated for each file, the pool being bounded so
+     * that a burst of concurrent computations does not keep their buffers afterward.
+     */
+    static final int POOLED_CHUNKS = 8;
+
+    private static final BlockingQueue<ByteBuffer> CHUNKS = new ArrayBlockingQueue<>(POOLED_CHUNKS);
+
     private final ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector;
 
     @Inject
@@ -87,11 +120,7 @@ public Collection<ChecksumAlgorithm> select(Collection<String> algorithmNames) {
     public Map<ChecksumAlgorithm, String> calculate(byte[] data, Collection<ChecksumAlgorithm> algorithms) {
         nonNull(data, "data");
         nonNull(algorithms, "algorithms");
-        try {
-            return calculate(new ByteArrayInputStream(data), algorithms);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e); // really unexpected
-        }
+        return calculate(ByteBuffer.wrap(data), algorithms);
     }
 
     @Override
@@ -115,8 +144,77 @@ public Map<ChecksumAlgorithm, String> calculate(Path file, Collection<ChecksumAl
             throws IOException {
         nonNull(file, "file");
         nonNull(algorithms, "algorithms");
-        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
-            return calculate(inputStream, algorithms);
+        LinkedHashMap<ChecksumAlgorithm, ChecksumCalculator> algMap = new LinkedHashMap<>();
+        algorithms.forEach(f -> algMap.put(f, f.getCalculator()));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (algMap.size() > 1 && channel.size() >= CONCURRENT_THRESHOLD) {
+                updateConcurrently(channel, algMap.values());
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    update(buffer, algMap.values());
+                    buffer.clear();
+                }
+            }
+        }
+        LinkedHashMap<ChecksumAlgorithm, String> result = new LinkedHashMap<>();
+        algMap.forEach((k, v) -> result.put(k, v.checksum()));
+        return result;
+    }
+
+    /**
+     * Feeds the file to the calculators chunk by chunk, each calculator digesting the current chunk in the
+     * common pool while the next chunk is read.
+     */
+    private static void updateConcurrently(FileChannel channel, Collection<ChecksumCalculator> calculators)
+            throws IOException {
+        ByteBuffer current = takeChunk();
+        ByteBuffer next = takeChunk();
+        try {
+            fill(channel, current);
+            while (current.hasRemaining()) {
+                ByteBuffer chunk = current;
+                List<ForkJoinTask<?>> tasks = new ArrayList<>(calculators.size());
+                for (ChecksumCalculator calculator : calculators) {
+                    tasks.add(ForkJoinTask.adapt(() -> calculator.update(chunk.duplicate()))
+                            .fork());
+                }
+                try {
+                    fill(channel, next);
+                } finally {
+                    tasks.forEach(ForkJoinTask::quietlyJoin);
+                }
+                // rethrow failures, if any
+                tasks.forEach(ForkJoinTask::join);
+                current = next;
+                next = chunk;
+            }
+        } finally {
+            // the calculators are done with both buffers, which can be reused
+            CHUNKS.offer(current);
+            CHUNKS.offer(next);
+        }
+    }
+
+    private static ByteBuffer takeChunk() {
+        ByteBuffer chunk = CHUNKS.poll();
+        return chunk != null ? chunk : ByteBuffer.allocateDirect(CHUNK_SIZE);
+    }
+
+    private static void fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the end of the file is reached
+        }
+        buffer.flip();
+    }
+
+    private static void update(ByteBuffer buffer, Collection<ChecksumCalculator> calculators) {
+        int position = buffer.position();
+        for (ChecksumCalculator checksumCalculator : calculators) {
+            buffer.position(position);
+            checksumCalculator.update(buffer);
         }
     }
 
@@ -127,15 +225,13 @@ public Map<ChecksumAlgorithm, String> calculate(InputStream stream, Collection<C
         nonNull(algorithms, "algorithms");
         LinkedHashMap<ChecksumAlgorithm, ChecksumCalculator> algMap = new LinkedHashMap<>();
         algorithms.forEach(f -> algMap.put(f, f.getCalculator()));
-        final byte[] buffer = new byte[1024 * 32];
+        final byte[] buffer = new byte[BUFFER_SIZE];
         for (; ; ) {
             int read = stream.read(buffer);
             if (read < 0) {
                 break;
             }
-            for (ChecksumCalculator checksumCalculator : algMap.values()) {
-                checksumCalculator.update(ByteBuffer.wrap(buffer, 0, read));
-            }
+            update(ByteBuffer.wrap(buffer, 0, read), algMap.values());
         }
         LinkedHashMap<ChecksumAlgorithm, String> result = new LinkedHashMap<>();
         algMap.forEach((k, v) -> result.put(k, v.checksum()));
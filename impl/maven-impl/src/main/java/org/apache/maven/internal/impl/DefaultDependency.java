@@ -25,32 +25,68 @@
 import org.apache.maven.api.DependencyCoordinates;
 import org.apache.maven.api.Version;
 import org.apache.maven.api.annotations.Nonnull;
+import org.eclipse.aether.artifact.ArtifactProperties;
 
 public class DefaultDependency extends AetherDependencyWrapper implements Dependency {
 
-    private final String key;
+    private final int keyId;
 
     public DefaultDependency(
             @Nonnull InternalSession session, @Nonnull org.eclipse.aether.graph.Dependency dependency) {
         super(session, dependency);
-        this.key = getGroupId()
-                + ':'
-                + getArtifactId()
-                + ':'
-                + getExtension()
-                + (!getClassifier().isEmpty() ? ":" + getClassifier() : "")
-                + ':'
-                + getVersion();
+        this.keyId = session.getKeyId(
+                dependency.getArtifact().getGroupId(),
+                dependency.getArtifact().getArtifactId(),
+                dependency.getArtifact().getExtension(),
+                classifier(session, dependency.getArtifact()),
+                dependency.getArtifact().getVersion());
+    }
+
+    /**
+     * Returns the classifier of the given artifact, or the one of its type if empty, like
+     * {@link AetherDependencyWrapper#getClassifier()} but without reading the key of this dependency being built.
+     */
+    private static String classifier(InternalSession session, org.eclipse.aether.artifact.Artifact artifact) {
+        String classifier = artifact.getClassifier();
+        if (classifier.isEmpty()) {
+            classifier = session.requireType(artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension()))
+                    .getClassifier();
+            if (classifier == null) {
+                classifier = "";
+            }
+        }
+        return classifier;
     }
 
     @Override
     public String key() {
-        return key;
+        return session.getKey(keyId).key();
+    }
+
+    @Override
+    public String getGroupId() {
+        return session.getKey(keyId).groupId();
+    }
+
+    @Override
+    public String getArtifactId() {
+        return session.getKey(keyId).artifactId();
+    }
+
+    @Override
+    public String getExtension() {
+        return session.getKey(keyId).extension();
+    }
+
+    @Nonnull
+    @Override
+    public String getClassifier() {
+        return session.getKey(keyId).classifier();
     }
 
     @Override
     public Version getVersion() {
-        return session.parseVersion(dependency.getArtifact().getVersion());
+        return session.parseVersion(session.getKey(keyId).version());
     }
 
     @Override
@@ -76,11 +112,14 @@ public DependencyCoordinates toCoordinates() {
 
     @Override
     public boolean equals(Object o) {
+        if (o instanceof DefaultDependency that && that.session == session) {
+            return keyId == that.keyId;
+        }
         return o instanceof Artifact && Objects.equals(key(), ((Artifact) o).key());
     }
 
     @Override
     public int hashCode() {
-        return key.hashCode();
+        return key().hashCode();
     }
 }
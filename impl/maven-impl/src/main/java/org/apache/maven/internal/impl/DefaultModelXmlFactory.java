@@ -25,6 +25,7 @@
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.maven.api.annotations.Nonnull;
@@ -47,6 +48,21 @@
 @Named
 @Singleton
 public class DefaultModelXmlFactory implements ModelXmlFactory {
+
+    /**
+     * The elements which do not contribute to the dependency metadata of a model.
+     *
+     * @see XmlReaderRequest#isDependencyMetadataOnly()
+     */
+    static final Set<String> NON_DEPENDENCY_METADATA_ELEMENTS = Set.of(
+            "Model.build",
+            "Model.reporting",
+            "Profile.build",
+            "Profile.reporting",
+            "DistributionManagement.repository",
+            "DistributionManagement.snapshotRepository",
+            "DistributionManagement.site");
+
     @Override
     public Model read(@Nonnull XmlReaderRequest request) throws XmlReaderException {
         nonNull(request, "request");
@@ -65,6 +81,10 @@ public Model read(@Nonnull XmlReaderRequest request) throws XmlReaderException {
             }
             MavenStaxReader xml = new MavenStaxReader();
             xml.setAddDefaultEntities(request.isAddDefaultEntities());
+            xml.setAddLocationInformation(request.isLocationTracking());
+            if (request.isDependencyMetadataOnly()) {
+                xml.setSkippedElements(NON_DEPENDENCY_METADATA_ELEMENTS);
+            }
             if (inputStream != null) {
                 return xml.read(inputStream, request.isStrict(), source);
             } else if (reader != null) {
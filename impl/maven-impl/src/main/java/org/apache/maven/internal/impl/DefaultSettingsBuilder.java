@@ -29,6 +29,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -54,6 +55,7 @@
 import org.apache.maven.api.settings.Server;
 import org.apache.maven.api.settings.Settings;
 import org.apache.maven.internal.impl.model.DefaultInterpolator;
+import org.apache.maven.internal.impl.util.BackgroundTasks;
 import org.apache.maven.settings.v4.SettingsMerger;
 import org.apache.maven.settings.v4.SettingsTransformer;
 import org.codehaus.plexus.components.secdispatcher.Dispatcher;
@@ -97,16 +99,32 @@ public DefaultSettingsBuilder(
 
     @Override
     public SettingsBuilderResult build(SettingsBuilderRequest request) throws SettingsBuilderException {
-        List<BuilderProblem> problems = new ArrayList<>();
-
         Source installationSource = request.getInstallationSettingsSource().orElse(null);
-        Settings installation = readSettings(installationSource, false, request, problems);
-
         Source projectSource = request.getProjectSettingsSource().orElse(null);
-        Settings project = readSettings(projectSource, true, request, problems);
-
         Source userSource = request.getUserSettingsSource().orElse(null);
-        Settings user = readSettings(userSource, false, request, problems);
+
+        // Reading and interpolating the sources are independent and I/O bound, so the installation and project
+        // settings are parsed in the background while the user settings are parsed on this thread. Decryption
+        // and validation then run in order on this thread, and problems are reported in the same order as if
+        // the sources were read one after another.
+        List<BuilderProblem> installationProblems = new ArrayList<>();
+        List<BuilderProblem> projectProblems = new ArrayList<>();
+        List<BuilderProblem> userProblems = new ArrayList<>();
+        CompletableFuture<Settings> installationFuture =
+                parseSettingsAsync("installation", installationSource, request, installationProblems);
+        CompletableFuture<Settings> projectFuture =
+                parseSettingsAsync("project", projectSource, request, projectProblems);
+        Settings userParsed = parseSettings(userSource, request, userProblems);
+
+        Settings installation = readSettings(
+                installationSource, BackgroundTasks.join(installationFuture), false, request, installationProblems);
+        Settings project =
+                readSettings(projectSource, BackgroundTasks.join(projectFuture), true, request, projectProblems);
+        Settings user = readSettings(userSource, userParsed, false, request, userProblems);
+
+        List<BuilderProblem> problems = new ArrayList<>(installationProblems);
+        problems.addAll(projectProblems);
+        problems.addAll(userProblems);
 
         Settings effective =
                 settingsMerger.merge(user, settingsMerger.merge(project, installation, false, null), false, null);
@@ -158,13 +176,22 @@ private boolean hasErrors(List<BuilderProblem> problems) {
         return false;
     }
 
-    private Settings readSettings(
-            Source settingsSource,
-            boolean isProjectSettings,
-            SettingsBuilderRequest request,
-            List<BuilderProblem> problems) {
+    private CompletableFuture<Settings> parseSettingsAsync(
+            String name, Source settingsSource, SettingsBuilderRequest request, List<BuilderProblem> problems) {
         if (settingsSource == null) {
-            return Settings.newInstance();
+            return CompletableFuture.completedFuture(null);
+        }
+        return BackgroundTasks.submit(name + "-settings", () -> parseSettings(settingsSource, request, problems));
+    }
+
+    /**
+     * Reads and interpolates the given settings source, returning {@code null} if there is no source or
+     * if it could not be read.
+     */
+    private Settings parseSettings(
+            Source settingsSource, SettingsBuilderRequest request, List<BuilderProblem> problems) {
+        if (settingsSource == null) {
+            return null;
         }
 
         Settings settings;
@@ -202,7 +229,7 @@ private Settings readSettings(
                     e,
                     "Non-parseable settings " + settingsSource.getLocation() + ": " + e.getMessage(),
                     BuilderProblem.Severity.FATAL));
-            return Settings.newInstance();
+            return null;
         } catch (IOException e) {
             problems.add(new DefaultBuilderProblem(
                     settingsSource.getLocation(),
@@ -211,10 +238,22 @@ private Settings readSettings(
                     e,
                     "Non-readable settings " + settingsSource.getLocation() + ": " + e.getMessage(),
                     BuilderProblem.Severity.FATAL));
+            return null;
+        }
+
+        return interpolate(settings, request, problems);
+    }
+
+    private Settings readSettings(
+            Source settingsSource,
+            Settings settings,
+            boolean isProjectSettings,
+            SettingsBuilderRequest request,
+            List<BuilderProblem> problems) {
+        if (settings == null) {
             return Settings.newInstance();
         }
 
-        settings = interpolate(settings, request, problems);
         settings = decrypt(settingsSource, settings, request, problems);
 
         settingsValidator.validate(settings, isProjectSettings, problems);
@@ -26,6 +26,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.apache.maven.api.di.Inject;
@@ -42,6 +43,7 @@
 import org.apache.maven.api.services.xml.XmlReaderRequest;
 import org.apache.maven.api.toolchain.PersistedToolchains;
 import org.apache.maven.internal.impl.model.DefaultInterpolator;
+import org.apache.maven.internal.impl.util.BackgroundTasks;
 import org.apache.maven.toolchain.v4.MavenToolchainsMerger;
 import org.apache.maven.toolchain.v4.MavenToolchainsTransformer;
 
@@ -70,13 +72,24 @@ public DefaultToolchainsBuilder(Interpolator interpolator, ToolchainsXmlFactory
 
     @Override
     public ToolchainsBuilderResult build(ToolchainsBuilderRequest request) throws ToolchainsBuilderException {
-        List<BuilderProblem> problems = new ArrayList<>();
-
         Source installationSource = request.getInstallationToolchainsSource().orElse(null);
-        PersistedToolchains installation = readToolchains(installationSource, request, problems);
-
         Source userSource = request.getUserToolchainsSource().orElse(null);
-        PersistedToolchains user = readToolchains(userSource, request, problems);
+
+        // both sources are independent: read the installation toolchains in the background,
+        // and report problems in the same order as if they were read one after another
+        List<BuilderProblem> installationProblems = new ArrayList<>();
+        CompletableFuture<PersistedToolchains> installationFuture = installationSource != null
+                ? BackgroundTasks.submit(
+                        "installation-toolchains",
+                        () -> readToolchains(installationSource, request, installationProblems))
+                : CompletableFuture.completedFuture(PersistedToolchains.newInstance());
+
+        List<BuilderProblem> userProblems = new ArrayList<>();
+        PersistedToolchains user = readToolchains(userSource, request, userProblems);
+        PersistedToolchains installation = BackgroundTasks.join(installationFuture);
+
+        List<BuilderProblem> problems = new ArrayList<>(installationProblems);
+        problems.addAll(userProblems);
 
         PersistedToolchains effective = toolchainsMerger.merge(user, installation, false, null);
 
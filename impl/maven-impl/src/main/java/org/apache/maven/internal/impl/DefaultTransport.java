@@ -19,7 +19,6 @@
 package org.apache.maven.internal.impl;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -33,19 +32,62 @@
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Transport backed by a resolver {@link Transporter}.
+ * <p>
+ * Files are handed over to the transporter, which streams them directly from or to their location, and byte
+ * arrays are transferred in memory, so that no intermediate temporary file is written. The transferred bytes are
+ * recorded in the {@link IoCounters} of the session, if any.
+ */
 public class DefaultTransport implements Transport {
     private final URI baseURI;
     private final Transporter transporter;
+    private final IoCounters counters;
 
     public DefaultTransport(URI baseURI, Transporter transporter) {
+        this(baseURI, transporter, null);
+    }
+
+    public DefaultTransport(URI baseURI, Transporter transporter, IoCounters counters) {
         this.baseURI = requireNonNull(baseURI);
         this.transporter = requireNonNull(transporter);
+        this.counters = counters;
     }
 
     @Override
     public boolean get(URI relativeSource, Path target) {
-        requireNonNull(relativeSource, "relativeSource is null");
         requireNonNull(target, "target is null");
+        GetTask getTask = new GetTask(resolveSource(relativeSource));
+        getTask.setDataPath(target);
+        if (get(getTask)) {
+            if (counters != null) {
+                try {
+                    counters.downloaded(Files.size(target));
+                } catch (IOException e) {
+                    // ignore, the counters are only informative
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(URI relativeSource) {
+        // TODO: check file size and prevent OOM?
+        GetTask getTask = new GetTask(resolveSource(relativeSource));
+        if (get(getTask)) {
+            byte[] data = getTask.getDataBytes();
+            if (counters != null) {
+                counters.downloaded(data.length);
+            }
+            return Optional.of(data);
+        }
+        return Optional.empty();
+    }
+
+    private URI resolveSource(URI relativeSource) {
+        requireNonNull(relativeSource, "relativeSource is null");
         if (relativeSource.isAbsolute()) {
             throw new IllegalArgumentException("Supplied URI is not relative");
         }
@@ -53,8 +95,10 @@ public boolean get(URI relativeSource, Path target) {
         if (!source.toASCIIString().startsWith(baseURI.toASCIIString())) {
             throw new IllegalArgumentException("Supplied relative URI escapes baseUrl");
         }
-        GetTask getTask = new GetTask(source);
-        getTask.setDataPath(target);
+        return source;
+    }
+
+    private boolean get(GetTask getTask) {
         try {
             transporter.get(getTask);
             return true;
@@ -66,27 +110,6 @@ public boolean get(URI relativeSource, Path target) {
         }
     }
 
-    @Override
-    public Optional<byte[]> getBytes(URI relativeSource) {
-        try {
-            Path tempPath = null;
-            try {
-                tempPath = Files.createTempFile("transport-get", "tmp");
-                if (get(relativeSource, tempPath)) {
-                    // TODO: check file size and prevent OOM?
-                    return Optional.of(Files.readAllBytes(tempPath));
-                }
-                return Optional.empty();
-            } finally {
-                if (tempPath != null) {
-                    Files.deleteIfExists(tempPath);
-                }
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     @Override
     public Optional<String> getString(URI relativeSource, Charset charset) {
         requireNonNull(charset, "charset is null");
@@ -97,10 +120,24 @@ public Optional<String> getString(URI relativeSource, Charset charset) {
     @Override
     public void put(Path source, URI relativeTarget) {
         requireNonNull(source, "source is null");
-        requireNonNull(relativeTarget, "relativeTarget is null");
-        if (Files.isRegularFile(source)) {
+        if (!Files.isRegularFile(source)) {
             throw new IllegalArgumentException("source file does not exist or is not a file");
         }
+        PutTask putTask = new PutTask(resolveTarget(relativeTarget));
+        putTask.setDataPath(source);
+        put(putTask);
+    }
+
+    @Override
+    public void putBytes(byte[] source, URI relativeTarget) {
+        requireNonNull(source, "source is null");
+        PutTask putTask = new PutTask(resolveTarget(relativeTarget));
+        putTask.setDataBytes(source);
+        put(putTask);
+    }
+
+    private URI resolveTarget(URI relativeTarget) {
+        requireNonNull(relativeTarget, "relativeTarget is null");
         if (relativeTarget.isAbsolute()) {
             throw new IllegalArgumentException("Supplied URI is not relative");
         }
@@ -108,32 +145,17 @@ public void put(Path source, URI relativeTarget) {
         if (!target.toASCIIString().startsWith(baseURI.toASCIIString())) {
             throw new IllegalArgumentException("Supplied relative URI escapes baseUrl");
         }
+        return target;
+    }
 
-        PutTask putTask = new PutTask(target);
-        putTask.setDataPath(source);
+    private void put(PutTask putTask) {
         try {
             transporter.put(putTask);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
-    }
-
-    @Override
-    public void putBytes(byte[] source, URI relativeTarget) {
-        requireNonNull(source, "source is null");
-        try {
-            Path tempPath = null;
-            try {
-                tempPath = Files.createTempFile("transport-get", "tmp");
-                Files.write(tempPath, source);
-                put(tempPath, relativeTarget);
-            } finally {
-                if (tempPath != null) {
-                    Files.deleteIfExists(tempPath);
-                }
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+        if (counters != null) {
+            counters.uploaded(putTask.getDataLength());
         }
     }
 
@@ -52,7 +52,8 @@ public Transport transport(Session session, RemoteRepository repository) {
                     baseURI,
                     transporterProvider.newTransporter(
                             InternalSession.from(session).getSession(),
-                            ((DefaultRemoteRepository) repository).getRepository()));
+                            ((DefaultRemoteRepository) repository).getRepository()),
+                    IoCounters.of(session));
         } catch (URISyntaxException e) {
             throw new TransportProviderException("Remote repository URL invalid", e);
         } catch (NoTransporterException e) {
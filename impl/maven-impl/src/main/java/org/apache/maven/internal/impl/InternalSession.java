@@ -66,6 +66,34 @@ static void associate(org.eclipse.aether.RepositorySystemSession rsession, Sessi
     @Nonnull
     Dependency getDependency(@Nonnull org.eclipse.aether.graph.Dependency dependency);
 
+    /**
+     * Returns the dense id of the key of the given artifact or dependency coordinates, which is the same for equal
+     * coordinates. The key is looked up without building its string.
+     *
+     * @param groupId the group id
+     * @param artifactId the artifact id
+     * @param extension the extension
+     * @param classifier the classifier, empty if none
+     * @param version the version
+     * @return the id of the key
+     * @see #getKey(int)
+     */
+    int getKeyId(
+            @Nonnull String groupId,
+            @Nonnull String artifactId,
+            @Nonnull String extension,
+            @Nonnull String classifier,
+            @Nonnull String version);
+
+    /**
+     * Returns the canonical key of the given id, whose coordinates are canonical strings shared by all the keys.
+     *
+     * @param id an id returned by {@link #getKeyId}
+     * @return the key
+     */
+    @Nonnull
+    ArtifactKey getKey(int id);
+
     List<org.eclipse.aether.repository.RemoteRepository> toRepositories(List<RemoteRepository> repositories);
 
     org.eclipse.aether.repository.RemoteRepository toRepository(RemoteRepository repository);
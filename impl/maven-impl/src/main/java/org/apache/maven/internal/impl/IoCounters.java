@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+
+import static org.apache.maven.internal.impl.Utils.nonNull;
+
+/**
+ * Byte-level counters of the artifact I/O performed on behalf of a session: files transferred through a
+ * {@link org.apache.maven.api.services.Transport}, deployed, or installed into the local repository.
+ * <p>
+ * The counters are available from the session data under {@link #KEY}.
+ *
+ * @since 4.0.0
+ */
+public final class IoCounters {
+
+    public static final SessionData.Key<IoCounters> KEY = SessionData.key(IoCounters.class);
+
+    private final LongAdder downloaded = new LongAdder();
+    private final LongAdder uploaded = new LongAdder();
+    private final LongAdder installed = new LongAdder();
+    private final LongAdder linked = new LongAdder();
+
+    /**
+     * Returns the counters of the given session, creating them if needed.
+     *
+     * @param session the session
+     * @return the counters of the session
+     */
+    public static IoCounters of(Session session) {
+        return nonNull(session, "session").getData().computeIfAbsent(KEY, IoCounters::new);
+    }
+
+    void downloaded(long bytes) {
+        downloaded.add(bytes);
+    }
+
+    void uploaded(long bytes) {
+        uploaded.add(bytes);
+    }
+
+    void installed(long bytes, boolean hardLink) {
+        (hardLink ? linked : installed).add(bytes);
+    }
+
+    /**
+     * @return the number of bytes downloaded through transports
+     */
+    public long getDownloadedBytes() {
+        return downloaded.sum();
+    }
+
+    /**
+     * @return the number of bytes uploaded through transports or deployed
+     */
+    public long getUploadedBytes() {
+        return uploaded.sum();
+    }
+
+    /**
+     * @return the number of bytes copied into the local repository
+     */
+    public long getInstalledBytes() {
+        return installed.sum();
+    }
+
+    /**
+     * @return the number of bytes installed into the local repository as hard links, hence without being copied
+     */
+    public long getLinkedBytes() {
+        return linked.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "IoCounters[downloaded=" + getDownloadedBytes() + ", uploaded=" + getUploadedBytes() + ", installed="
+                + getInstalledBytes() + ", linked=" + getLinkedBytes() + "]";
+    }
+}
@@ -18,7 +18,9 @@
  */
 package org.apache.maven.internal.impl.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -26,7 +28,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.model.Dependency;
@@ -49,6 +54,10 @@
 @Singleton
 public class DefaultDependencyManagementImporter implements DependencyManagementImporter {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<ImportKey, ImportedManagement>> IMPORTED_MANAGEMENTS =
+            (SessionData.Key) SessionData.key(Map.class, ImportedManagement.class);
+
     @Override
     public Model importManagement(
             Model target,
@@ -56,46 +65,92 @@ public Model importManagement(
             ModelBuilderRequest request,
             ModelProblemCollector problems) {
         if (sources != null && !sources.isEmpty()) {
-            Map<String, Dependency> dependencies = new LinkedHashMap<>();
+            ImportedManagement imported = getImportedManagement(sources, request);
 
             DependencyManagement depMgmt = target.getDependencyManagement();
-
-            if (depMgmt != null) {
-                for (Dependency dependency : depMgmt.getDependencies()) {
-                    dependencies.put(dependency.getManagementKey(), dependency);
-                }
-            } else {
+            if (depMgmt == null) {
                 depMgmt = DependencyManagement.newInstance();
             }
 
+            Map<String, Dependency> dependencies = new LinkedHashMap<>(
+                    depMgmt.getDependencies().size() + imported.dependencies().size());
+            for (Dependency dependency : depMgmt.getDependencies()) {
+                dependencies.put(dependency.getManagementKey(), dependency);
+            }
+
             Set<String> directDependencies = new HashSet<>(dependencies.keySet());
 
-            for (DependencyManagement source : sources) {
-                for (Dependency dependency : source.getDependencies()) {
-                    String key = dependency.getManagementKey();
-                    Dependency present = dependencies.putIfAbsent(key, dependency);
-                    if (present != null && !equals(dependency, present) && !directDependencies.contains(key)) {
-                        // TODO: https://issues.apache.org/jira/browse/MNG-8004
-                        problems.add(
-                                Severity.WARNING,
-                                Version.V40,
-                                "Ignored POM import for: " + toString(dependency) + " as already imported "
-                                        + toString(present) + ". Add the conflicting managed dependency directly "
-                                        + "to the dependencyManagement section of the POM.");
-                    }
-                    if (present == null && request.isLocationTracking()) {
-                        Dependency updatedDependency = updateWithImportedFrom(dependency, source);
-                        dependencies.put(key, updatedDependency);
-                    }
+            for (Conflict conflict : imported.conflicts()) {
+                if (!directDependencies.contains(conflict.key())) {
+                    // TODO: https://issues.apache.org/jira/browse/MNG-8004
+                    problems.add(
+                            Severity.WARNING,
+                            Version.V40,
+                            "Ignored POM import for: " + toString(conflict.ignored()) + " as already imported "
+                                    + toString(conflict.present())
+                                    + ". Add the conflicting managed dependency directly "
+                                    + "to the dependencyManagement section of the POM.");
                 }
             }
+            imported.dependencies().forEach(dependencies::putIfAbsent);
 
             return target.withDependencyManagement(depMgmt.withDependencies(dependencies.values()));
         }
         return target;
     }
 
-    private String toString(Dependency dependency) {
+    /**
+     * Merges the given imported dependency managements, in order. The result only depends on the ordered list of
+     * imports, which are immutable and shared between the models importing them, so it is memoized in the session:
+     * all the modules importing the same BOMs reuse the same merged management.
+     */
+    ImportedManagement getImportedManagement(
+            List<? extends DependencyManagement> sources, ModelBuilderRequest request) {
+        ImportKey key = new ImportKey(List.copyOf(sources), request.isLocationTracking());
+        Session session = request.getSession();
+        if (session == null) {
+            return merge(key);
+        }
+        return session.getData()
+                .computeIfAbsent(IMPORTED_MANAGEMENTS, ConcurrentHashMap::new)
+                .computeIfAbsent(key, DefaultDependencyManagementImporter::merge);
+    }
+
+    private static ImportedManagement merge(ImportKey key) {
+        Map<String, Dependency> dependencies = new LinkedHashMap<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        for (DependencyManagement source : key.sources()) {
+            for (Dependency dependency : source.getDependencies()) {
+                String mgmtKey = dependency.getManagementKey();
+                Dependency present = dependencies.putIfAbsent(mgmtKey, dependency);
+                if (present != null && !equals(dependency, present)) {
+                    conflicts.add(new Conflict(mgmtKey, dependency, present));
+                }
+                if (present == null && key.locationTracking()) {
+                    dependencies.put(mgmtKey, updateWithImportedFrom(dependency, source));
+                }
+            }
+        }
+        return new ImportedManagement(Collections.unmodifiableMap(dependencies), List.copyOf(conflicts));
+    }
+
+    /**
+     * The ordered list of imported dependency managements. They do not override {@code equals}, so the
+     * key matches the very same list of imports: the model builder caches the management of each import,
+     * including the ones filtered by exclusions, so that the models importing the same BOMs pass the same
+     * instances.
+     */
+    record ImportKey(List<? extends DependencyManagement> sources, boolean locationTracking) {}
+
+    /**
+     * The dependencies managed by a list of imports, with the imported dependencies that were ignored
+     * because an earlier import already manages them with a different definition.
+     */
+    record ImportedManagement(Map<String, Dependency> dependencies, List<Conflict> conflicts) {}
+
+    record Conflict(String key, Dependency ignored, Dependency present) {}
+
+    private static String toString(Dependency dependency) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder
                 .append(dependency.getGroupId())
@@ -120,7 +175,7 @@ private String toString(Dependency dependency) {
         return stringBuilder.toString();
     }
 
-    private boolean equals(Dependency d1, Dependency d2) {
+    private static boolean equals(Dependency d1, Dependency d2) {
         return Objects.equals(d1.getGroupId(), d2.getGroupId())
                 && Objects.equals(d1.getArtifactId(), d2.getArtifactId())
                 && Objects.equals(d1.getVersion(), d2.getVersion())
@@ -132,7 +187,7 @@ private boolean equals(Dependency d1, Dependency d2) {
                 && equals(d1.getExclusions(), d2.getExclusions());
     }
 
-    private boolean equals(Collection<Exclusion> ce1, Collection<Exclusion> ce2) {
+    private static boolean equals(Collection<Exclusion> ce1, Collection<Exclusion> ce2) {
         if (ce1.size() == ce2.size()) {
             Iterator<Exclusion> i1 = ce1.iterator();
             Iterator<Exclusion> i2 = ce2.iterator();
@@ -146,7 +201,7 @@ private boolean equals(Collection<Exclusion> ce1, Collection<Exclusion> ce2) {
         return false;
     }
 
-    private boolean equals(Exclusion e1, Exclusion e2) {
+    private static boolean equals(Exclusion e1, Exclusion e2) {
         return Objects.equals(e1.getGroupId(), e2.getGroupId())
                 && Objects.equals(e1.getArtifactId(), e2.getArtifactId());
     }
@@ -21,10 +21,14 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -35,10 +39,13 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -105,6 +112,7 @@
 import org.apache.maven.api.services.model.ProfileInjector;
 import org.apache.maven.api.services.model.ProfileSelector;
 import org.apache.maven.api.services.model.RootLocator;
+import org.apache.maven.api.services.xml.ModelXmlFactory;
 import org.apache.maven.api.services.xml.XmlReaderException;
 import org.apache.maven.api.services.xml.XmlReaderRequest;
 import org.apache.maven.api.spi.ModelParserException;
@@ -129,6 +137,9 @@ public class DefaultModelBuilder implements ModelBuilder {
     private static final String FILE = "file";
     private static final String IMPORT = "import";
     private static final String PARENT = "parent";
+    private static final String DEPENDENCY_METADATA = ":dependency-metadata";
+    private static final String NO_LOCATIONS = ":no-locations";
+    private static final DependencyManagement EMPTY_DEPENDENCY_MANAGEMENT = DependencyManagement.newInstance();
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -154,6 +165,51 @@ public class DefaultModelBuilder implements ModelBuilder {
     private final PathTranslator pathTranslator;
     private final RootLocator rootLocator;
 
+    /**
+     * Set on the threads loading the file models of the reactor, which must not wait for the reactor to be loaded.
+     */
+    private static final ThreadLocal<Boolean> LOADING_REACTOR = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * The modification times of files are rounded to up to 2 seconds by some file systems, so that a POM modified
+     * within that time after being parsed may keep its modification time.
+     */
+    static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+    /**
+     * The POMs of the projects parsed by earlier sessions, retained along with the stamp of their file when enabled
+     * with {@link Constants#MAVEN_MODEL_BUILDER_RETAIN_MODELS}. The models are softly referenced, so that they are
+     * only retained as long as memory allows.
+     */
+    private final Map<ParsedModelKey, ParsedModel> parsedModels = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Model> parsedModelsQueue = new ReferenceQueue<>();
+
+    /**
+     * The effective models of the projects built by earlier sessions, retained along with the inputs they were
+     * derived from when enabled with {@link Constants#MAVEN_MODEL_BUILDER_RETAIN_MODELS}: the stamps of the POMs of
+     * their lineage, of their imported BOMs and of the files probed to activate their profiles, the reactor lookups
+     * and the properties and profiles of the request. The results are softly referenced, so that they are only
+     * retained as long as memory allows.
+     */
+    private final Map<ParsedModelKey, RetainedModel> retainedModels = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<DefaultModelBuilderResult> retainedModelsQueue = new ReferenceQueue<>();
+
+    /**
+     * Resolves the BOMs imported by a model concurrently. The pool threads are daemons and are reclaimed when idle.
+     */
+    private final ForkJoinPool importExecutor = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors() / 2 + 1,
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("maven-bom-import-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false);
+
     @SuppressWarnings("checkstyle:ParameterNumber")
     @Inject
     public DefaultModelBuilder(
@@ -246,6 +302,12 @@ protected class ModelBuilderSessionState implements ModelProblemCollector {
         final ModelCache cache;
         final Graph dag;
         final Map<GAKey, Set<ModelSource>> mappedSources;
+        /**
+         * Completed once all the file models of the reactor have been loaded and mapped. While the reactor is being
+         * loaded, effective models are already built, and lookups of reactor models that cannot be answered yet wait
+         * for the loading to complete.
+         */
+        final AtomicReference<CompletableFuture<Void>> reactorLoaded;
 
         String source;
         Model sourceModel;
@@ -265,6 +327,7 @@ protected class ModelBuilderSessionState implements ModelProblemCollector {
                             .computeIfAbsent(SessionData.key(ModelCache.class), modelCacheFactory::newInstance),
                     new Graph(),
                     new ConcurrentHashMap<>(64),
+                    new AtomicReference<>(),
                     List.of(),
                     repos(request),
                     repos(request));
@@ -285,6 +348,7 @@ private ModelBuilderSessionState(
                 ModelCache cache,
                 Graph dag,
                 Map<GAKey, Set<ModelSource>> mappedSources,
+                AtomicReference<CompletableFuture<Void>> reactorLoaded,
                 List<RemoteRepository> pomRepositories,
                 List<RemoteRepository> externalRepositories,
                 List<RemoteRepository> repositories) {
@@ -294,6 +358,7 @@ private ModelBuilderSessionState(
             this.cache = cache;
             this.dag = dag;
             this.mappedSources = mappedSources;
+            this.reactorLoaded = reactorLoaded;
             this.pomRepositories = pomRepositories;
             this.externalRepositories = externalRepositories;
             this.repositories = repositories;
@@ -326,6 +391,7 @@ ModelBuilderSessionState derive(ModelBuilderRequest request, DefaultModelBuilder
                     cache,
                     dag,
                     mappedSources,
+                    reactorLoaded,
                     pomRepositories,
                     externalRepositories,
                     repositories);
@@ -401,9 +467,12 @@ private boolean addEdge(Path from, Path p) {
         }
 
         public ModelSource getSource(String groupId, String artifactId) {
+            // the source must be unique in the whole reactor
+            awaitReactorLoaded();
             Set<ModelSource> sources = mappedSources.get(new GAKey(groupId, artifactId));
+            ModelSource source = null;
             if (sources != null) {
-                return sources.stream()
+                source = sources.stream()
                         .reduce((a, b) -> {
                             throw new IllegalStateException(String.format(
                                     "No unique Source for %s:%s: %s and %s",
@@ -411,12 +480,14 @@ public ModelSource getSource(String groupId, String artifactId) {
                         })
                         .orElse(null);
             }
-            return null;
+            ModelInputs.lookup(
+                    new ModelInputs.Lookup(groupId, artifactId, null, true), source != null ? source.getPath() : null);
+            return source;
         }
 
         public void putSource(String groupId, String artifactId, ModelSource source) {
             mappedSources
-                    .computeIfAbsent(new GAKey(groupId, artifactId), k -> new HashSet<>())
+                    .computeIfAbsent(new GAKey(groupId, artifactId), k -> ConcurrentHashMap.newKeySet())
                     .add(source);
             // Also  register the source under the null groupId
             if (groupId != null) {
@@ -424,6 +495,20 @@ public void putSource(String groupId, String artifactId, ModelSource source) {
             }
         }
 
+        /**
+         * Waits until all the file models of the reactor are loaded, unless called while loading them.
+         *
+         * @return {@code true} if the reactor was still being loaded
+         */
+        private boolean awaitReactorLoaded() {
+            CompletableFuture<Void> loaded = reactorLoaded.get();
+            if (loaded == null || loaded.isDone() || LOADING_REACTOR.get()) {
+                return false;
+            }
+            loaded.join();
+            return true;
+        }
+
         public boolean hasFatalErrors() {
             return result.getProblems().stream().anyMatch(p -> p.getSeverity() == Severity.FATAL);
         }
@@ -647,41 +732,37 @@ private void buildBuildPom() throws ModelBuilderException {
             try {
                 rootDirectory = session.getRootDirectory();
             } catch (IllegalStateException e) {
-                rootDirectory = session.getService(RootLocator.class).findMandatoryRoot(top);
+                rootDirectory = DirectoryProbeCache.of(session)
+                        .rootLocator(session.getService(RootLocator.class))
+                        .findMandatoryRoot(top);
             }
 
             // Locate and normalize the root POM if it exists, fallback to top otherwise
-            Path root = modelProcessor.locateExistingPom(rootDirectory);
+            Path root = locateExistingPom(rootDirectory);
             if (root != null) {
                 root = root.toAbsolutePath().normalize();
             } else {
                 root = top;
             }
 
-            // Load all models starting from the root
-            loadFromRoot(root, top);
+            // Load all models starting from the root, building the effective models as soon as possible
+            List<RuntimeException> exceptions = new CopyOnWriteArrayList<>();
+            Map<DefaultModelBuilderResult, DefaultModelBuilderResult> built = new ConcurrentHashMap<>();
+            try (PhasingExecutor builder = createExecutor()) {
+                loadFromRoot(builder, built, exceptions, requestInputs(rootDirectory), root, top);
+            }
 
-            // Check for errors after loading models
+            // Check for errors once all the models are loaded: the effective models are only reported along with
+            // a reactor which loaded cleanly, whatever the order in which they were built
             if (hasErrors()) {
                 throw newModelBuilderException();
             }
 
-            // For the top model and all its children, build the effective model.
-            // This is done through the phased executor
-            var allResults = results(result).toList();
-            List<RuntimeException> exceptions = new CopyOnWriteArrayList<>();
-            try (PhasingExecutor executor = createExecutor()) {
-                for (DefaultModelBuilderResult r : allResults) {
-                    executor.execute(() -> {
-                        ModelBuilderSessionState mbs = derive(r.getSource(), r);
-                        try {
-                            mbs.buildEffectiveModel(new LinkedHashSet<>());
-                        } catch (ModelBuilderException e) {
-                            // gathered with problem collector
-                        } catch (RuntimeException t) {
-                            exceptions.add(t);
-                        }
-                    });
+            // For the top model and all its children, publish the effective model in the reactor order
+            for (DefaultModelBuilderResult r : results(result).toList()) {
+                DefaultModelBuilderResult b = built.get(r);
+                if (b != null) {
+                    r.copyFrom(b);
                 }
             }
 
@@ -709,10 +790,28 @@ Stream<DefaultModelBuilderResult> results(DefaultModelBuilderResult r) {
             return Stream.concat(Stream.of(r), r.getChildren().stream().flatMap(this::results));
         }
 
-        private void loadFromRoot(Path root, Path top) {
-            try (PhasingExecutor executor = createExecutor()) {
+        /**
+         * Loads the file models of the reactor and builds the effective models of the requested projects. Rather
+         * than waiting for the whole reactor to be loaded, the effective model of a project is built as soon as its
+         * file model is loaded: its reactor parents, being aggregators, are usually loaded before, and lookups of
+         * reactor models which are not available yet wait for the reactor to be fully loaded. The effective models
+         * are built into results of their own, which are only published once the reactor is loaded.
+         */
+        private void loadFromRoot(
+                Executor builder,
+                Map<DefaultModelBuilderResult, DefaultModelBuilderResult> built,
+                List<RuntimeException> exceptions,
+                RequestInputs inputs,
+                Path root,
+                Path top) {
+            CompletableFuture<Void> loaded = new CompletableFuture<>();
+            reactorLoaded.set(loaded);
+            try (PhasingExecutor loader = createExecutor()) {
                 DefaultModelBuilderResult r = Objects.equals(top, root) ? result : new DefaultModelBuilderResult();
-                loadFilePom(executor, top, root, Set.of(), r);
+                Loader context = new Loader(loader, builder, built, exceptions, top, inputs);
+                loadFilePom(context, root, Set.of(), r, r == result);
+            } finally {
+                loaded.complete(null);
             }
             if (result.getFileModel() == null && !Objects.equals(top, root)) {
                 logger.warn(
@@ -725,15 +824,125 @@ private void loadFromRoot(Path root, Path top) {
                         root);
                 cache.clear();
                 mappedSources.clear();
-                loadFromRoot(top, top);
+                loadFromRoot(builder, built, exceptions, inputs, top, top);
+            }
+        }
+
+        /**
+         * The executors and outputs shared by the tasks loading the reactor.
+         */
+        private record Loader(
+                Executor loader,
+                Executor builder,
+                Map<DefaultModelBuilderResult, DefaultModelBuilderResult> built,
+                List<RuntimeException> exceptions,
+                Path top,
+                RequestInputs inputs) {}
+
+        /**
+         * Builds the effective model of a project of the reactor, or reuses the one retained by an earlier session
+         * if none of its inputs changed.
+         */
+        private void buildEffectiveModel(Loader context, ModelSource src, DefaultModelBuilderResult r) {
+            // no need to go further if the reactor could not be loaded
+            if (hasErrors()) {
+                return;
+            }
+            ParsedModelKey key = context.inputs() != null
+                    ? new ParsedModelKey(
+                            src.getPath(),
+                            context.inputs().rootDirectory(),
+                            request.isDependencyMetadataOnly(),
+                            request.isLocationTracking())
+                    : null;
+            DefaultModelBuilderResult b = key != null ? getRetainedModel(key, context.inputs()) : null;
+            if (b != null) {
+                logger.debug("Reusing the effective model built from " + src.getLocation());
+                context.built().put(r, b);
+                return;
+            }
+            b = new DefaultModelBuilderResult();
+            ModelBuilderSessionState mbs = derive(src, b);
+            ModelInputs inputs = null;
+            try {
+                inputs = ModelInputs.collect(() -> mbs.buildEffectiveModel(new LinkedHashSet<>()));
+            } catch (ModelBuilderException e) {
+                // gathered with problem collector
+            } catch (RuntimeException t) {
+                context.exceptions().add(t);
+            }
+            if (key != null && inputs != null && inputs.isTracked() && !mbs.hasErrors()) {
+                expungeRetainedModels();
+                retainedModels.put(key, new RetainedModel(key, context.inputs(), inputs, b, retainedModelsQueue));
+            }
+            context.built().put(r, b);
+        }
+
+        /**
+         * Returns the root directory, properties and profiles of the request the effective models are derived from,
+         * if these models are retained.
+         */
+        private RequestInputs requestInputs(Path rootDirectory) {
+            if (!isRetainingModels()) {
+                return null;
+            }
+            String profiles = request.getProfiles().isEmpty()
+                    ? ""
+                    : session.getService(ModelXmlFactory.class)
+                            .toXmlString(Model.newBuilder()
+                                    .profiles(request.getProfiles())
+                                    .build());
+            return new RequestInputs(
+                    rootDirectory,
+                    Map.copyOf(request.getUserProperties()),
+                    Map.copyOf(request.getSystemProperties()),
+                    List.copyOf(request.getActiveProfileIds()),
+                    List.copyOf(request.getInactiveProfileIds()),
+                    profiles);
+        }
+
+        /**
+         * Returns the result retained for the given project, if it was derived from the same request inputs and none
+         * of its tracked inputs changed since.
+         */
+        private DefaultModelBuilderResult getRetainedModel(ParsedModelKey key, RequestInputs inputs) {
+            expungeRetainedModels();
+            RetainedModel retained = retainedModels.get(key);
+            DefaultModelBuilderResult b = retained != null ? retained.get() : null;
+            if (b == null || !retained.request.equals(inputs)) {
+                return null;
+            }
+            try {
+                return retained.inputs.isUnchanged(this::lookupReactorModel) ? b : null;
+            } catch (RuntimeException e) {
+                // the reactor changed
+                return null;
+            }
+        }
+
+        private Path lookupReactorModel(ModelInputs.Lookup lookup) {
+            ModelSource source = lookup.anyVersion()
+                    ? getSource(lookup.groupId(), lookup.artifactId())
+                    : resolveReactorModel(lookup.groupId(), lookup.artifactId(), lookup.version());
+            return source != null ? source.getPath() : null;
+        }
+
+        private void expungeRetainedModels() {
+            Object ref;
+            while ((ref = retainedModelsQueue.poll()) != null) {
+                RetainedModel retained = (RetainedModel) ref;
+                retainedModels.remove(retained.key, retained);
             }
         }
 
         private void loadFilePom(
-                Executor executor, Path top, Path pom, Set<Path> parents, DefaultModelBuilderResult r) {
+                Loader context, Path pom, Set<Path> parents, DefaultModelBuilderResult r, boolean build) {
+            Path top = context.top();
+            ModelSource src = null;
+            LOADING_REACTOR.set(true);
             try {
                 Path pomDirectory = Files.isDirectory(pom) ? pom : pom.getParent();
-                ModelSource src = ModelSource.fromPath(pom);
+                src = ModelSource.fromPath(pom);
                 Model model = derive(src, r).readFileModel();
                 // keep all loaded file models in memory, those will be needed
                 // during the raw to build transformation
@@ -746,7 +955,7 @@ private void loadFilePom(
 
                     subproject = subproject.replace('\\', File.separatorChar).replace('/', File.separatorChar);
 
-                    Path rawSubprojectFile = modelProcessor.locateExistingPom(pomDirectory.resolve(subproject));
+                    Path rawSubprojectFile = locateExistingPom(pomDirectory.resolve(subproject));
 
                     if (rawSubprojectFile == null) {
                         ModelProblem problem = new DefaultModelProblem(
@@ -786,18 +995,28 @@ private void loadFilePom(
                     DefaultModelBuilderResult cr =
                             Objects.equals(top, subprojectFile) ? result : new DefaultModelBuilderResult(r);
                     if (request.isRecursive()) {
-                        r.getChildren().add(cr);
+                        r.addChild(cr);
                     }
 
-                    executor.execute(() -> loadFilePom(executor, top, subprojectFile, concat(parents, pom), cr));
+                    boolean buildChild = cr == result || (build && request.isRecursive());
+
+                    context.loader()
+                            .execute(() -> loadFilePom(context, subprojectFile, concat(parents, pom), cr, buildChild));
                 }
             } catch (ModelBuilderException e) {
                 // gathered with problem collector
                 add(Severity.ERROR, Version.V40, "Failed to load project " + pom, e);
+                src = null;
+            } finally {
+                LOADING_REACTOR.remove();
             }
             if (r != result) {
                 r.getProblems().forEach(result::addProblem);
             }
+            if (build && src != null) {
+                ModelSource source = src;
+                context.builder().execute(() -> buildEffectiveModel(context, source, r));
+            }
         }
 
         static <T> Set<T> concat(Set<T> a, T b) {
@@ -811,15 +1030,19 @@ void buildEffectiveModel(Collection<String> importIds) throws ModelBuilderExcept
             setSource(resultModel);
             setRootModel(resultModel);
 
-            // model path translation
-            resultModel =
-                    modelPathTranslator.alignToBaseDirectory(resultModel, resultModel.getProjectDirectory(), request);
+            boolean dependencyMetadataOnly = request.isDependencyMetadataOnly();
+            if (!dependencyMetadataOnly) {
+                // model path translation
+                resultModel = modelPathTranslator.alignToBaseDirectory(
+                        resultModel, resultModel.getProjectDirectory(), request);
 
-            // plugin management injection
-            resultModel = pluginManagementInjector.injectManagement(resultModel, request, this);
+                // plugin management injection
+                resultModel = pluginManagementInjector.injectManagement(resultModel, request, this);
+            }
 
             // lifecycle bindings injection
-            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY) {
+            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY
+                    && !dependencyMetadataOnly) {
                 org.apache.maven.api.services.ModelTransformer lifecycleBindingsInjector =
                         request.getLifecycleBindingsInjector();
                 if (lifecycleBindingsInjector != null) {
@@ -835,7 +1058,8 @@ void buildEffectiveModel(Collection<String> importIds) throws ModelBuilderExcept
 
             resultModel = modelNormalizer.injectDefaultValues(resultModel, request, this);
 
-            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY) {
+            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY
+                    && !dependencyMetadataOnly) {
                 // plugins configuration
                 resultModel = pluginConfigurationExpander.expandPluginConfiguration(resultModel, request, this);
             }
@@ -915,7 +1139,7 @@ private Model readParentLocally(Model childModel, DefaultProfileActivationContex
             String parentPath = parent.getRelativePath();
             if (request.getRequestType() == ModelBuilderRequest.RequestType.BUILD_PROJECT) {
                 if (parentPath != null && !parentPath.isEmpty()) {
-                    candidateSource = request.getSource().resolve(modelProcessor::locateExistingPom, parentPath);
+                    candidateSource = request.getSource().resolve(this::locateExistingPom, parentPath);
                     if (candidateSource == null) {
                         wrongParentRelativePath(childModel);
                         return null;
@@ -924,7 +1148,7 @@ private Model readParentLocally(Model childModel, DefaultProfileActivationContex
                     candidateSource =
                             resolveReactorModel(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
                     if (candidateSource == null && parentPath == null) {
-                        candidateSource = request.getSource().resolve(modelProcessor::locateExistingPom, "..");
+                        candidateSource = request.getSource().resolve(this::locateExistingPom, "..");
                     }
                 }
             } else {
@@ -934,7 +1158,7 @@ private Model readParentLocally(Model childModel, DefaultProfileActivationContex
                         parentPath = "..";
                     }
                     if (!parentPath.isEmpty()) {
-                        candidateSource = request.getSource().resolve(modelProcessor::locateExistingPom, parentPath);
+                        candidateSource = request.getSource().resolve(this::locateExistingPom, parentPath);
                     }
                 }
             }
@@ -1267,6 +1491,8 @@ Model doReadFileModel() throws ModelBuilderException {
             Model model;
             Path rootDirectory;
             setSource(modelSource.getLocation());
+            // stamped before being read, so that a concurrent modification is read again next time
+            ModelInputs.read(modelSource.getPath());
             logger.debug("Reading file model from " + modelSource.getLocation());
             try {
                 boolean strict = isBuildRequest();
@@ -1278,14 +1504,8 @@ Model doReadFileModel() throws ModelBuilderException {
                         rootDirectory = rootDirectory.getParent();
                     }
                 }
-                try (InputStream is = modelSource.openStream()) {
-                    model = modelProcessor.read(XmlReaderRequest.builder()
-                            .strict(strict)
-                            .location(modelSource.getLocation())
-                            .path(modelSource.getPath())
-                            .rootDirectory(rootDirectory)
-                            .inputStream(is)
-                            .build());
+                try {
+                    model = parseModel(modelSource, strict, rootDirectory);
                 } catch (XmlReaderException e) {
                     if (!strict) {
                         throw e;
@@ -1297,6 +1517,8 @@ Model doReadFileModel() throws ModelBuilderException {
                                 .path(modelSource.getPath())
                                 .rootDirectory(rootDirectory)
                                 .inputStream(is)
+                                .dependencyMetadataOnly(request.isDependencyMetadataOnly())
+                                .locationTracking(request.isLocationTracking())
                                 .build());
                     } catch (XmlReaderException ne) {
                         // still unreadable even in non-strict mode, rethrow original error
@@ -1365,7 +1587,7 @@ Model doReadFileModel() throws ModelBuilderException {
                         Path relativePath = Paths.get(path != null ? path : "..");
                         Path pomPath = pomFile.resolveSibling(relativePath).normalize();
                         if (Files.isDirectory(pomPath)) {
-                            pomPath = modelProcessor.locateExistingPom(pomPath);
+                            pomPath = locateExistingPom(pomPath);
                         }
                         if (pomPath != null && Files.isRegularFile(pomPath)) {
                             Model parentModel =
@@ -1403,7 +1625,7 @@ Model doReadFileModel() throws ModelBuilderException {
                     try (Stream<Path> files = Files.list(model.getProjectDirectory())) {
                         for (Path f : files.toList()) {
                             if (Files.isDirectory(f)) {
-                                Path subproject = modelProcessor.locateExistingPom(f);
+                                Path subproject = locateExistingPom(f);
                                 if (subproject != null) {
                                     subprojects.add(f.getFileName().toString());
                                 }
@@ -1422,7 +1644,7 @@ Model doReadFileModel() throws ModelBuilderException {
                 // defined on the root project.
                 Map<String, String> properties = new HashMap<>();
                 if (!Objects.equals(rootDirectory, model.getProjectDirectory())) {
-                    Path rootModelPath = modelProcessor.locateExistingPom(rootDirectory);
+                    Path rootModelPath = locateExistingPom(rootDirectory);
                     if (rootModelPath != null) {
                         Model rootModel =
                                 derive(ModelSource.fromPath(rootModelPath)).readFileModel();
@@ -1460,6 +1682,79 @@ Model doReadFileModel() throws ModelBuilderException {
             return model;
         }
 
+        /**
+         * Parses the given POM, reusing the model parsed by an earlier session if retained and its file has not
+         * been modified since. Only the models parsed in strict mode are retained, as the others come with problems.
+         * The models of POMs modified too recently to be told apart from a later modification are not retained.
+         */
+        private Model parseModel(ModelSource modelSource, boolean strict, Path rootDirectory) throws IOException {
+            Path path = modelSource.getPath();
+            ParsedModelKey key = null;
+            BasicFileAttributes attributes = null;
+            if (strict && path != null && isRetainingModels()) {
+                key = new ParsedModelKey(
+                        path, rootDirectory, request.isDependencyMetadataOnly(), request.isLocationTracking());
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    parsedModels.remove(key);
+                    throw e;
+                }
+                ParsedModel parsed = parsedModels.get(key);
+                Model model = parsed != null
+                                && parsed.lastModified.equals(attributes.lastModifiedTime())
+                                && parsed.size == attributes.size()
+                        ? parsed.get()
+                        : null;
+                if (model != null) {
+                    logger.debug("Reusing the model parsed from " + modelSource.getLocation());
+                    return model;
+                }
+                if (attributes.lastModifiedTime().toMillis()
+                        > System.currentTimeMillis() - MODIFICATION_TIME_RESOLUTION) {
+                    parsedModels.remove(key);
+                    key = null;
+                }
+            }
+            Model model;
+            try (InputStream is = modelSource.openStream()) {
+                model = modelProcessor.read(XmlReaderRequest.builder()
+                        .strict(strict)
+                        .location(modelSource.getLocation())
+                        .path(path)
+                        .rootDirectory(rootDirectory)
+                        .inputStream(is)
+                        .dependencyMetadataOnly(request.isDependencyMetadataOnly())
+                        .locationTracking(request.isLocationTracking())
+                        .build());
+            }
+            if (key != null) {
+                expungeParsedModels();
+                // the attributes read before parsing, so that a concurrent modification is parsed again next time
+                parsedModels.put(
+                        key,
+                        new ParsedModel(
+                                key, attributes.lastModifiedTime(), attributes.size(), model, parsedModelsQueue));
+            }
+            return model;
+        }
+
+        private void expungeParsedModels() {
+            Object ref;
+            while ((ref = parsedModelsQueue.poll()) != null) {
+                ParsedModel parsed = (ParsedModel) ref;
+                parsedModels.remove(parsed.key, parsed);
+            }
+        }
+
+        private boolean isRetainingModels() {
+            String value = request.getUserProperties().get(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS);
+            if (value == null) {
+                value = request.getSystemProperties().get(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS);
+            }
+            return Boolean.parseBoolean(value);
+        }
+
         Model readRawModel() throws ModelBuilderException {
             // ensure file model is available
             readFileModel();
@@ -1496,18 +1791,19 @@ private Model doReadRawModel() throws ModelBuilderException {
          * Reads the request source's parent.
          */
         Model readAsParentModel(DefaultProfileActivationContext profileActivationContext) throws ModelBuilderException {
-            Map<DefaultProfileActivationContext.Record, Model> parentsPerContext =
+            Map<DefaultProfileActivationContext.Record, ModelInputs.Tracked<Model>> parentsPerContext =
                     cache(request.getSource(), PARENT, ConcurrentHashMap::new);
-            for (Map.Entry<DefaultProfileActivationContext.Record, Model> e : parentsPerContext.entrySet()) {
+            for (Map.Entry<DefaultProfileActivationContext.Record, ModelInputs.Tracked<Model>> e :
+                    parentsPerContext.entrySet()) {
                 if (e.getKey().matches(profileActivationContext)) {
-                    return e.getValue();
+                    return e.getValue().get();
                 }
             }
             DefaultProfileActivationContext.Record prev = profileActivationContext.start();
-            Model model = doReadAsParentModel(profileActivationContext);
+            ModelInputs.Tracked<Model> model = ModelInputs.track(() -> doReadAsParentModel(profileActivationContext));
             DefaultProfileActivationContext.Record record = profileActivationContext.stop(prev);
             parentsPerContext.put(record, model);
-            return model;
+            return model.get();
         }
 
         private Model doReadAsParentModel(DefaultProfileActivationContext profileActivationContext)
@@ -1558,7 +1854,7 @@ private Model importDependencyManagement(Model model, Collection<String> importI
 
             importIds.add(importing);
 
-            List<DependencyManagement> importMgmts = null;
+            List<Dependency> imports = new ArrayList<>();
 
             List<Dependency> deps = new ArrayList<>(depMgmt.getDependencies());
             for (Iterator<Dependency> it = deps.iterator(); it.hasNext(); ) {
@@ -1571,23 +1867,85 @@ private Model importDependencyManagement(Model model, Collection<String> importI
 
                 it.remove();
 
-                DependencyManagement importMgmt = loadDependencyManagement(dependency, importIds);
+                imports.add(dependency);
+            }
+
+            List<DependencyManagement> importMgmts = loadDependencyManagements(imports, importIds);
+
+            importIds.remove(importing);
+
+            model = model.withDependencyManagement(
+                    model.getDependencyManagement().withDependencies(deps));
 
+            return dependencyManagementImporter.importManagement(model, importMgmts, request, this);
+        }
+
+        /**
+         * Loads the dependency managements of the given imports, in order. The imported POMs are first resolved
+         * concurrently, which downloads them if needed, then their effective models are built sequentially so that
+         * cycles are detected along the chain of importing models.
+         */
+        private List<DependencyManagement> loadDependencyManagements(
+                List<Dependency> imports, Collection<String> importIds) {
+            if (imports.isEmpty()) {
+                return null;
+            }
+            prefetchImports(imports);
+            List<DependencyManagement> importMgmts = null;
+            for (Dependency dependency : imports) {
+                DependencyManagement importMgmt = loadDependencyManagement(dependency, importIds);
                 if (importMgmt != null) {
                     if (importMgmts == null) {
                         importMgmts = new ArrayList<>();
                     }
-
                     importMgmts.add(importMgmt);
                 }
             }
+            return importMgmts;
+        }
 
-            importIds.remove(importing);
-
-            model = model.withDependencyManagement(
-                    model.getDependencyManagement().withDependencies(deps));
+        /**
+         * Resolves the imported POMs that are not part of the reactor in parallel. Failures are ignored here, they
+         * are reported when the import is actually loaded.
+         */
+        private void prefetchImports(List<Dependency> imports) {
+            List<Dependency> external = imports.stream()
+                    .filter(d -> d.getGroupId() != null && !d.getGroupId().isEmpty())
+                    .filter(d -> d.getArtifactId() != null && !d.getArtifactId().isEmpty())
+                    .filter(d -> d.getVersion() != null && !d.getVersion().isEmpty())
+                    .filter(d -> !mappedSources.containsKey(new GAKey(d.getGroupId(), d.getArtifactId())))
+                    .toList();
+            if (external.size() < 2) {
+                return;
+            }
+            ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(external.size() - 1);
+            for (Dependency dependency : external.subList(1, external.size())) {
+                futures.add(CompletableFuture.runAsync(
+                        () -> {
+                            Thread thread = Thread.currentThread();
+                            ClassLoader old = thread.getContextClassLoader();
+                            thread.setContextClassLoader(tccl);
+                            try {
+                                prefetchImport(dependency);
+                            } finally {
+                                thread.setContextClassLoader(old);
+                            }
+                        },
+                        importExecutor));
+            }
+            prefetchImport(external.get(0));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .exceptionally(e -> null)
+                    .join();
+        }
 
-            return dependencyManagementImporter.importManagement(model, importMgmts, request, this);
+        private void prefetchImport(Dependency dependency) {
+            try {
+                modelResolver.resolveModel(request.getSession(), repositories, dependency, new AtomicReference<>());
+            } catch (Exception e) {
+                // reported when loading the import
+            }
         }
 
         private DependencyManagement loadDependencyManagement(Dependency dependency, Collection<String> importIds) {
@@ -1644,23 +2002,34 @@ private DependencyManagement loadDependencyManagement(Dependency dependency, Col
                     () -> doLoadDependencyManagement(dependency, groupId, artifactId, version, importIds));
             DependencyManagement importMgmt = importModel != null ? importModel.getDependencyManagement() : null;
             if (importMgmt == null) {
-                importMgmt = DependencyManagement.newInstance();
+                importMgmt = EMPTY_DEPENDENCY_MANAGEMENT;
             }
 
             // [MNG-5600] Dependency management import should support exclusions.
             List<Exclusion> exclusions = dependency.getExclusions();
-            if (importMgmt != null && !exclusions.isEmpty()) {
-                // Dependency excluded from import.
-                List<Dependency> dependencies = importMgmt.getDependencies().stream()
-                        .filter(candidate -> exclusions.stream().noneMatch(exclusion -> match(exclusion, candidate)))
-                        .map(candidate -> addExclusions(candidate, exclusions))
-                        .collect(Collectors.toList());
-                importMgmt = importMgmt.withDependencies(dependencies);
+            if (!exclusions.isEmpty()) {
+                // Dependency excluded from import. The filtered management is cached as well, so that the
+                // models importing the BOM with the same exclusions share it and its merge can be memoized.
+                DependencyManagement bomMgmt = importMgmt;
+                importMgmt = cache(groupId, artifactId, version, IMPORT + exclusionsTag(exclusions), () -> {
+                    List<Dependency> dependencies = bomMgmt.getDependencies().stream()
+                            .filter(candidate ->
+                                    exclusions.stream().noneMatch(exclusion -> match(exclusion, candidate)))
+                            .map(candidate -> addExclusions(candidate, exclusions))
+                            .collect(Collectors.toList());
+                    return bomMgmt.withDependencies(dependencies);
+                });
             }
 
             return importMgmt;
         }
 
+        private static String exclusionsTag(List<Exclusion> exclusions) {
+            return exclusions.stream()
+                    .map(exclusion -> exclusion.getGroupId() + ':' + exclusion.getArtifactId())
+                    .collect(Collectors.joining(",", ":excluding:", ""));
+        }
+
         @SuppressWarnings("checkstyle:parameternumber")
         private Model doLoadDependencyManagement(
                 Dependency dependency,
@@ -1710,6 +2079,7 @@ private Model doLoadDependencyManagement(
                 ModelBuilderRequest importRequest = ModelBuilderRequest.builder()
                         .session(request.getSession())
                         .requestType(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY)
+                        .dependencyMetadataOnly(true)
                         .systemProperties(request.getSystemProperties())
                         .userProperties(request.getUserProperties())
                         .source(importSource)
@@ -1733,6 +2103,18 @@ private Model doLoadDependencyManagement(
 
         ModelSource resolveReactorModel(String groupId, String artifactId, String version)
                 throws ModelBuilderException {
+            ModelSource source = findReactorModel(groupId, artifactId, version);
+            if (source == null && awaitReactorLoaded()) {
+                source = findReactorModel(groupId, artifactId, version);
+            }
+            ModelInputs.lookup(
+                    new ModelInputs.Lookup(groupId, artifactId, version, false),
+                    source != null ? source.getPath() : null);
+            return source;
+        }
+
+        private ModelSource findReactorModel(String groupId, String artifactId, String version)
+                throws ModelBuilderException {
             Set<ModelSource> sources = mappedSources.get(new GAKey(groupId, artifactId));
             if (sources != null) {
                 for (ModelSource source : sources) {
@@ -1746,12 +2128,32 @@ ModelSource resolveReactorModel(String groupId, String artifactId, String versio
             return null;
         }
 
+        /**
+         * Returns the cached value, computing it if needed. The inputs of the value are tracked along with it, so
+         * that the models derived from a cached value account for its inputs.
+         */
         private <T> T cache(String groupId, String artifactId, String version, String tag, Supplier<T> supplier) {
-            return cache.computeIfAbsent(groupId, artifactId, version, tag, supplier);
+            return cache.computeIfAbsent(groupId, artifactId, version, tag(tag), () -> ModelInputs.track(supplier))
+                    .get();
         }
 
         private <T> T cache(Source source, String tag, Supplier<T> supplier) throws ModelBuilderException {
-            return cache.computeIfAbsent(source, tag, supplier);
+            return cache.computeIfAbsent(source, tag(tag), () -> ModelInputs.track(supplier))
+                    .get();
+        }
+
+        Path locateExistingPom(Path project) {
+            return DirectoryProbeCache.of(session).locateExistingPom(modelProcessor, project);
+        }
+
+        /**
+         * Models read for their dependency metadata only are incomplete, so they are cached apart.
+         */
+        private String tag(String tag) {
+            if (request.isDependencyMetadataOnly()) {
+                tag += DEPENDENCY_METADATA;
+            }
+            return request.isLocationTracking() ? tag : tag + NO_LOCATIONS;
         }
 
         boolean isBuildRequest() {
@@ -1873,8 +2275,8 @@ static String getVersion(Model model) {
     }
 
     private DefaultProfileActivationContext getProfileActivationContext(ModelBuilderRequest request, Model model) {
-        DefaultProfileActivationContext context =
-                new DefaultProfileActivationContext(pathTranslator, rootLocator, interpolator);
+        DefaultProfileActivationContext context = new DefaultProfileActivationContext(
+                pathTranslator, DirectoryProbeCache.of(request.getSession()).rootLocator(rootLocator), interpolator);
 
         context.setActiveProfileIds(request.getActiveProfileIds());
         context.setInactiveProfileIds(request.getInactiveProfileIds());
@@ -1967,4 +2369,49 @@ private boolean containsCoordinates(String message, String groupId, String artif
     }
 
     record GAKey(String groupId, String artifactId) {}
+
+    private record ParsedModelKey(
+            Path path, Path rootDirectory, boolean dependencyMetadataOnly, boolean locationTracking) {}
+
+    /**
+     * The root directory, properties and profiles of a request from which the effective models are derived.
+     */
+    private record RequestInputs(
+            Path rootDirectory,
+            Map<String, String> userProperties,
+            Map<String, String> systemProperties,
+            List<String> activeProfileIds,
+            List<String> inactiveProfileIds,
+            String profiles) {}
+
+    private static final class RetainedModel extends SoftReference<DefaultModelBuilderResult> {
+        final ParsedModelKey key;
+        final RequestInputs request;
+        final ModelInputs inputs;
+
+        RetainedModel(
+                ParsedModelKey key,
+                RequestInputs request,
+                ModelInputs inputs,
+                DefaultModelBuilderResult result,
+                ReferenceQueue<DefaultModelBuilderResult> queue) {
+            super(result, queue);
+            this.key = key;
+            this.request = request;
+            this.inputs = inputs;
+        }
+    }
+
+    private static final class ParsedModel extends SoftReference<Model> {
+        final ParsedModelKey key;
+        final FileTime lastModified;
+        final long size;
+
+        ParsedModel(ParsedModelKey key, FileTime lastModified, long size, Model model, ReferenceQueue<Model> queue) {
+            super(model, queue);
+            this.key = key;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
 }
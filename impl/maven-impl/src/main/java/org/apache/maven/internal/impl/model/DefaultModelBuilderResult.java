@@ -21,6 +21,8 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,7 +45,10 @@ class DefaultModelBuilderResult implements ModelBuilderResult {
     private List<Profile> activePomProfiles;
     private List<Profile> activeExternalProfiles;
     private final List<ModelProblem> problems = new CopyOnWriteArrayList<>();
+    private final List<ModelProblem> ownProblems = new CopyOnWriteArrayList<>();
+    private final Set<ModelProblem> childProblems = ConcurrentHashMap.newKeySet();
     private final DefaultModelBuilderResult problemHolder;
+    private boolean child;
 
     private final List<DefaultModelBuilderResult> children = new ArrayList<>();
 
@@ -128,6 +133,11 @@ public List<ModelProblem> getProblems() {
         return Collections.unmodifiableList(problems);
     }
 
+    @Override
+    public List<ModelProblem> getOwnProblems() {
+        return Collections.unmodifiableList(ownProblems);
+    }
+
     /**
      * Adds a given problem to the list of problems and propagates it to the parent result if present.
      *
@@ -135,9 +145,59 @@ public List<ModelProblem> getProblems() {
      */
     public void addProblem(ModelProblem problem) {
         problems.add(problem);
+        if (!childProblems.contains(problem)) {
+            ownProblems.add(problem);
+        }
         if (problemHolder != null) {
-            problemHolder.addProblem(problem);
+            problemHolder.addProblem(problem, child);
+        }
+    }
+
+    /**
+     * Adds a problem propagated from a result, which is only one of the own problems of this result if the other
+     * one is not one of its children.
+     */
+    private void addProblem(ModelProblem problem, boolean fromChild) {
+        if (fromChild) {
+            childProblems.add(problem);
+            problems.add(problem);
+            if (problemHolder != null) {
+                problemHolder.addProblem(problem, child);
+            }
+        } else {
+            addProblem(problem);
+        }
+    }
+
+    /**
+     * Copies the models and problems of the given result, built apart from this one, into this result. The problems
+     * are added as if they had been added to this result.
+     *
+     * @param other the result to copy
+     */
+    public void copyFrom(DefaultModelBuilderResult other) {
+        if (other.source != null) {
+            source = other.source;
+        }
+        if (other.fileModel != null) {
+            fileModel = other.fileModel;
+        }
+        if (other.rawModel != null) {
+            rawModel = other.rawModel;
+        }
+        if (other.parentModel != null) {
+            parentModel = other.parentModel;
+        }
+        if (other.effectiveModel != null) {
+            effectiveModel = other.effectiveModel;
         }
+        if (other.activePomProfiles != null) {
+            activePomProfiles = other.activePomProfiles;
+        }
+        if (other.activeExternalProfiles != null) {
+            activeExternalProfiles = other.activeExternalProfiles;
+        }
+        other.problems.forEach(this::addProblem);
     }
 
     @Override
@@ -145,6 +205,16 @@ public List<DefaultModelBuilderResult> getChildren() {
         return children;
     }
 
+    /**
+     * Adds a child result, whose problems are then not counted as own problems of this result.
+     *
+     * @param child the child result, created with this result as problem holder
+     */
+    public void addChild(DefaultModelBuilderResult child) {
+        child.child = true;
+        children.add(child);
+    }
+
     public String toString() {
         String modelId;
         if (effectiveModel != null) {
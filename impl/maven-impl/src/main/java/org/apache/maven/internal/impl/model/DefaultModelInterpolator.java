@@ -171,6 +171,8 @@ String doCallback(
             String expression) {
         // timestamp
         if ("build.timestamp".equals(expression) || "maven.build.timestamp".equals(expression)) {
+            // specific to this build, the model cannot be retained for the next ones
+            ModelInputs.untracked();
             return new MavenBuildTimestamp(request.getSession().getStartTime(), model.getProperties())
                     .formattedTimestamp();
         }
@@ -178,14 +180,14 @@ String doCallback(
         for (String prefix : getProjectPrefixes(request)) {
             if (expression.startsWith(prefix)) {
                 String subExpr = expression.substring(prefix.length());
-                String v = projectProperty(model, projectDir, subExpr, true);
+                String v = projectProperty(model, projectDir, request, subExpr, true);
                 if (v != null) {
                     return v;
                 }
             }
         }
         // un-prefixed model reflection
-        String value = projectProperty(model, projectDir, expression, false);
+        String value = projectProperty(model, projectDir, request, expression, false);
         // user properties
         if (value == null) {
             value = request.getUserProperties().get(expression);
@@ -205,7 +207,8 @@ String doCallback(
         return value;
     }
 
-    String projectProperty(Model model, Path projectDir, String subExpr, boolean prefixed) {
+    String projectProperty(
+            Model model, Path projectDir, ModelBuilderRequest request, String subExpr, boolean prefixed) {
         if (projectDir != null) {
             if (subExpr.equals("basedir")) {
                 return projectDir.toAbsolutePath().toString();
@@ -231,11 +234,18 @@ String projectProperty(Model model, Path projectDir, String subExpr, boolean pre
                     // addFeedback("Failed to extract \'" + expression + "\' from: " + root, e);
                 }
             } else if (prefixed && subExpr.equals("rootDirectory")) {
-                return rootLocator.findMandatoryRoot(projectDir).toString();
+                return DirectoryProbeCache.of(request.getSession())
+                        .rootLocator(rootLocator)
+                        .findMandatoryRoot(projectDir)
+                        .toString();
             } else if (prefixed && subExpr.startsWith("rootDirectory.")) {
                 try {
-                    Object value =
-                            ReflectionValueExtractor.evaluate(subExpr, rootLocator.findMandatoryRoot(projectDir), true);
+                    Object value = ReflectionValueExtractor.evaluate(
+                            subExpr,
+                            DirectoryProbeCache.of(request.getSession())
+                                    .rootLocator(rootLocator)
+                                    .findMandatoryRoot(projectDir),
+                            true);
                     if (value != null) {
                         return value.toString();
                     }
@@ -388,6 +388,11 @@ private boolean doExists(String path, boolean enableGlob) throws ModelBuilderExc
             glob = "";
         }
         Path fixedPath = Paths.get(fixed);
+        if (glob.isEmpty()) {
+            ModelInputs.read(fixedPath);
+        } else {
+            ModelInputs.untracked();
+        }
         return doExists(fixedPath, glob);
     }
 
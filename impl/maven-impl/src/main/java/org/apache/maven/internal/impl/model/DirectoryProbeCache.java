@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.services.model.ModelProcessor;
+import org.apache.maven.api.services.model.RootLocator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches the probes of the file system made to locate the POMs and the root directory of the projects, for the
+ * duration of a session. Every project of a reactor is otherwise located several times, and the root directory is
+ * searched by checking each parent directory for a {@code .mvn} directory or a root POM, which is costly on network
+ * file systems. The layout of the projects is not expected to change during a build, so the cached results are not
+ * checked again.
+ */
+public class DirectoryProbeCache {
+
+    private static final SessionData.Key<DirectoryProbeCache> KEY = SessionData.key(DirectoryProbeCache.class);
+
+    private final Map<Path, Optional<Path>> poms = new ConcurrentHashMap<>();
+    private final Map<Path, Optional<Path>> roots = new ConcurrentHashMap<>();
+    private final Map<Path, Path> mandatoryRoots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache of the given session.
+     *
+     * @param session the session
+     * @return the cache of the session
+     */
+    @Nonnull
+    public static DirectoryProbeCache of(@Nonnull Session session) {
+        return session.getData().computeIfAbsent(KEY, DirectoryProbeCache::new);
+    }
+
+    /**
+     * Locates the POM of the given project directory or file.
+     *
+     * @param modelProcessor the model processor locating the POM if not cached
+     * @param project the project directory or POM
+     * @return the POM, or {@code null} if none exists
+     * @see ModelProcessor#locateExistingPom(Path)
+     */
+    public Path locateExistingPom(@Nonnull ModelProcessor modelProcessor, Path project) {
+        if (project == null) {
+            return modelProcessor.locateExistingPom(null);
+        }
+        Optional<Path> pom = poms.get(project);
+        if (pom == null) {
+            pom = Optional.ofNullable(modelProcessor.locateExistingPom(project));
+            poms.putIfAbsent(project, pom);
+        }
+        return pom.orElse(null);
+    }
+
+    /**
+     * Finds the root directory of the given project directory.
+     *
+     * @param basedir the project directory
+     * @param rootLocator the function finding the root directory if not cached
+     * @return the root directory, or {@code null} if none is found
+     * @see RootLocator#findRoot(Path)
+     */
+    public Path findRoot(@Nonnull Path basedir, @Nonnull Function<Path, Path> rootLocator) {
+        Optional<Path> root = roots.get(basedir);
+        if (root == null) {
+            root = Optional.ofNullable(rootLocator.apply(basedir));
+            roots.putIfAbsent(basedir, root);
+        }
+        return root.orElse(null);
+    }
+
+    /**
+     * Returns a view of the given root locator caching its results.
+     *
+     * @param rootLocator the root locator finding the root directories if not cached
+     * @return the caching root locator
+     */
+    @Nonnull
+    public RootLocator rootLocator(@Nonnull RootLocator rootLocator) {
+        return new RootLocator() {
+            @Override
+            public Path findRoot(@Nonnull Path basedir) {
+                requireNonNull(basedir, getNoRootMessage());
+                return DirectoryProbeCache.this.findRoot(basedir, rootLocator::findRoot);
+            }
+
+            @Nonnull
+            @Override
+            public Path findMandatoryRoot(@Nonnull Path basedir) {
+                requireNonNull(basedir, getNoRootMessage());
+                return mandatoryRoots.computeIfAbsent(basedir, rootLocator::findMandatoryRoot);
+            }
+
+            @Nonnull
+            @Override
+            public String getNoRootMessage() {
+                return rootLocator.getNoRootMessage();
+            }
+        };
+    }
+}
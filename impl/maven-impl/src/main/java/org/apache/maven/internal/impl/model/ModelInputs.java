@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the inputs a model is derived from: the files read or probed while building it, along with their stamp
+ * when first read, and the lookups of models in the reactor. The inputs are collected on the thread building the
+ * model, so that the model can be retained by a later session as long as none of them changed.
+ * <p>
+ * Inputs which cannot be tracked, such as files modified too recently to be told apart from a later modification,
+ * wildcard file probes or the build timestamp, make the model untracked.
+ */
+final class ModelInputs {
+
+    private static final ThreadLocal<ModelInputs> CURRENT = new ThreadLocal<>();
+
+    /**
+     * A lookup of a model of the reactor, either by its coordinates or, if {@code anyVersion}, by its group and
+     * artifact identifiers only.
+     */
+    record Lookup(String groupId, String artifactId, String version, boolean anyVersion) {}
+
+    /**
+     * A value computed while tracking its inputs, which are added to the inputs of the caller on each access so that
+     * cached values account for what they were derived from.
+     */
+    record Tracked<T>(T value, ModelInputs inputs) {
+        T get() {
+            ModelInputs current = CURRENT.get();
+            if (current != null) {
+                current.add(inputs);
+            }
+            return value;
+        }
+    }
+
+    private record Stamp(FileTime lastModified, long size) {
+        static final Stamp MISSING = new Stamp(null, -1);
+
+        static Stamp of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new Stamp(attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                return MISSING;
+            }
+        }
+    }
+
+    private Map<Path, Stamp> stamps;
+    private Map<Lookup, Path> lookups;
+    private boolean untracked;
+
+    private ModelInputs() {}
+
+    /**
+     * Computes a value, tracking its inputs.
+     */
+    static <T> Tracked<T> track(Supplier<T> supplier) {
+        ModelInputs previous = CURRENT.get();
+        ModelInputs inputs = new ModelInputs();
+        CURRENT.set(inputs);
+        try {
+            return new Tracked<>(supplier.get(), inputs);
+        } finally {
+            CURRENT.set(previous);
+            if (previous != null) {
+                previous.add(inputs);
+            }
+        }
+    }
+
+    /**
+     * Runs a task, returning its inputs.
+     */
+    static ModelInputs collect(Runnable task) {
+        return track(() -> {
+                    task.run();
+                    return null;
+                })
+                .inputs();
+    }
+
+    /**
+     * Records a file read or probed by the current thread. The file does not need to exist.
+     *
+     * @param path the file, or {@code null} if the input has no file and cannot be tracked
+     */
+    static void read(Path path) {
+        ModelInputs inputs = CURRENT.get();
+        if (inputs != null) {
+            if (path == null) {
+                inputs.untracked = true;
+                return;
+            }
+            Stamp stamp = Stamp.of(path);
+            if (stamp.lastModified() != null
+                    && stamp.lastModified().toMillis()
+                            > System.currentTimeMillis() - DefaultModelBuilder.MODIFICATION_TIME_RESOLUTION) {
+                inputs.untracked = true;
+            } else {
+                inputs.addStamp(path, stamp);
+            }
+        }
+    }
+
+    /**
+     * Records a lookup of a model of the reactor by the current thread.
+     *
+     * @param path the POM of the model found, or {@code null} if none was found
+     */
+    static void lookup(Lookup lookup, Path path) {
+        ModelInputs inputs = CURRENT.get();
+        if (inputs != null) {
+            inputs.addLookup(lookup, path);
+        }
+    }
+
+    /**
+     * Records that the current thread depends on an input which cannot be tracked.
+     */
+    static void untracked() {
+        ModelInputs inputs = CURRENT.get();
+        if (inputs != null) {
+            inputs.untracked = true;
+        }
+    }
+
+    /**
+     * Returns whether all the inputs are tracked.
+     */
+    boolean isTracked() {
+        return !untracked;
+    }
+
+    /**
+     * Returns whether all the inputs are tracked and still the same.
+     *
+     * @param reactor looks up a model in the current reactor, returning its POM or {@code null}
+     */
+    boolean isUnchanged(Function<Lookup, Path> reactor) {
+        if (untracked) {
+            return false;
+        }
+        if (stamps != null) {
+            for (Map.Entry<Path, Stamp> e : stamps.entrySet()) {
+                if (!e.getValue().equals(Stamp.of(e.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        if (lookups != null) {
+            for (Map.Entry<Lookup, Path> e : lookups.entrySet()) {
+                if (!Objects.equals(e.getValue(), reactor.apply(e.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void add(ModelInputs other) {
+        if (other == this) {
+            return;
+        }
+        untracked |= other.untracked;
+        if (other.stamps != null) {
+            other.stamps.forEach(this::addStamp);
+        }
+        if (other.lookups != null) {
+            other.lookups.forEach(this::addLookup);
+        }
+    }
+
+    private void addStamp(Path path, Stamp stamp) {
+        if (stamps == null) {
+            stamps = new HashMap<>();
+        }
+        Stamp previous = stamps.putIfAbsent(path, stamp);
+        if (previous != null && !previous.equals(stamp)) {
+            // modified while being read
+            untracked = true;
+        }
+    }
+
+    private void addLookup(Lookup lookup, Path path) {
+        if (lookups == null) {
+            lookups = new HashMap<>();
+        }
+        if (!lookups.containsKey(lookup)) {
+            lookups.put(lookup, path);
+        } else if (!Objects.equals(lookups.get(lookup), path)) {
+            // the reactor was still being loaded
+            untracked = true;
+        }
+    }
+}
@@ -22,6 +22,7 @@
 import java.lang.reflect.Modifier;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache of introspection information for a specific class instance.
@@ -35,6 +36,8 @@ private static final class CacheMiss {}
 
     private static final Object OBJECT = new Object();
 
+    private static final String[] ACCESSOR_PREFIXES = {"get", "is", "to", "as"};
+
     /**
      * Class passed into the constructor used to as
      * the basis for the Method map.
@@ -47,6 +50,11 @@ private static final class CacheMiss {}
      */
     private final Map<String, Object> methodCache = new Hashtable<>();
 
+    /**
+     * Cache of property accessors, or CACHE_MISS, keyed by property name.
+     */
+    private final Map<String, Object> accessorCache = new ConcurrentHashMap<>();
+
     private MethodMap methodMap = new MethodMap();
 
     /**
@@ -106,6 +114,30 @@ public Method findMethod(String name, Object... params) throws MethodMap.Ambiguo
         return (Method) cacheEntry;
     }
 
+    /**
+     * Find the accessor of a property, i.e. the first {@code getXxx}, {@code isXxx}, {@code toXxx} or
+     * {@code asXxx} method without parameters.
+     * @param property The property name, not empty.
+     * @return The found method, or {@code null}.
+     * @throws MethodMap.AmbiguousException in case of duplicate methods.
+     */
+    Method findAccessor(String property) throws MethodMap.AmbiguousException {
+        Object cacheEntry = accessorCache.get(property);
+        if (cacheEntry == null) {
+            String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
+            Method method = null;
+            for (String prefix : ACCESSOR_PREFIXES) {
+                method = findMethod(prefix + methodBase);
+                if (method != null) {
+                    break;
+                }
+            }
+            cacheEntry = method != null ? method : CACHE_MISS;
+            accessorCache.put(property, cacheEntry);
+        }
+        return cacheEntry == CACHE_MISS ? null : (Method) cacheEntry;
+    }
+
     /**
      * Populate the Map of direct hits. These
      * are taken from all the public methods
@@ -18,16 +18,14 @@
  */
 package org.apache.maven.internal.impl.model.reflection;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.annotations.Nullable;
@@ -38,16 +36,32 @@
  * <p>
  * In addition to usual getters using {@code getXxx} or {@code isXxx} suffixes, accessors
  * using {@code asXxx} or {@code toXxx} prefixes are also supported.
+ * <p>
+ * Expressions are parsed once into a list of steps, which are cached and reused for all the
+ * evaluations of the same expression, and the accessor of each property is looked up once per class.
  */
 public class ReflectionValueExtractor {
     private static final Object[] OBJECT_ARGS = new Object[0];
 
     /**
-     * Use a WeakHashMap here, so the keys (Class objects) can be garbage collected.
-     * This approach prevents permgen space overflows due to retention of discarded
-     * classloaders.
+     * Use a ClassValue here, so the classes and their class loaders can be garbage collected.
+     * This approach prevents metaspace overflows due to retention of discarded classloaders.
      */
-    private static final Map<Class<?>, WeakReference<ClassMap>> CLASS_MAPS = new WeakHashMap<>();
+    private static final ClassValue<ClassMap> CLASS_MAPS = new ClassValue<>() {
+        @Override
+        protected ClassMap computeValue(Class<?> type) {
+            return new ClassMap(type);
+        }
+    };
+
+    /**
+     * The maximum number of compiled expressions kept by each cache, which are cleared when reached.
+     */
+    static final int MAX_COMPILED_EXPRESSIONS = 10_000;
+
+    private static final Map<String, CompiledExpression> TRIMMED_EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private static final Map<String, CompiledExpression> UNTRIMMED_EXPRESSIONS = new ConcurrentHashMap<>();
 
     static final int EOF = -1;
 
@@ -160,63 +174,112 @@ public static Object evaluate(@Nonnull String expression, @Nullable Object root)
      */
     public static Object evaluate(@Nonnull String expression, @Nullable Object root, boolean trimRootToken)
             throws IntrospectionException {
-        Object value = root;
-
-        // ----------------------------------------------------------------------
-        // Walk the dots and retrieve the ultimate value desired from the
-        // MavenProject instance.
-        // ----------------------------------------------------------------------
-
         if (expression == null || expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
             return null;
         }
 
-        boolean hasDots = expression.indexOf(PROPERTY_START) >= 0;
+        Object value = compile(expression, trimRootToken).evaluate(root);
 
-        final Tokenizer tokenizer;
-        if (trimRootToken && hasDots) {
-            tokenizer = new Tokenizer(expression);
-            tokenizer.nextPropertyName();
-            if (tokenizer.getPosition() == EOF) {
-                return null;
+        if (value instanceof Optional) {
+            value = ((Optional<?>) value).orElse(null);
+        }
+        return value;
+    }
+
+    private static CompiledExpression compile(String expression, boolean trimRootToken) {
+        Map<String, CompiledExpression> cache = trimRootToken ? TRIMMED_EXPRESSIONS : UNTRIMMED_EXPRESSIONS;
+        CompiledExpression compiled = cache.get(expression);
+        if (compiled == null) {
+            compiled = CompiledExpression.parse(expression, trimRootToken);
+            if (cache.size() >= MAX_COMPILED_EXPRESSIONS) {
+                cache.clear();
             }
-        } else {
-            tokenizer = new Tokenizer("." + expression);
+            cache.put(expression, compiled);
         }
+        return compiled;
+    }
 
-        int propertyPosition = tokenizer.getPosition();
-        while (value != null && tokenizer.peekChar() != EOF) {
-            switch (tokenizer.skipChar()) {
-                case INDEXED_START:
-                    value = getIndexedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(INDEXED_END));
-                    break;
-                case MAPPED_START:
-                    value = getMappedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(MAPPED_END));
-                    break;
-                case PROPERTY_START:
-                    propertyPosition = tokenizer.getPosition();
-                    value = getPropertyValue(value, tokenizer.nextPropertyName());
-                    break;
-                default:
-                    // could not parse expression
-                    return null;
+    /**
+     * A step of a compiled expression, retrieving a value from the value of the previous step.
+     */
+    @FunctionalInterface
+    interface Step {
+        Object apply(Object value) throws IntrospectionException;
+    }
+
+    /**
+     * An expression parsed into the list of steps walking from the root object to the desired value.
+     * A {@code null} list of steps denotes an expression which always evaluates to {@code null}.
+     */
+    record CompiledExpression(List<Step> steps) {
+        private static final Step INVALID = value -> null;
+
+        static CompiledExpression parse(String expression, boolean trimRootToken) {
+            // ----------------------------------------------------------------------
+            // Walk the dots and compile the retrieval of the ultimate value desired
+            // from the MavenProject instance.
+            // ----------------------------------------------------------------------
+
+            boolean hasDots = expression.indexOf(PROPERTY_START) >= 0;
+
+            final Tokenizer tokenizer;
+            if (trimRootToken && hasDots) {
+                tokenizer = new Tokenizer(expression);
+                tokenizer.nextPropertyName();
+                if (tokenizer.getPosition() == EOF) {
+                    return new CompiledExpression(null);
+                }
+            } else {
+                tokenizer = new Tokenizer("." + expression);
             }
+
+            List<Step> steps = new ArrayList<>();
+            int propertyPosition = tokenizer.getPosition();
+            while (tokenizer.peekChar() != EOF) {
+                switch (tokenizer.skipChar()) {
+                    case INDEXED_START -> {
+                        int from = propertyPosition;
+                        int to = tokenizer.getPosition();
+                        String index = tokenizer.nextToken(INDEXED_END);
+                        steps.add(value -> getIndexedValue(expression, from, to, value, index));
+                    }
+                    case MAPPED_START -> {
+                        int from = propertyPosition;
+                        int to = tokenizer.getPosition();
+                        String key = tokenizer.nextToken(MAPPED_END);
+                        steps.add(value -> getMappedValue(expression, from, to, value, key));
+                    }
+                    case PROPERTY_START -> {
+                        propertyPosition = tokenizer.getPosition();
+                        String property = tokenizer.nextPropertyName();
+                        steps.add(value -> getPropertyValue(value, property));
+                    }
+                    default -> {
+                        // could not parse expression
+                        steps.add(INVALID);
+                        return new CompiledExpression(List.copyOf(steps));
+                    }
+                }
+            }
+            return new CompiledExpression(List.copyOf(steps));
         }
 
-        if (value instanceof Optional) {
-            value = ((Optional<?>) value).orElse(null);
+        Object evaluate(Object root) throws IntrospectionException {
+            if (steps == null) {
+                return null;
+            }
+            Object value = root;
+            for (Step step : steps) {
+                if (value == null) {
+                    break;
+                }
+                if (step == INVALID) {
+                    return null;
+                }
+                value = step.apply(value);
+            }
+            return value;
         }
-        return value;
     }
 
     private static Object getMappedValue(
@@ -268,33 +331,13 @@ private static Object getPropertyValue(Object value, String property) throws Int
             return null;
         }
 
-        ClassMap classMap = getClassMap(value.getClass());
-        String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
         try {
-            for (String prefix : Arrays.asList("get", "is", "to", "as")) {
-                Method method = classMap.findMethod(prefix + methodBase);
-                if (method != null) {
-                    return method.invoke(value, OBJECT_ARGS);
-                }
-            }
-            return null;
+            Method method = CLASS_MAPS.get(value.getClass()).findAccessor(property);
+            return method != null ? method.invoke(value, OBJECT_ARGS) : null;
         } catch (InvocationTargetException e) {
             throw new IntrospectionException(e.getTargetException());
         } catch (MethodMap.AmbiguousException | IllegalAccessException e) {
             throw new IntrospectionException(e);
         }
     }
-
-    private static ClassMap getClassMap(Class<?> clazz) {
-        Reference<ClassMap> ref = CLASS_MAPS.get(clazz);
-        ClassMap classMap = ref != null ? ref.get() : null;
-
-        if (classMap == null) {
-            classMap = new ClassMap(clazz);
-
-            CLASS_MAPS.put(clazz, new WeakReference<>(classMap));
-        }
-
-        return classMap;
-    }
 }
@@ -24,6 +24,7 @@
 import java.util.Map;
 import java.util.Objects;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.RemoteRepository;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -61,6 +62,7 @@
 import org.eclipse.aether.resolution.VersionResolutionException;
 import org.eclipse.aether.resolution.VersionResult;
 import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -195,6 +197,8 @@ private Model loadPom(
                 ModelBuilderRequest modelRequest = ModelBuilderRequest.builder()
                         .session(iSession)
                         .requestType(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY)
+                        .dependencyMetadataOnly(ConfigUtils.getBoolean(
+                                session, true, Constants.MAVEN_RESOLVER_DEPENDENCY_METADATA_ONLY))
                         .source(ModelSource.fromPath(pomArtifact.getPath(), gav))
                         // This merge is on purpose because otherwise user properties would override model
                         // properties in dependencies the user does not know. See MNG-7563 for details.
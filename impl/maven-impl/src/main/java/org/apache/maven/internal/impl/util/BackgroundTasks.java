@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs a handful of independent, I/O bound tasks in the background, typically during startup
+ * where no executor is available yet. The tasks are run by a small pool of daemon threads, created
+ * on first use and stopped once idle, and inherit the context class loader of the submitting
+ * thread, so that components looked up through the TCCL behave as if the task was run inline.
+ * A task submitted from a background task is run inline, so that a bounded pool cannot deadlock
+ * on tasks waiting for each other.
+ * <p>
+ * Failures are reported by {@link #join(CompletableFuture)} to the caller, rethrowing the
+ * original unchecked exception, so that callers keep their sequential error handling.
+ */
+public final class BackgroundTasks {
+    private static final int THREADS = 4;
+
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private BackgroundTasks() {}
+
+    /**
+     * Runs the given task on a background thread.
+     *
+     * @param name a short name given to the thread while it runs the task
+     * @param task the task to run
+     * @return a future completed with the result of the task
+     * @param <T> the result type
+     */
+    public static <T> CompletableFuture<T> submit(String name, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (Thread.currentThread() instanceof Worker) {
+            run(task, future);
+            return future;
+        }
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        Executor.INSTANCE.execute(() -> {
+            Thread thread = Thread.currentThread();
+            String threadName = thread.getName();
+            thread.setName(threadName + "-" + name);
+            thread.setContextClassLoader(tccl);
+            try {
+                run(task, future);
+            } finally {
+                thread.setContextClassLoader(null);
+                thread.setName(threadName);
+            }
+        });
+        return future;
+    }
+
+    private static <T> void run(Supplier<T> task, CompletableFuture<T> future) {
+        try {
+            future.complete(task.get());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Waits for the given future and returns its result, rethrowing unchecked exceptions and errors
+     * raised by the task as is.
+     *
+     * @param future the future to wait for
+     * @return the result of the task
+     * @param <T> the result type
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error er) {
+                throw er;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static final class Worker extends Thread {
+        Worker(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+    }
+
+    /**
+     * Holds the pool, so that it is only created once a task is submitted.
+     */
+    private static final class Executor {
+        private static final AtomicInteger ID = new AtomicInteger(0);
+
+        static final ThreadPoolExecutor INSTANCE = create();
+
+        private static ThreadPoolExecutor create() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    THREADS,
+                    THREADS,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    r -> new Worker(r, "maven-background-" + ID.incrementAndGet()));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A concurrent table assigning dense integer ids to distinct values, starting from {@code 0}, and returning the
+ * canonical instance of a value from its id.
+ * <p>
+ * It lets objects sharing the same value, typically the coordinates of artifacts, hold a single canonical instance
+ * of it through an {@code int}, and be compared by id. Lookups of known values are lock-free. Values are never
+ * removed, so the table is meant to live as long as a session.
+ *
+ * @param <T> the type of values
+ */
+public final class DenseInterner<T> {
+
+    private final ConcurrentHashMap<T, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Object[] values = new Object[256];
+    private int size;
+
+    /**
+     * Returns the id of the given value, assigning it the next id if it is not known yet.
+     *
+     * @param value the value
+     * @return the id of the value
+     */
+    public int intern(T value) {
+        return intern(value, UnaryOperator.identity());
+    }
+
+    /**
+     * Returns the id of the given value. If it is not known yet, the next id is assigned to the canonical instance of
+     * the value computed by the given function, so that a lookup value does not need to be retained.
+     *
+     * @param value the value
+     * @param canonical the function computing the canonical instance of a value, equal to it
+     * @return the id of the value
+     */
+    public int intern(T value, UnaryOperator<T> canonical) {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(value);
+            if (id == null) {
+                T instance = canonical.apply(value);
+                id = size++;
+                Object[] array = values;
+                if (id == array.length) {
+                    array = Arrays.copyOf(array, array.length * 2);
+                }
+                array[id] = instance;
+                values = array;
+                // published after the value, so that the value of any id returned by this method can be read
+                ids.put(instance, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the given value, interning it if it is not known yet.
+     *
+     * @param value the value
+     * @return the canonical instance equal to the value
+     */
+    public T canonicalize(T value) {
+        return get(intern(value));
+    }
+
+    /**
+     * Returns the canonical instance of the value of the given id.
+     *
+     * @param id an id returned by {@link #intern(Object)}
+     * @return the value of the id
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        return (T) values[id];
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return ids.size();
+    }
+}
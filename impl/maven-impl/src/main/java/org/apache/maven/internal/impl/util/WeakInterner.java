@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache interning the values computed from keys, typically wrappers around resolver objects.
+ * <p>
+ * Lookups of cached values are lock-free and do not allocate. Values are weakly referenced: an entry lives as long
+ * as its value is reachable, and the key is only retained by the entry, so a wrapper holding a strong reference to
+ * its key does not prevent the entry from being collected, which is the ephemeron behavior a {@code WeakHashMap}
+ * cannot provide. A value that has been collected is simply computed again; as long as a value is reachable,
+ * the same instance is returned for equal keys.
+ * <p>
+ * Under contention, the function may be invoked several times for the same key, but a single value is retained
+ * and returned to all callers, hence it must not have side effects.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class WeakInterner<K, V> {
+
+    private final ConcurrentHashMap<K, ValueRef<K, V>> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the value interned for the given key, computing it if absent or collected.
+     *
+     * @param key the key
+     * @param function the function computing the value of the key
+     * @return the interned value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        ValueRef<K, V> ref = map.get(key);
+        V value = ref != null ? ref.get() : null;
+        if (value != null) {
+            return value;
+        }
+        expungeStaleEntries();
+        V created = function.apply(key);
+        ValueRef<K, V> newRef = new ValueRef<>(key, created, queue);
+        while (true) {
+            if (ref == null) {
+                ref = map.putIfAbsent(key, newRef);
+                if (ref == null) {
+                    return created;
+                }
+            } else if (map.replace(key, ref, newRef)) {
+                return created;
+            } else {
+                ref = map.get(key);
+            }
+            value = ref != null ? ref.get() : null;
+            if (value != null) {
+                // another thread won the race
+                newRef.clear();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries, including the ones whose value has been collected but not yet expunged.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        expungeStaleEntries();
+        return map.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            @SuppressWarnings("unchecked")
+            ValueRef<K, V> valueRef = (ValueRef<K, V>) ref;
+            map.remove(valueRef.key, valueRef);
+        }
+    }
+
+    private static final class ValueRef<K, V> extends WeakReference<V> {
+        final K key;
+
+        ValueRef(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
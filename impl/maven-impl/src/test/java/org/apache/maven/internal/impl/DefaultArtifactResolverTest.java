@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.ArtifactCoordinates;
+import org.apache.maven.api.DownloadedArtifact;
+import org.apache.maven.api.RemoteRepository;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.services.ArtifactResolver;
+import org.apache.maven.api.services.ArtifactResolverException;
+import org.apache.maven.api.services.ArtifactResolverRequest;
+import org.apache.maven.api.services.ArtifactResolverResult;
+import org.apache.maven.internal.impl.standalone.ApiRunner;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultArtifactResolverTest {
+
+    @TempDir
+    Path dir;
+
+    Session session;
+    ArtifactResolver resolver;
+    List<RemoteRepository> repositories;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Session base = ApiRunner.createSession();
+        session = base.withLocalRepository(base.createLocalRepository(dir.resolve("local")));
+        resolver = session.getService(ArtifactResolver.class);
+        Path remote = dir.resolve("remote");
+        for (int i = 0; i < 20; i++) {
+            Path jar = remote.resolve("org/example/a" + i + "/1.0/a" + i + "-1.0.jar");
+            Files.createDirectories(jar.getParent());
+            Files.writeString(jar, "a" + i);
+        }
+        repositories =
+                List.of(session.createRemoteRepository("test", remote.toUri().toString()));
+    }
+
+    @Test
+    void testResolveAsync() {
+        List<ArtifactCoordinates> coordinates = coordinates(20);
+        AtomicInteger consumed = new AtomicInteger();
+        ArtifactResolverResult result = resolver.resolveAsync(
+                        ArtifactResolverRequest.build(session, coordinates, repositories), a -> {
+                            assertTrue(Files.exists(a.getPath()));
+                            consumed.incrementAndGet();
+                        })
+                .toCompletableFuture()
+                .join();
+        assertEquals(20, result.getArtifacts().size());
+        assertEquals(20, consumed.get());
+    }
+
+    @Test
+    void testCompletesOnceAllArtifactsAreConsumed() {
+        List<ArtifactCoordinates> coordinates = coordinates(20);
+        AtomicInteger consumed = new AtomicInteger();
+        CompletableFuture<Integer> completion = resolver.resolveAsync(
+                        ArtifactResolverRequest.build(session, coordinates, repositories), a -> {
+                            try {
+                                Thread.sleep(10);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            consumed.incrementAndGet();
+                        })
+                .toCompletableFuture()
+                .thenApply(r -> consumed.get());
+        // the stage only completes once the consumer has returned for every artifact
+        assertEquals(20, completion.join());
+    }
+
+    @Test
+    void testFailsOnUnresolvableArtifact() {
+        List<ArtifactCoordinates> coordinates = coordinates(20);
+        coordinates.add(10, session.createArtifactCoordinates("org.example:missing:1.0"));
+        CompletableFuture<ArtifactResolverResult> future = resolver.resolveAsync(
+                        ArtifactResolverRequest.build(session, coordinates, repositories), a -> {})
+                .toCompletableFuture();
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(ArtifactResolverException.class, e.getCause());
+    }
+
+    @Test
+    void testFailsOnConsumerFailure() {
+        IllegalStateException failure = new IllegalStateException("consumer failure");
+        CompletableFuture<ArtifactResolverResult> future = resolver.resolveAsync(
+                        ArtifactResolverRequest.build(session, coordinates(5), repositories), a -> {
+                            throw failure;
+                        })
+                .toCompletableFuture();
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertEquals(failure, e.getCause());
+    }
+
+    @Test
+    void testCancellationStopsTheResolution() throws Exception {
+        // a single worker, so that the remaining batches wait for the first one
+        ((DefaultRepositorySystemSession) InternalSession.from(session).getSession())
+                .setConfigProperty(DefaultArtifactResolver.THREADS_KEY, 1);
+        CountDownLatch consuming = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<DownloadedArtifact> consumed = new CopyOnWriteArrayList<>();
+        CompletableFuture<ArtifactResolverResult> future = resolver.resolveAsync(
+                        ArtifactResolverRequest.build(session, coordinates(20), repositories), a -> {
+                            consumed.add(a);
+                            consuming.countDown();
+                            try {
+                                cancelled.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        })
+                .toCompletableFuture();
+
+        assertTrue(consuming.await(10, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+        cancelled.countDown();
+        assertTrue(future.isCancelled());
+        // the artifacts of the first batch are not consumed once cancelled, and no further batch is resolved
+        Thread.sleep(200);
+        assertEquals(1, consumed.size());
+    }
+
+    private List<ArtifactCoordinates> coordinates(int count) {
+        List<ArtifactCoordinates> coordinates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            coordinates.add(session.createArtifactCoordinates("org.example:a" + i + ":1.0"));
+        }
+        return coordinates;
+    }
+}
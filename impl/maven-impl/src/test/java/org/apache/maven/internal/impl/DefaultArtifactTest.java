@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import org.apache.maven.api.Artifact;
+import org.apache.maven.api.Dependency;
+import org.apache.maven.internal.impl.standalone.ApiRunner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DefaultArtifactTest {
+
+    private final InternalSession session = InternalSession.from(ApiRunner.createSession());
+
+    private static org.eclipse.aether.artifact.Artifact artifact(String artifactId) {
+        // distinct string instances for each artifact, as read from distinct POMs
+        return new org.eclipse.aether.artifact.DefaultArtifact(
+                new String("org.example"), new String(artifactId), "", new String("jar"), new String("1.0"));
+    }
+
+    @Test
+    void testCoordinatesAreCanonical() {
+        org.eclipse.aether.artifact.Artifact a1 = artifact("a");
+        org.eclipse.aether.artifact.Artifact a2 = artifact("a");
+        assertNotSame(a1.getGroupId(), a2.getGroupId());
+
+        Artifact artifact1 = new DefaultArtifact(session, a1);
+        Artifact artifact2 = new DefaultArtifact(session, a2);
+        Artifact other = new DefaultArtifact(session, artifact("b"));
+
+        assertEquals(artifact1, artifact2);
+        assertEquals("org.example:a:jar:1.0", artifact1.key());
+        assertSame(artifact1.key(), artifact2.key());
+        assertSame(artifact1.getGroupId(), artifact2.getGroupId());
+        assertSame(artifact1.getArtifactId(), artifact2.getArtifactId());
+        assertSame(artifact1.getExtension(), artifact2.getExtension());
+        // the coordinates are shared by all the keys
+        assertSame(artifact1.getGroupId(), other.getGroupId());
+        assertSame(artifact1.getVersion().toString(), other.getVersion().toString());
+
+        Dependency dependency =
+                new DefaultDependency(session, new org.eclipse.aether.graph.Dependency(artifact("a"), "compile"));
+        assertEquals(artifact1.key(), dependency.key());
+        assertSame(artifact1.getGroupId(), dependency.getGroupId());
+        assertSame(artifact1.getArtifactId(), dependency.getArtifactId());
+    }
+}
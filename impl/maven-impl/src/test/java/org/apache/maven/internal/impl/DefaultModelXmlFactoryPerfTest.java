@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.xml.XmlReaderRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time and allocations needed to read the POMs of a 10,000 artifacts dependency graph, either fully
+ * or for their dependency metadata only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DefaultModelXmlFactoryPerfTest {
+
+    static final int POMS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+        List<byte[]> poms;
+        DefaultModelXmlFactory factory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            factory = new DefaultModelXmlFactory();
+            poms = new ArrayList<>(POMS);
+            for (int i = 0; i < POMS; i++) {
+                poms.add(pom(i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Benchmark
+    public void full(GraphState state, Blackhole bh) {
+        read(state, false, bh);
+    }
+
+    @Benchmark
+    public void dependencyMetadataOnly(GraphState state, Blackhole bh) {
+        read(state, true, bh);
+    }
+
+    private static void read(GraphState state, boolean dependencyMetadataOnly, Blackhole bh) {
+        for (byte[] pom : state.poms) {
+            Model model = state.factory.read(XmlReaderRequest.builder()
+                    .inputStream(new ByteArrayInputStream(pom))
+                    .dependencyMetadataOnly(dependencyMetadataOnly)
+                    .build());
+            bh.consume(model);
+        }
+    }
+
+    /**
+     * Generates a typical third-party POM, whose build section is larger than its dependency metadata.
+     */
+    static String pom(int index) {
+        StringBuilder sb = new StringBuilder(8192);
+        sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>org.example.group")
+                .append(index % 100)
+                .append("</groupId>\n")
+                .append("  <artifactId>artifact-")
+                .append(index)
+                .append("</artifactId>\n")
+                .append("  <version>1.")
+                .append(index)
+                .append("</version>\n")
+                .append("  <licenses><license><name>Apache-2.0</name></license></licenses>\n")
+                .append("  <distributionManagement>\n")
+                .append("    <repository><id>releases</id><url>https://repo.example.org/releases</url></repository>\n")
+                .append("    <snapshotRepository><id>snapshots</id><url>https://repo.example.org/snapshots</url>")
+                .append("</snapshotRepository>\n")
+                .append("    <site><id>site</id><url>scp://example.org/site</url></site>\n")
+                .append("  </distributionManagement>\n")
+                .append("  <dependencies>\n");
+        for (int d = 1; d <= 8; d++) {
+            sb.append("    <dependency><groupId>org.example.group")
+                    .append((index + d) % 100)
+                    .append("</groupId><artifactId>artifact-")
+                    .append((index + d * 31) % POMS)
+                    .append("</artifactId><version>1.")
+                    .append((index + d * 31) % POMS)
+                    .append("</version>")
+                    .append(d % 3 == 0 ? "<scope>test</scope>" : "")
+                    .append("</dependency>\n");
+        }
+        sb.append("  </dependencies>\n").append("  <build>\n").append("    <plugins>\n");
+        for (String plugin : List.of("compiler", "surefire", "jar", "source", "javadoc", "enforcer", "bundle")) {
+            sb.append("      <plugin>\n")
+                    .append("        <artifactId>maven-")
+                    .append(plugin)
+                    .append("-plugin</artifactId>\n")
+                    .append("        <version>3.0.0</version>\n")
+                    .append("        <executions><execution><id>default</id><phase>verify</phase>")
+                    .append("<goals><goal>run</goal></goals></execution></executions>\n")
+                    .append("        <configuration>\n")
+                    .append("          <skip>false</skip>\n")
+                    .append("          <includes><include>**/*.java</include><include>**/*.xml</include></includes>\n")
+                    .append("          <archive><manifestEntries><Automatic-Module-Name>org.example.m")
+                    .append(index)
+                    .append("</Automatic-Module-Name></manifestEntries></archive>\n")
+                    .append("        </configuration>\n")
+                    .append("      </plugin>\n");
+        }
+        sb.append("    </plugins>\n")
+                .append("  </build>\n")
+                .append("  <reporting><plugins><plugin><artifactId>maven-project-info-reports-plugin</artifactId>")
+                .append("<version>3.0.0</version></plugin></plugins></reporting>\n")
+                .append("</project>\n");
+        return sb.toString();
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DefaultModelXmlFactoryPerfTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.aether.spi.connector.transport.PutTask;
+import org.eclipse.aether.spi.connector.transport.Transporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DefaultTransportTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPutFile() throws Exception {
+        Transporter transporter = mock(Transporter.class);
+        DefaultTransport transport = new DefaultTransport(URI.create("https://repo.example.org/base/"), transporter);
+        Path source = tempDir.resolve("artifact.jar");
+        Files.writeString(source, "content");
+
+        transport.put(source, URI.create("org/example/artifact.jar"));
+
+        ArgumentCaptor<PutTask> task = ArgumentCaptor.forClass(PutTask.class);
+        verify(transporter).put(task.capture());
+        assertEquals(
+                URI.create("https://repo.example.org/base/org/example/artifact.jar"),
+                task.getValue().getLocation());
+        assertEquals(source, task.getValue().getDataPath());
+    }
+
+    @Test
+    void testPutMissingFile() {
+        Transporter transporter = mock(Transporter.class);
+        DefaultTransport transport = new DefaultTransport(URI.create("https://repo.example.org/base/"), transporter);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> transport.put(tempDir.resolve("missing.jar"), URI.create("org/example/missing.jar")));
+        assertThrows(IllegalArgumentException.class, () -> transport.put(tempDir, URI.create("org/example/")));
+        verifyNoInteractions(transporter);
+    }
+}
@@ -18,15 +18,89 @@
  */
 package org.apache.maven.internal.impl.model;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.InputLocation;
 import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.ModelProblemCollector;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class DefaultDependencyManagementImporterTest {
+    @Test
+    void testImportManagementIsMemoizedPerImportList() {
+        SessionData data = mock(SessionData.class);
+        when(data.computeIfAbsent(any(), any())).thenReturn(new ConcurrentHashMap<>());
+        Session session = mock(Session.class);
+        when(session.getData()).thenReturn(data);
+        ModelBuilderRequest request = mock(ModelBuilderRequest.class);
+        when(request.getSession()).thenReturn(session);
+
+        DependencyManagement bom1 = DependencyManagement.newBuilder()
+                .dependencies(List.of(dependency("a", "1"), dependency("b", "1")))
+                .build();
+        DependencyManagement bom2 = DependencyManagement.newBuilder()
+                .dependencies(List.of(dependency("b", "2"), dependency("c", "1")))
+                .build();
+        Model direct = Model.newBuilder()
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("b", "3")))
+                        .build())
+                .build();
+        Model plain = Model.newBuilder().build();
+
+        DefaultDependencyManagementImporter importer = new DefaultDependencyManagementImporter();
+        ModelProblemCollector problems = mock(ModelProblemCollector.class);
+
+        Model m1 = importer.importManagement(plain, List.of(bom1, bom2), request, problems);
+        Model m2 = importer.importManagement(plain, List.of(bom1, bom2), request, problems);
+        assertThat(m1.getDependencyManagement().getDependencies())
+                .extracting(Dependency::getArtifactId, Dependency::getVersion)
+                .containsExactly(tuple("a", "1"), tuple("b", "1"), tuple("c", "1"));
+        assertThat(m2.getDependencyManagement().getDependencies())
+                .containsExactlyElementsOf(m1.getDependencyManagement().getDependencies());
+        // the conflict on b is reported for each importing model
+        verify(problems, times(2)).add(any(), any(), anyString());
+
+        // a direct declaration wins without any warning
+        ModelProblemCollector directProblems = mock(ModelProblemCollector.class);
+        Model m3 = importer.importManagement(direct, List.of(bom1, bom2), request, directProblems);
+        assertThat(m3.getDependencyManagement().getDependencies())
+                .extracting(Dependency::getArtifactId, Dependency::getVersion)
+                .containsExactly(tuple("b", "3"), tuple("a", "1"), tuple("c", "1"));
+        verify(directProblems, never()).add(any(), any(), anyString());
+
+        // the merge is skipped for a repeated list of imports, and only for the same list
+        DefaultDependencyManagementImporter.ImportedManagement merged =
+                importer.getImportedManagement(List.of(bom1, bom2), request);
+        assertThat(importer.getImportedManagement(List.of(bom1, bom2), request)).isSameAs(merged);
+        assertThat(importer.getImportedManagement(List.of(bom2, bom1), request)).isNotSameAs(merged);
+    }
+
+    private static Dependency dependency(String artifactId, String version) {
+        return Dependency.newBuilder()
+                .groupId("g")
+                .artifactId(artifactId)
+                .version(version)
+                .build();
+    }
+
     @Test
     void testUpdateWithImportedFrom_dependencyLocationAndBomLocationAreNull_dependencyReturned() {
         final Dependency dependency = Dependency.newBuilder().build();
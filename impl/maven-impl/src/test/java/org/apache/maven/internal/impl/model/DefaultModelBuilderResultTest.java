@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.util.List;
+
+import org.apache.maven.api.services.ModelProblem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DefaultModelBuilderResultTest {
+
+    private static ModelProblem problem(String message) {
+        return new DefaultModelProblem(
+                message, ModelProblem.Severity.WARNING, ModelProblem.Version.BASE, "pom.xml", -1, -1, "g:a", null);
+    }
+
+    @Test
+    void testOwnProblems() {
+        DefaultModelBuilderResult root = new DefaultModelBuilderResult();
+        DefaultModelBuilderResult child = new DefaultModelBuilderResult(root);
+        root.addChild(child);
+        DefaultModelBuilderResult grandChild = new DefaultModelBuilderResult(child);
+        child.addChild(grandChild);
+
+        ModelProblem rootProblem = problem("root");
+        ModelProblem childProblem = problem("child");
+        ModelProblem grandChildProblem = problem("grand child");
+        root.addProblem(rootProblem);
+        child.addProblem(childProblem);
+        grandChild.addProblem(grandChildProblem);
+
+        assertEquals(List.of(rootProblem, childProblem, grandChildProblem), root.getProblems());
+        assertEquals(List.of(rootProblem), root.getOwnProblems());
+        assertEquals(List.of(childProblem, grandChildProblem), child.getProblems());
+        assertEquals(List.of(childProblem), child.getOwnProblems());
+        assertEquals(List.of(grandChildProblem), grandChild.getOwnProblems());
+
+        // problems of the children collected again into the root are not its own
+        child.getProblems().forEach(root::addProblem);
+        assertEquals(List.of(rootProblem), root.getOwnProblems());
+    }
+
+    @Test
+    void testProblemsOfDerivedResultsAreOwnProblems() {
+        DefaultModelBuilderResult result = new DefaultModelBuilderResult();
+        DefaultModelBuilderResult parent = new DefaultModelBuilderResult(result);
+
+        ModelProblem parentProblem = problem("parent");
+        parent.addProblem(parentProblem);
+
+        assertEquals(List.of(parentProblem), result.getProblems());
+        assertEquals(List.of(parentProblem), result.getOwnProblems());
+    }
+}
@@ -18,20 +18,40 @@
  */
 package org.apache.maven.internal.impl.model;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
 import org.apache.maven.api.services.ModelBuilder;
+import org.apache.maven.api.services.ModelBuilderException;
 import org.apache.maven.api.services.ModelBuilderRequest;
 import org.apache.maven.api.services.ModelBuilderResult;
+import org.apache.maven.api.services.ModelProblem;
 import org.apache.maven.api.services.ModelSource;
+import org.apache.maven.api.services.model.ModelCache;
 import org.apache.maven.internal.impl.standalone.ApiRunner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  *
@@ -60,6 +80,276 @@ public void testPropertiesAndProfiles() {
         assertEquals("21", result.getEffectiveModel().getProperties().get("maven.compiler.release"));
     }
 
+    @Test
+    public void testDependencyMetadataOnly() {
+        ModelBuilderRequest request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY)
+                .dependencyMetadataOnly(true)
+                .source(ModelSource.fromPath(getPom("dependency-metadata")))
+                .build();
+        Model model = builder.newSession().build(request).getEffectiveModel();
+        assertEquals(2, model.getDependencies().size());
+        assertEquals("Apache-2.0", model.getLicenses().get(0).getName());
+        assertEquals(
+                "relocated", model.getDistributionManagement().getRelocation().getArtifactId());
+        assertNull(model.getDistributionManagement().getRepository());
+        assertTrue(model.getBuild() == null
+                || model.getBuild().getPlugins().stream()
+                        .map(Plugin::getArtifactId)
+                        .noneMatch(a -> a.equals("maven-compiler-plugin") || a.equals("maven-jar-plugin")));
+
+        // the incomplete models must not be reused for a complete request
+        Model full = builder.newSession()
+                .build(ModelBuilderRequest.builder(request)
+                        .dependencyMetadataOnly(false)
+                        .build())
+                .getEffectiveModel();
+        assertEquals(2, full.getDependencies().size());
+        assertNotNull(full.getDistributionManagement().getRepository());
+        assertTrue(full.getBuild().getPlugins().stream()
+                .map(Plugin::getArtifactId)
+                .anyMatch(a -> a.equals("maven-jar-plugin")));
+    }
+
+    @Test
+    public void testRetainedModels(@TempDir Path dir) throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        Path pom = dir.resolve("pom.xml");
+        Files.writeString(pom, pom("1"));
+        FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(pom, lastModified);
+        ModelBuilderRequest request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(ModelSource.fromPath(pom))
+                .userProperties(Map.of(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS, "true"))
+                .build();
+
+        Model first = builder.newSession().build(request).getFileModel();
+        // a later session reuses the model parsed from the unchanged POM
+        session.getData().get(SessionData.key(ModelCache.class)).clear();
+        Model second = builder.newSession().build(request).getFileModel();
+        assertSame(first.getLocation("").getSource(), second.getLocation("").getSource());
+
+        Files.writeString(pom, pom("22"));
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(lastModified.toMillis() + 2000));
+        session.getData().get(SessionData.key(ModelCache.class)).clear();
+        Model third = builder.newSession().build(request).getFileModel();
+        assertNotSame(first.getLocation("").getSource(), third.getLocation("").getSource());
+        assertEquals("22", third.getProperties().get("value"));
+    }
+
+    @Test
+    public void testRecentlyModifiedModelsAreNotRetained(@TempDir Path dir) throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        Path pom = dir.resolve("pom.xml");
+        Files.writeString(pom, pom("1"));
+        FileTime lastModified = Files.getLastModifiedTime(pom);
+        ModelBuilderRequest request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(ModelSource.fromPath(pom))
+                .userProperties(Map.of(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS, "true"))
+                .build();
+
+        assertEquals(
+                "1",
+                builder.newSession()
+                        .build(request)
+                        .getFileModel()
+                        .getProperties()
+                        .get("value"));
+
+        // a file system with a coarse resolution may keep the modification time and the size is the same
+        Files.writeString(pom, pom("2"));
+        Files.setLastModifiedTime(pom, lastModified);
+        session.getData().get(SessionData.key(ModelCache.class)).clear();
+        assertEquals(
+                "2",
+                builder.newSession()
+                        .build(request)
+                        .getFileModel()
+                        .getProperties()
+                        .get("value"));
+    }
+
+    @Test
+    public void testRetainedEffectiveModels(@TempDir Path dir) throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        writeAggregator(dir, null, "root", 1);
+        long lastModified = System.currentTimeMillis() - 60_000;
+        Path root = dir.resolve("pom.xml");
+        Path first = dir.resolve("root-0/pom.xml");
+        Path second = dir.resolve("root-1/pom.xml");
+        for (Path pom : List.of(root, first, second)) {
+            Files.setLastModifiedTime(pom, FileTime.fromMillis(lastModified));
+        }
+        ModelBuilderRequest.ModelBuilderRequestBuilder request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(ModelSource.fromPath(root))
+                .recursive(true)
+                .userProperties(Map.of(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS, "true"));
+
+        Map<String, Model> built = effectiveModels(request.build());
+        assertEquals(3, built.size());
+
+        // a later session reuses the effective models of the unchanged projects
+        Map<String, Model> reused = effectiveModels(request.build());
+        for (String artifactId : List.of("root", "root-0", "root-1")) {
+            assertSame(built.get(artifactId), reused.get(artifactId), artifactId);
+        }
+
+        // only the modified project is built again
+        Files.writeString(
+                first, Files.readString(first).replace("</project>", "<description>a</description></project>"));
+        Files.setLastModifiedTime(first, FileTime.fromMillis(lastModified));
+        Map<String, Model> modified = effectiveModels(request.build());
+        assertSame(built.get("root"), modified.get("root"));
+        assertNotSame(built.get("root-0"), modified.get("root-0"));
+        assertEquals("a", modified.get("root-0").getDescription());
+        assertSame(built.get("root-1"), modified.get("root-1"));
+
+        // the children are built again along with their parent
+        Files.writeString(root, Files.readString(root).replace(">inherited<", ">modified<"));
+        Files.setLastModifiedTime(root, FileTime.fromMillis(lastModified));
+        Map<String, Model> inherited = effectiveModels(request.build());
+        for (String artifactId : List.of("root", "root-0", "root-1")) {
+            assertNotSame(modified.get(artifactId), inherited.get(artifactId), artifactId);
+            assertEquals("modified", inherited.get(artifactId).getProperties().get("value"));
+        }
+
+        // as well as when the properties of the build change
+        Map<String, Model> properties = effectiveModels(request.userProperties(
+                        Map.of(Constants.MAVEN_MODEL_BUILDER_RETAIN_MODELS, "true", "value", "overridden"))
+                .build());
+        for (String artifactId : List.of("root", "root-0", "root-1")) {
+            assertNotSame(inherited.get(artifactId), properties.get(artifactId), artifactId);
+        }
+    }
+
+    private Map<String, Model> effectiveModels(ModelBuilderRequest request) {
+        ModelBuilderResult result = builder.newSession().build(request);
+        session.getData().get(SessionData.key(ModelCache.class)).clear();
+        return results(result)
+                .map(ModelBuilderResult::getEffectiveModel)
+                .collect(Collectors.toMap(Model::getArtifactId, model -> model));
+    }
+
+    @Test
+    public void testBrokenReactorProblemsAreDeterministic(@TempDir Path dir) throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            String module = "m" + i;
+            modules.append("<module>").append(module).append("</module>");
+            Path moduleDir = Files.createDirectory(dir.resolve(module));
+            String content;
+            if (i == 15) {
+                content = "<project><modelVersion>4.0.0</modelVersion><artifactId>" + module;
+            } else {
+                // the effective model of m0 is invalid, which must not be reported with a reactor failing to load
+                String dependencies = i == 0
+                        ? "<dependencies><dependency><groupId>org.example</groupId>"
+                                + "<artifactId>unversioned</artifactId></dependency></dependencies>"
+                        : "";
+                content = "<project><modelVersion>4.0.0</modelVersion>"
+                        + "<parent><groupId>org.example</groupId><artifactId>root</artifactId>"
+                        + "<version>1.0</version></parent>"
+                        + "<artifactId>" + module + "</artifactId>" + dependencies + "</project>";
+            }
+            Files.writeString(moduleDir.resolve("pom.xml"), content);
+        }
+        Path pom = dir.resolve("pom.xml");
+        Files.writeString(
+                pom,
+                "<project><modelVersion>4.0.0</modelVersion>"
+                        + "<groupId>org.example</groupId><artifactId>root</artifactId><version>1.0</version>"
+                        + "<packaging>pom</packaging><modules>" + modules + "</modules></project>");
+        ModelBuilderRequest request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(ModelSource.fromPath(pom))
+                .recursive(true)
+                .build();
+
+        List<String> reported = null;
+        for (int i = 0; i < 10; i++) {
+            ModelBuilderException e = assertThrows(
+                    ModelBuilderException.class, () -> builder.newSession().build(request));
+            session.getData().get(SessionData.key(ModelCache.class)).clear();
+            List<String> problems = e.getResult().getProblems().stream()
+                    .map(ModelProblem::getMessage)
+                    .toList();
+            assertFalse(problems.isEmpty());
+            assertTrue(problems.stream().noneMatch(m -> m.contains("unversioned")), problems::toString);
+            if (reported == null) {
+                reported = problems;
+            } else {
+                assertEquals(reported, problems);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiLevelReactorIsFullyBuilt(@TempDir Path dir) throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        writeAggregator(dir, null, "root", 3);
+        ModelBuilderRequest request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(ModelSource.fromPath(dir.resolve("pom.xml")))
+                .recursive(true)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            ModelBuilderResult result = builder.newSession().build(request);
+            session.getData().get(SessionData.key(ModelCache.class)).clear();
+
+            // the subprojects of each level are loaded by tasks submitted while loading the previous level
+            List<ModelBuilderResult> results = results(result).toList();
+            assertEquals(15, results.size());
+            for (ModelBuilderResult r : results) {
+                assertNotNull(r.getEffectiveModel(), r::toString);
+                assertEquals("inherited", r.getEffectiveModel().getProperties().get("value"));
+            }
+        }
+    }
+
+    private static void writeAggregator(Path dir, String parent, String artifactId, int depth) throws Exception {
+        StringBuilder pom = new StringBuilder("<project><modelVersion>4.0.0</modelVersion>");
+        if (parent != null) {
+            pom.append("<parent><groupId>org.example</groupId><artifactId>")
+                    .append(parent)
+                    .append("</artifactId><version>1.0</version></parent>");
+        } else {
+            pom.append("<groupId>org.example</groupId><version>1.0</version>")
+                    .append("<properties><value>inherited</value></properties>");
+        }
+        pom.append("<artifactId>").append(artifactId).append("</artifactId>");
+        if (depth > 0) {
+            pom.append("<packaging>pom</packaging><modules>");
+            for (int i = 0; i < 2; i++) {
+                String module = artifactId + "-" + i;
+                pom.append("<module>").append(module).append("</module>");
+                writeAggregator(Files.createDirectory(dir.resolve(module)), artifactId, module, depth - 1);
+            }
+            pom.append("</modules>");
+        }
+        Files.writeString(dir.resolve("pom.xml"), pom.append("</project>"));
+    }
+
+    private static Stream<ModelBuilderResult> results(ModelBuilderResult result) {
+        return Stream.concat(Stream.of(result), result.getChildren().stream().flatMap(r -> results(r)));
+    }
+
+    private static String pom(String value) {
+        return "<project><modelVersion>4.0.0</modelVersion>"
+                + "<groupId>org.example</groupId><artifactId>retained</artifactId><version>1.0</version>"
+                + "<properties><value>" + value + "</value></properties></project>";
+    }
+
     private Path getPom(String name) {
         return Paths.get("src/test/resources/poms/factory/" + name + ".xml").toAbsolutePath();
     }
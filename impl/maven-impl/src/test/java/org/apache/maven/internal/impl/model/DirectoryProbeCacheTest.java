@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.model.ModelProcessor;
+import org.apache.maven.api.services.model.RootLocator;
+import org.apache.maven.api.services.xml.XmlReaderRequest;
+import org.apache.maven.internal.impl.model.rootlocator.DefaultRootLocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DirectoryProbeCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testLocateExistingPom() throws Exception {
+        Path pom = Files.createFile(dir.resolve("pom.xml"));
+        Files.createDirectory(dir.resolve("empty"));
+        AtomicInteger probes = new AtomicInteger();
+        ModelProcessor processor = new ModelProcessor() {
+            @Override
+            public Path locateExistingPom(Path project) {
+                probes.incrementAndGet();
+                Path candidate = project.resolve("pom.xml");
+                return Files.isRegularFile(candidate) ? candidate : null;
+            }
+
+            @Override
+            public Model read(XmlReaderRequest request) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        DirectoryProbeCache cache = new DirectoryProbeCache();
+        assertEquals(pom, cache.locateExistingPom(processor, dir));
+        assertEquals(pom, cache.locateExistingPom(processor, dir));
+        assertNull(cache.locateExistingPom(processor, dir.resolve("empty")));
+        assertNull(cache.locateExistingPom(processor, dir.resolve("empty")));
+        assertEquals(2, probes.get());
+    }
+
+    @Test
+    void testFindRoot() throws Exception {
+        Files.createDirectory(dir.resolve(".mvn"));
+        Path module = Files.createDirectories(dir.resolve("module"));
+        AtomicInteger probes = new AtomicInteger();
+        RootLocator rootLocator = new DefaultRootLocator() {
+            @Override
+            protected boolean isRootDirectory(Path dir) {
+                probes.incrementAndGet();
+                return super.isRootDirectory(dir);
+            }
+        };
+
+        RootLocator cached = new DirectoryProbeCache().rootLocator(rootLocator);
+        assertEquals(dir, cached.findRoot(module));
+        assertEquals(dir, cached.findRoot(module));
+        assertEquals(dir, cached.findMandatoryRoot(module));
+        assertEquals(dir, cached.findMandatoryRoot(module));
+        assertEquals(4, probes.get());
+    }
+}
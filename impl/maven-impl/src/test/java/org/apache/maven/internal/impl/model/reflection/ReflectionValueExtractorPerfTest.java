@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.model.reflection;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the evaluation of the typical expressions of mojo parameters, such as {@code ${project.build.directory}},
+ * which are evaluated for each parameter of each mojo execution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReflectionValueExtractorPerfTest {
+
+    @State(Scope.Benchmark)
+    public static class ModelState {
+        final Model model = Model.newBuilder()
+                .groupId("org.apache.maven")
+                .artifactId("maven-core")
+                .version("4.0.0")
+                .build(Build.newBuilder()
+                        .directory("target")
+                        .outputDirectory("target/classes")
+                        .finalName("maven-core-4.0.0")
+                        .build())
+                .dependencies(List.of(Dependency.newBuilder()
+                        .groupId("org.apache.maven")
+                        .artifactId("maven-api-core")
+                        .build()))
+                .build();
+
+        final List<String> expressions = List.of(
+                "project.build.directory",
+                "project.build.outputDirectory",
+                "project.build.finalName",
+                "project.artifactId",
+                "project.dependencies[0].artifactId",
+                "project.properties(missing)");
+    }
+
+    @Benchmark
+    public void evaluate(ModelState state, Blackhole blackhole) throws IntrospectionException {
+        for (String expression : state.expressions) {
+            blackhole.consume(ReflectionValueExtractor.evaluate(expression, state.model));
+        }
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ReflectionValueExtractorPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
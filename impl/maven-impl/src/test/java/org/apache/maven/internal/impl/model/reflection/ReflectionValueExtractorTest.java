@@ -347,6 +347,22 @@ public void testArtifactMap() throws Exception {
                         .getClassifier());
     }
 
+    /**
+     * <p>testCompiledExpressionWithOtherRootTypes.</p>
+     *
+     * @throws Exception if any.
+     */
+    @Test
+    public void testCompiledExpressionWithOtherRootTypes() throws Exception {
+        assertEquals("maven-core", ReflectionValueExtractor.evaluate("project.artifactId", project));
+        // the same compiled expression walks objects of a different class
+        assertEquals(
+                "a0",
+                ReflectionValueExtractor.evaluate("project.artifactId", new Artifact("g0", "a0", "v0", "e0", "c0")));
+        assertNull(ReflectionValueExtractor.evaluate("project.artifactId", new Scm()));
+        assertEquals("maven-core", ReflectionValueExtractor.evaluate("project.artifactId", project));
+    }
+
     public static class Artifact {
         private String groupId;
 
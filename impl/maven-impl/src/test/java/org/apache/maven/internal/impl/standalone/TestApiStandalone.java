@@ -20,6 +20,9 @@
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.maven.api.ArtifactCoordinates;
 import org.apache.maven.api.DownloadedArtifact;
@@ -59,6 +62,14 @@ void testStandalone() {
         assertNotNull(res.getPath());
         assertTrue(Files.exists(res.getPath()));
 
+        List<DownloadedArtifact> consumed = new CopyOnWriteArrayList<>();
+        Collection<DownloadedArtifact> async = session.resolveArtifactsAsync(List.of(coords), consumed::add)
+                .toCompletableFuture()
+                .join();
+        assertEquals(List.of(res), List.copyOf(async));
+        assertEquals(List.of(res), consumed);
+        assertEquals(res.getPath(), consumed.get(0).getPath());
+
         Node node = session.collectDependencies(session.createDependencyCoordinates(coords), PathScope.MAIN_RUNTIME);
         assertNotNull(node);
         assertEquals(6, node.getChildren().size());
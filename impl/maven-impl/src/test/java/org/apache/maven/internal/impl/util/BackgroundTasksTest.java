@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackgroundTasksTest {
+
+    @Test
+    void testResultAndContextClassLoader() throws Exception {
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader cl = new URLClassLoader(new URL[0], old)) {
+            Thread.currentThread().setContextClassLoader(cl);
+            assertSame(cl, BackgroundTasks.join(BackgroundTasks.submit("test", () -> Thread.currentThread()
+                    .getContextClassLoader())));
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+        assertEquals("result", BackgroundTasks.join(BackgroundTasks.submit("test", () -> "result")));
+    }
+
+    @Test
+    void testFailureIsRethrown() {
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class,
+                () -> BackgroundTasks.join(BackgroundTasks.submit("test", () -> {
+                    throw new IllegalStateException("failed");
+                })));
+        assertEquals("failed", e.getMessage());
+    }
+
+    @Test
+    void testThreadsAreBounded() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            int n = i;
+            futures.add(BackgroundTasks.submit("test", () -> {
+                threads.add(Thread.currentThread());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return n;
+            }));
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals(i, BackgroundTasks.join(futures.get(i)));
+        }
+        assertTrue(threads.size() <= 4, threads::toString);
+        threads.forEach(t -> assertTrue(t.isDaemon()));
+    }
+
+    @Test
+    void testNestedTasks() {
+        // more nested tasks than threads, each waiting for its own subtask
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(BackgroundTasks.submit(
+                    "outer", () -> BackgroundTasks.join(BackgroundTasks.submit("inner", () -> "nested"))));
+        }
+        futures.forEach(f -> assertEquals("nested", BackgroundTasks.join(f)));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DenseInternerTest {
+
+    @Test
+    void testInterning() {
+        DenseInterner<String> interner = new DenseInterner<>();
+        String a = "g:a:jar:1.0";
+        assertEquals(0, interner.intern(a));
+        assertEquals(1, interner.intern("g:b:jar:1.0"));
+        assertEquals(0, interner.intern(new String(a)));
+        assertSame(a, interner.get(0));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void testCanonicalInstance() {
+        DenseInterner<String> interner = new DenseInterner<>();
+        String canonical = "g:a:jar:1.0";
+        String lookup = new String(canonical);
+        assertEquals(0, interner.intern(lookup, v -> canonical));
+        assertSame(canonical, interner.get(0));
+        assertSame(canonical, interner.canonicalize(new String(canonical)));
+        // the function is only applied to unknown values
+        assertEquals(0, interner.intern(lookup, v -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    void testGrowth() {
+        DenseInterner<String> interner = new DenseInterner<>();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, interner.intern("key" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("key" + i, interner.get(i));
+        }
+    }
+
+    @Test
+    void testConcurrentCallersGetTheSameIds() throws Exception {
+        DenseInterner<String> interner = new DenseInterner<>();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Integer>>> futures = IntStream.range(0, threads)
+                    .mapToObj(t -> executor.submit(() -> {
+                        start.await();
+                        return IntStream.range(0, 1000)
+                                .mapToObj(i -> interner.intern("key" + i))
+                                .toList();
+                    }))
+                    .toList();
+            start.countDown();
+            List<Integer> expected = futures.get(0).get();
+            for (Future<List<Integer>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+            assertEquals(1000, interner.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("key" + i, interner.get(expected.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the session wrapper caches when looked up concurrently, comparing the
+ * {@link WeakInterner} with the synchronized {@link WeakHashMap} it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+public class WeakInternerPerfTest {
+
+    /**
+     * The wrappers, holding their key as the session wrappers do.
+     */
+    record Wrapper(Artifact artifact) {}
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+        List<Artifact> artifacts;
+        List<Wrapper> retained;
+        Map<Artifact, Wrapper> synchronizedMap;
+        WeakInterner<Artifact, Wrapper> interner;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            artifacts = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                artifacts.add(new DefaultArtifact("org.apache.maven", "artifact-" + i, "jar", "1." + i));
+            }
+            synchronizedMap = Collections.synchronizedMap(new WeakHashMap<>());
+            interner = new WeakInterner<>();
+            // keep the wrappers reachable, as the callers of the session do
+            retained = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                retained.add(synchronizedMap.computeIfAbsent(artifact, Wrapper::new));
+                retained.add(interner.computeIfAbsent(artifact, Wrapper::new));
+            }
+        }
+    }
+
+    @Benchmark
+    public Wrapper synchronizedWeakHashMap(CacheState state) {
+        Artifact artifact = state.artifacts.get(ThreadLocalRandom.current().nextInt(state.artifacts.size()));
+        return state.synchronizedMap.computeIfAbsent(artifact, Wrapper::new);
+    }
+
+    @Benchmark
+    public Wrapper weakInterner(CacheState state) {
+        Artifact artifact = state.artifacts.get(ThreadLocalRandom.current().nextInt(state.artifacts.size()));
+        return state.interner.computeIfAbsent(artifact, Wrapper::new);
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(WeakInternerPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.impl.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WeakInternerTest {
+
+    /**
+     * A wrapper holding its key, as the session wrappers do.
+     */
+    record Wrapper(String key) {}
+
+    @Test
+    void testInterning() {
+        WeakInterner<String, Wrapper> interner = new WeakInterner<>();
+        Wrapper first = interner.computeIfAbsent("a", Wrapper::new);
+        assertSame(first, interner.computeIfAbsent(new String("a"), Wrapper::new));
+        assertNotSame(first, interner.computeIfAbsent("b", Wrapper::new));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void testCollectedValuesAreExpunged() throws Exception {
+        WeakInterner<String, Wrapper> interner = new WeakInterner<>();
+        for (int i = 0; i < 1000; i++) {
+            interner.computeIfAbsent("key" + i, Wrapper::new);
+        }
+        // the values only reference their key, so the entries can be collected
+        for (int i = 0; i < 50 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    void testConcurrentCallersGetTheSameValue() throws Exception {
+        WeakInterner<Integer, Wrapper> interner = new WeakInterner<>();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Wrapper>>> futures = IntStream.range(0, threads)
+                    .mapToObj(t -> executor.submit(() -> {
+                        start.await();
+                        return IntStream.range(0, 1000)
+                                .mapToObj(i -> interner.computeIfAbsent(i, k -> new Wrapper("v" + k)))
+                                .toList();
+                    }))
+                    .toList();
+            start.countDown();
+            List<Wrapper> expected = futures.get(0).get();
+            for (Future<List<Wrapper>> future : futures) {
+                List<Wrapper> values = future.get();
+                for (int i = 0; i < values.size(); i++) {
+                    assertSame(expected.get(i), values.get(i));
+                }
+            }
+            assertEquals(1000, interner.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}